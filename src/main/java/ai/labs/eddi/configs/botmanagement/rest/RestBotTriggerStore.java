@@ -5,6 +5,7 @@ import ai.labs.eddi.configs.botmanagement.IRestBotTriggerStore;
 import ai.labs.eddi.datastore.IResourceStore;
 import ai.labs.eddi.engine.caching.ICache;
 import ai.labs.eddi.engine.caching.ICacheFactory;
+import ai.labs.eddi.engine.caching.ICacheInvalidationBus;
 import ai.labs.eddi.models.BotTriggerConfiguration;
 import org.jboss.logging.Logger;
 
@@ -24,13 +25,16 @@ public class RestBotTriggerStore implements IRestBotTriggerStore {
     private static final String CACHE_NAME = "botTriggers";
     private final IBotTriggerStore botTriggerStore;
     private final ICache<String, BotTriggerConfiguration> botTriggersCache;
+    private final ICacheInvalidationBus cacheInvalidationBus;
 
     private static final Logger log = Logger.getLogger(RestBotTriggerStore.class);
 
     @Inject
     public RestBotTriggerStore(IBotTriggerStore botTriggerStore,
-                               ICacheFactory cacheFactory) {
+                               ICacheFactory cacheFactory,
+                               ICacheInvalidationBus cacheInvalidationBus) {
         this.botTriggerStore = botTriggerStore;
+        this.cacheInvalidationBus = cacheInvalidationBus;
         botTriggersCache = cacheFactory.getCache(CACHE_NAME);
     }
 
@@ -57,6 +61,7 @@ public class RestBotTriggerStore implements IRestBotTriggerStore {
         try {
             botTriggerStore.updateBotTrigger(intent, botTriggerConfiguration);
             botTriggersCache.put(intent, botTriggerConfiguration);
+            cacheInvalidationBus.publishInvalidation(CACHE_NAME, intent);
             return Response.ok().build();
         } catch (IResourceStore.ResourceNotFoundException e) {
             throw new NotFoundException(e.getLocalizedMessage());
@@ -71,6 +76,7 @@ public class RestBotTriggerStore implements IRestBotTriggerStore {
         try {
             botTriggerStore.createBotTrigger(botTriggerConfiguration);
             botTriggersCache.put(botTriggerConfiguration.getIntent(), botTriggerConfiguration);
+            cacheInvalidationBus.publishInvalidation(CACHE_NAME, botTriggerConfiguration.getIntent());
             return Response.ok().build();
         } catch (IResourceStore.ResourceAlreadyExistsException e) {
             throw new WebApplicationException(e.getLocalizedMessage(), Response.Status.CONFLICT);
@@ -85,6 +91,7 @@ public class RestBotTriggerStore implements IRestBotTriggerStore {
         try {
             botTriggerStore.deleteBotTrigger(intent);
             botTriggersCache.remove(intent);
+            cacheInvalidationBus.publishInvalidation(CACHE_NAME, intent);
             return Response.ok().build();
         } catch (IResourceStore.ResourceStoreException e) {
             log.error(e.getLocalizedMessage(), e);
@@ -5,6 +5,7 @@ import ai.labs.eddi.configs.botmanagement.IUserConversationStore;
 import ai.labs.eddi.datastore.IResourceStore;
 import ai.labs.eddi.engine.caching.ICache;
 import ai.labs.eddi.engine.caching.ICacheFactory;
+import ai.labs.eddi.engine.caching.ICacheInvalidationBus;
 import ai.labs.eddi.models.UserConversation;
 import org.jboss.logging.Logger;
 
@@ -24,13 +25,16 @@ public class RestUserConversationStore implements IRestUserConversationStore {
     private static final String CACHE_NAME = "userConversations";
     private final IUserConversationStore userConversationStore;
     private final ICache<String, UserConversation> userConversationCache;
+    private final ICacheInvalidationBus cacheInvalidationBus;
 
     private static final Logger log = Logger.getLogger(RestUserConversationStore.class);
 
     @Inject
     public RestUserConversationStore(IUserConversationStore userConversationStore,
-                                     ICacheFactory cacheFactory) {
+                                     ICacheFactory cacheFactory,
+                                     ICacheInvalidationBus cacheInvalidationBus) {
         this.userConversationStore = userConversationStore;
+        this.cacheInvalidationBus = cacheInvalidationBus;
         userConversationCache = cacheFactory.getCache(CACHE_NAME);
     }
 
@@ -64,7 +68,9 @@ public class RestUserConversationStore implements IRestUserConversationStore {
     public Response createUserConversation(String intent, String userId, UserConversation userConversation) {
         try {
             userConversationStore.createUserConversation(userConversation);
-            userConversationCache.put(calculateCacheKey(intent, userId), userConversation);
+            String cacheKey = calculateCacheKey(intent, userId);
+            userConversationCache.put(cacheKey, userConversation);
+            cacheInvalidationBus.publishInvalidation(CACHE_NAME, cacheKey);
             return Response.ok().build();
         } catch (IResourceStore.ResourceAlreadyExistsException e) {
             throw new WebApplicationException(e.getLocalizedMessage(), Response.Status.CONFLICT);
@@ -78,7 +84,9 @@ public class RestUserConversationStore implements IRestUserConversationStore {
     public Response deleteUserConversation(String intent, String userId) {
         try {
             userConversationStore.deleteUserConversation(intent, userId);
-            userConversationCache.remove(calculateCacheKey(intent, userId));
+            String cacheKey = calculateCacheKey(intent, userId);
+            userConversationCache.remove(cacheKey);
+            cacheInvalidationBus.publishInvalidation(CACHE_NAME, cacheKey);
             return Response.ok().build();
         } catch (IResourceStore.ResourceStoreException e) {
             log.error(e.getLocalizedMessage(), e);
@@ -12,10 +12,12 @@ import jakarta.inject.Inject;
 public class CacheFactory implements ICacheFactory {
     @Getter
     private final CaffeineEmbeddedCacheManager cacheManager;
+    private final ICacheInvalidationBus cacheInvalidationBus;
 
     @Inject
-    public CacheFactory(CaffeineEmbeddedCacheManager cacheManager) {
+    public CacheFactory(CaffeineEmbeddedCacheManager cacheManager, ICacheInvalidationBus cacheInvalidationBus) {
         this.cacheManager = cacheManager;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     @Override
@@ -27,7 +29,9 @@ public class CacheFactory implements ICacheFactory {
             cache = this.cacheManager.getCache();
         }
 
-        return new CaffeineCache<>(cacheName, cache);
+        var caffeineCache = new CaffeineCache<K, V>(cacheName, cache);
+        cacheInvalidationBus.register(caffeineCache);
+        return caffeineCache;
     }
 }
 
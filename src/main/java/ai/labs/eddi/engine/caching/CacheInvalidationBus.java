@@ -0,0 +1,70 @@
+package ai.labs.eddi.engine.caching;
+
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the local caches of all nodes in sync by applying invalidation events published by other nodes.
+ *
+ * @author ginccc
+ */
+@ApplicationScoped
+public class CacheInvalidationBus implements ICacheInvalidationBus {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<ICache<?, ?>>> caches = new ConcurrentHashMap<>();
+    private final ICacheInvalidationTransport transport;
+
+    private static final Logger log = Logger.getLogger(CacheInvalidationBus.class);
+
+    @Inject
+    public CacheInvalidationBus(ICacheInvalidationTransport transport) {
+        this.transport = transport;
+        this.transport.subscribe(this::applyInvalidation);
+    }
+
+    @Override
+    public void register(ICache<?, ?> cache) {
+        caches.computeIfAbsent(cache.getCacheName(), cacheName -> new CopyOnWriteArrayList<>()).add(cache);
+    }
+
+    @Override
+    public void publishInvalidation(String cacheName, String key) {
+        try {
+            transport.publish(new CacheInvalidationEvent(nodeId, cacheName, key));
+        } catch (RuntimeException e) {
+            // other nodes will pick up the change once their cache entry expires
+            log.error(String.format("Could not publish cache invalidation (cache=%s, key=%s)", cacheName, key), e);
+        }
+    }
+
+    void applyInvalidation(CacheInvalidationEvent event) {
+        if (nodeId.equals(event.getOriginNodeId())) {
+            // the publishing node has already updated its own cache
+            return;
+        }
+
+        var namedCaches = caches.get(event.getCacheName());
+        if (namedCaches == null) {
+            return;
+        }
+
+        for (ICache<?, ?> cache : namedCaches) {
+            if (event.getKey() == null) {
+                cache.clear();
+            } else {
+                cache.remove(event.getKey());
+            }
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+}
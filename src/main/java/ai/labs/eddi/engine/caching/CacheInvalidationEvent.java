@@ -0,0 +1,26 @@
+package ai.labs.eddi.engine.caching;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * @author ginccc
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+public class CacheInvalidationEvent {
+    private String originNodeId;
+    private String cacheName;
+    /**
+     * key to be invalidated, null invalidates the whole cache
+     */
+    private String key;
+}
@@ -0,0 +1,20 @@
+package ai.labs.eddi.engine.caching;
+
+/**
+ * @author ginccc
+ */
+public interface ICacheInvalidationBus {
+    /**
+     * @param cache local cache, which will be invalidated whenever another node publishes an invalidation
+     *              for a cache with the same name
+     */
+    void register(ICache<?, ?> cache);
+
+    /**
+     * Informs all other nodes that the cached value of the given key is stale.
+     *
+     * @param cacheName name of the cache
+     * @param key       key to be invalidated, null invalidates the whole cache
+     */
+    void publishInvalidation(String cacheName, String key);
+}
@@ -0,0 +1,14 @@
+package ai.labs.eddi.engine.caching;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers cache invalidation events to all nodes of a cluster (including the publishing node).
+ *
+ * @author ginccc
+ */
+public interface ICacheInvalidationTransport {
+    void publish(CacheInvalidationEvent event);
+
+    void subscribe(Consumer<CacheInvalidationEvent> listener);
+}
@@ -0,0 +1,24 @@
+package ai.labs.eddi.engine.caching;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transport for a single JVM, delivers events synchronously to all subscribers.
+ *
+ * @author ginccc
+ */
+public class InMemoryCacheInvalidationTransport implements ICacheInvalidationTransport {
+    private final List<Consumer<CacheInvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+}
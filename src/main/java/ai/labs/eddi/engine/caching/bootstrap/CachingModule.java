@@ -1,7 +1,12 @@
 package ai.labs.eddi.engine.caching.bootstrap;
 
+import ai.labs.eddi.engine.caching.ICacheInvalidationTransport;
+import ai.labs.eddi.engine.caching.InMemoryCacheInvalidationTransport;
+import ai.labs.eddi.engine.caching.mongo.MongoCacheInvalidationTransport;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.Produces;
@@ -17,6 +22,18 @@ public class CachingModule {
     CaffeineEmbeddedCacheManager provideEmbeddedCacheManager() {
         return new CaffeineEmbeddedCacheManager();
     }
+
+    @Produces
+    @ApplicationScoped
+    ICacheInvalidationTransport provideCacheInvalidationTransport(
+            @ConfigProperty(name = "eddi.cache.invalidation.enabled") boolean crossNodeInvalidationEnabled,
+            MongoDatabase database) {
+
+        // without cross node invalidation, events never leave this node
+        return crossNodeInvalidationEnabled ?
+                new MongoCacheInvalidationTransport(database) :
+                new InMemoryCacheInvalidationTransport();
+    }
     
     // Wrapper class per simulare EmbeddedCacheManager con Caffeine
     public static class CaffeineEmbeddedCacheManager {
@@ -0,0 +1,148 @@
+package ai.labs.eddi.engine.caching.mongo;
+
+import ai.labs.eddi.engine.caching.CacheInvalidationEvent;
+import ai.labs.eddi.engine.caching.ICacheInvalidationTransport;
+import ai.labs.eddi.utils.RuntimeUtilities;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.CursorType;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.reactivex.rxjava3.core.Observable;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Transports cache invalidation events through a capped collection, which is followed by all nodes
+ * with a tailable cursor.
+ * <p>
+ * Documents are stamped with the publishing node's clock, which is neither in sync between nodes nor in line
+ * with the insertion order. Whenever the cursor has to be reopened, tailing therefore starts again
+ * {@link #RETAIL_OVERLAP_IN_MILLIS} before the latest event seen so far and documents that have already been
+ * delivered are skipped by their id. Clocks of all nodes must not be further apart than this overlap.
+ *
+ * @author ginccc
+ */
+public class MongoCacheInvalidationTransport implements ICacheInvalidationTransport {
+    private static final String COLLECTION_CACHE_INVALIDATIONS = "cacheinvalidations";
+    private static final long CAPPED_COLLECTION_SIZE_IN_BYTES = 4 * 1024 * 1024;
+    private static final int ERROR_CODE_NAMESPACE_EXISTS = 48;
+    private static final long RETAIL_DELAY_IN_MILLIS = 1000;
+    private static final long RETAIL_OVERLAP_IN_MILLIS = TimeUnit.SECONDS.toMillis(60);
+    private static final long DELIVERED_IDS_RETENTION_IN_MILLIS = 5 * RETAIL_OVERLAP_IN_MILLIS;
+    private static final long DELIVERED_IDS_MAXIMUM_SIZE = 100_000;
+    private static final String ID_FIELD = "_id";
+    private static final String ORIGIN_NODE_ID_FIELD = "originNodeId";
+    private static final String CACHE_NAME_FIELD = "cacheName";
+    private static final String KEY_FIELD = "key";
+    private static final String PUBLISHED_AT_FIELD = "publishedAt";
+
+    private final MongoCollection<Document> collection;
+    private final List<Consumer<CacheInvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+    // only events published around the start of this node are of interest
+    private final AtomicLong latestPublishedAt = new AtomicLong(System.currentTimeMillis());
+    private final Cache<ObjectId, Boolean> deliveredIds = Caffeine.newBuilder().
+            expireAfterWrite(DELIVERED_IDS_RETENTION_IN_MILLIS, TimeUnit.MILLISECONDS).
+            maximumSize(DELIVERED_IDS_MAXIMUM_SIZE).
+            build();
+    private final ScheduledExecutorService retailScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-tail");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger log = Logger.getLogger(MongoCacheInvalidationTransport.class);
+
+    public MongoCacheInvalidationTransport(MongoDatabase database) {
+        RuntimeUtilities.checkNotNull(database, "database");
+        createCappedCollectionIfAbsent(database);
+        this.collection = database.getCollection(COLLECTION_CACHE_INVALIDATIONS);
+        tail();
+    }
+
+    private static void createCappedCollectionIfAbsent(MongoDatabase database) {
+        try {
+            Observable.fromPublisher(database.createCollection(COLLECTION_CACHE_INVALIDATIONS,
+                    new CreateCollectionOptions().capped(true).sizeInBytes(CAPPED_COLLECTION_SIZE_IN_BYTES))).
+                    blockingSubscribe();
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != ERROR_CODE_NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        Document document = new Document();
+        document.put(ORIGIN_NODE_ID_FIELD, event.getOriginNodeId());
+        document.put(CACHE_NAME_FIELD, event.getCacheName());
+        document.put(KEY_FIELD, event.getKey());
+        document.put(PUBLISHED_AT_FIELD, System.currentTimeMillis());
+        // the writing request does not wait for its invalidation to be stored
+        Observable.fromPublisher(collection.insertOne(document)).
+                subscribe(insertOneResult -> log.debugf("Published cache invalidation (cache=%s, key=%s)",
+                                event.getCacheName(), event.getKey()),
+                        error -> log.errorf(error, "Publishing cache invalidation failed (cache=%s, key=%s)",
+                                event.getCacheName(), event.getKey()));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    void tail() {
+        long tailFrom = latestPublishedAt.get() - RETAIL_OVERLAP_IN_MILLIS;
+        Observable.fromPublisher(collection.find(Filters.gte(PUBLISHED_AT_FIELD, tailFrom)).
+                        cursorType(CursorType.TailableAwait)).
+                subscribe(this::deliver,
+                        error -> {
+                            log.warn("Tailing cache invalidations failed, retrying...", error);
+                            scheduleTail();
+                        },
+                        // a tailable cursor dies if the collection has been empty, so we follow up again
+                        this::scheduleTail);
+    }
+
+    private void scheduleTail() {
+        retailScheduler.schedule(this::tail, RETAIL_DELAY_IN_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    void deliver(Document document) {
+        if (deliveredIds.asMap().putIfAbsent(document.getObjectId(ID_FIELD), Boolean.TRUE) != null) {
+            // already seen before the cursor has been reopened
+            return;
+        }
+
+        Long publishedAt = document.getLong(PUBLISHED_AT_FIELD);
+        if (publishedAt != null) {
+            latestPublishedAt.accumulateAndGet(publishedAt, Math::max);
+        }
+
+        var event = new CacheInvalidationEvent(
+                document.getString(ORIGIN_NODE_ID_FIELD),
+                document.getString(CACHE_NAME_FIELD),
+                document.getString(KEY_FIELD));
+
+        for (Consumer<CacheInvalidationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import ai.labs.eddi.datastore.IResourceStore.ResourceStoreException;
 import ai.labs.eddi.engine.IRestBotEngine;
 import ai.labs.eddi.engine.caching.ICache;
 import ai.labs.eddi.engine.caching.ICacheFactory;
+import ai.labs.eddi.engine.caching.ICacheInvalidationBus;
 import ai.labs.eddi.engine.lifecycle.IConversation;
 import ai.labs.eddi.engine.lifecycle.exceptions.LifecycleException;
 import ai.labs.eddi.engine.memory.IConversationMemory;
@@ -67,6 +68,7 @@ public class RestBotEngine implements IRestBotEngine {
     private final int botTimeout;
     private final IConversationSetup conversationSetup;
     private final ICache<String, ConversationState> conversationStateCache;
+    private final ICacheInvalidationBus cacheInvalidationBus;
     private final Timer timerConversationStart;
     private final Timer timerConversationRead;
     private final Timer timerConversationSay;
@@ -82,6 +84,7 @@ public class RestBotEngine implements IRestBotEngine {
                          IConversationCoordinator conversationCoordinator,
                          IConversationSetup conversationSetup,
                          ICacheFactory cacheFactory,
+                         ICacheInvalidationBus cacheInvalidationBus,
                          IRuntime runtime,
                          IContextLogger contextLogger,
                          MeterRegistry meterRegistry,
@@ -94,6 +97,7 @@ public class RestBotEngine implements IRestBotEngine {
         this.conversationCoordinator = conversationCoordinator;
         this.conversationSetup = conversationSetup;
         this.conversationStateCache = cacheFactory.getCache(CACHE_NAME_CONVERSATION_STATE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
         this.runtime = runtime;
         this.contextLogger = contextLogger;
         this.botTimeout = botTimeout;
@@ -366,6 +370,7 @@ public class RestBotEngine implements IRestBotEngine {
                                         returnCurrentStepOnly,
                                         returningFields);
                         memorySnapshot.setEnvironment(environment);
+                        // other nodes are only told once the memory has been stored, see onComplete
                         cacheConversationState(conversationId, memorySnapshot.getConversationState());
                         conversationDescriptorStore.updateTimeStamp(conversationId);
                         response.resume(memorySnapshot);
@@ -443,6 +448,7 @@ public class RestBotEngine implements IRestBotEngine {
                                 public void onComplete(Void result) {
                                     try {
                                         storeConversationMemory(conversationMemory, environment);
+                                        publishConversationStateInvalidation(conversationId);
                                     } catch (ResourceStoreException e) {
                                         logConversationError(loggingContext, conversationId, e);
                                     }
@@ -613,10 +619,24 @@ public class RestBotEngine implements IRestBotEngine {
     private void setConversationState(String conversationId, ConversationState conversationState) {
         conversationMemoryStore.setConversationState(conversationId, conversationState);
         cacheConversationState(conversationId, conversationState);
+        publishConversationStateInvalidation(conversationId);
     }
 
+    /**
+     * Caches a state on this node only, other nodes are not told about it.
+     */
     private void cacheConversationState(String conversationId, ConversationState conversationState) {
-        conversationStateCache.put(conversationId, conversationState);
+        if (conversationState != null) {
+            conversationStateCache.put(conversationId, conversationState);
+        }
+    }
+
+    /**
+     * Lets other nodes drop their cached state. Only to be called once the new state has been written to the store,
+     * no matter whether this node's cache already held it, as that says nothing about the caches of other nodes.
+     */
+    private void publishConversationStateInvalidation(String conversationId) {
+        cacheInvalidationBus.publishInvalidation(CACHE_NAME_CONVERSATION_STATE, conversationId);
     }
 
     private String storeConversationMemory(IConversationMemory conversationMemory, Environment environment)
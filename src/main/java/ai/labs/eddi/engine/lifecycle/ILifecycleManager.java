@@ -14,4 +14,6 @@ public interface ILifecycleManager {
             throws LifecycleException, ConversationStopException;
 
     void addLifecycleTask(ILifecycleTask lifecycleTask);
+
+    List<String> createWarmupInputs(int maxInputs);
 }
@@ -7,6 +7,8 @@ import ai.labs.eddi.engine.lifecycle.exceptions.UnrecognizedExtensionException;
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.models.ExtensionDescriptor;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,4 +42,24 @@ public interface ILifecycleTask {
     default ExtensionDescriptor getExtensionDescriptor() {
         return new ExtensionDescriptor(getId());
     }
+
+    /**
+     * Tasks reaching out to external systems (e.g. http calls) are skipped
+     * while a freshly deployed bot is warmed up with synthetic conversations
+     *
+     * @return true if executing this task has effects outside of the conversation memory
+     */
+    default boolean hasExternalSideEffects() {
+        return false;
+    }
+
+    /**
+     * @param component the configured component of this task
+     * @param maxInputs  the maximum amount of inputs to be returned
+     * @return synthetic user inputs which can be used to warm up a freshly deployed bot
+     */
+    default List<String> createWarmupInputs(Object component, int maxInputs) {
+        //to be overridden if needed
+        return Collections.emptyList();
+    }
 }
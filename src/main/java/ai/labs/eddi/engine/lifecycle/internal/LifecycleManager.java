@@ -49,10 +49,12 @@ public class LifecycleManager implements ILifecycleManager {
                 throw new LifecycleException.LifecycleInterruptedException("Execution was interrupted!");
             }
 
+            if (conversationMemory.isWarmup() && task.hasExternalSideEffects()) {
+                continue;
+            }
+
             try {
-                var components = componentCache.getComponentMap(task.getId());
-                var componentKey = createComponentKey(packageId.getId(), packageId.getVersion(), index);
-                var component = components.getOrDefault(componentKey, null);
+                var component = getComponent(task, index);
 
                 task.execute(conversationMemory, component);
 
@@ -63,6 +65,23 @@ public class LifecycleManager implements ILifecycleManager {
         }
     }
 
+    private Object getComponent(ILifecycleTask task, int index) {
+        var components = componentCache.getComponentMap(task.getId());
+        var componentKey = createComponentKey(packageId.getId(), packageId.getVersion(), index);
+        return components.getOrDefault(componentKey, null);
+    }
+
+    @Override
+    public List<String> createWarmupInputs(int maxInputs) {
+        List<String> warmupInputs = new LinkedList<>();
+        for (int index = 0; index < lifecycleTasks.size() && warmupInputs.size() < maxInputs; index++) {
+            ILifecycleTask task = lifecycleTasks.get(index);
+            warmupInputs.addAll(task.createWarmupInputs(getComponent(task, index), maxInputs - warmupInputs.size()));
+        }
+
+        return warmupInputs;
+    }
+
     private List<ILifecycleTask> getLifecycleTasks(List<String> lifecycleTaskTypes) {
         List<ILifecycleTask> ret = new LinkedList<>();
         for (int i = 0; i < this.lifecycleTasks.size(); i++) {
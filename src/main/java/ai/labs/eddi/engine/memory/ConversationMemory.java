@@ -21,9 +21,11 @@ public class ConversationMemory implements IConversationMemory {
     private IWritableConversationStep currentStep;
     private final Stack<IConversationStep> previousSteps;
     private final Stack<IConversationStep> redoCache = new Stack<>();
+    private final ConversationStepCounters stepCounters = new ConversationStepCounters();
     private final Stack<ConversationOutput> conversationOutputs = new Stack<>();
     private final IConversationProperties conversationProperties = new ConversationProperties(this);
     private ConversationState conversationState;
+    private boolean warmup;
 
     public ConversationMemory(String conversationId, String botId, Integer botVersion, String userId) {
         this(botId, botVersion, userId);
@@ -69,6 +71,7 @@ public class ConversationMemory implements IConversationMemory {
     IConversationStep startNextStep(ConversationOutput conversationOutput) {
         ((ConversationStep) currentStep).conversationStepNumber = previousSteps.size();
         previousSteps.push(currentStep);
+        stepCounters.addStep(currentStep);
         if (conversationOutput == null) {
             conversationOutput = new ConversationOutput();
         }
@@ -90,6 +93,7 @@ public class ConversationMemory implements IConversationMemory {
 
         redoCache.push(currentStep);
         currentStep = (IWritableConversationStep) previousSteps.pop();
+        stepCounters.removeStep(currentStep);
         conversationOutputs.pop();
     }
 
@@ -110,6 +114,7 @@ public class ConversationMemory implements IConversationMemory {
         }
 
         previousSteps.push(currentStep);
+        stepCounters.addStep(currentStep);
         currentStep = (IWritableConversationStep) redoCache.pop();
         conversationOutputs.push(currentStep.getConversationOutput());
     }
@@ -157,6 +162,20 @@ public class ConversationMemory implements IConversationMemory {
         return redoCache;
     }
 
+    @Override
+    public IConversationStepCounters getStepCounters() {
+        return stepCounters;
+    }
+
+    @Override
+    public boolean isWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(boolean warmup) {
+        this.warmup = warmup;
+    }
+
     public final static class ConversationStepStack implements IConversationStepStack {
         private final List<IConversationStep> conversationSteps = new ArrayList<>();
 
@@ -0,0 +1,73 @@
+package ai.labs.eddi.engine.memory;
+
+import ai.labs.eddi.engine.memory.IConversationMemory.IConversationStep;
+import ai.labs.eddi.engine.memory.IConversationMemory.IConversationStepCounters;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Incrementally maintained counters of behavior rule successes, actions and input expressions over the
+ * previous steps of a conversation, so conditions do not have to walk the whole history on every evaluation.
+ *
+ * @author ginccc
+ */
+class ConversationStepCounters implements IConversationStepCounters, Serializable {
+    private static final String KEY_BEHAVIOR_RULES_SUCCESS = "behavior_rules:success";
+    private static final Set<String> COUNTED_DATA_KEYS = Set.of("actions", "expressions");
+
+    private final Map<String, Integer> behaviorRuleSuccesses = new HashMap<>();
+    private final Map<String, Map<Object, Integer>> latestResultOccurrences = new HashMap<>();
+
+    ConversationStepCounters() {
+        for (String key : COUNTED_DATA_KEYS) {
+            latestResultOccurrences.put(key, new HashMap<>());
+        }
+    }
+
+    @Override
+    public int countBehaviorRuleSuccesses(String behaviorRuleName) {
+        return behaviorRuleSuccesses.getOrDefault(behaviorRuleName, 0);
+    }
+
+    @Override
+    public <T> Map<T, Integer> getLatestResultOccurrences(String key) {
+        @SuppressWarnings("unchecked")
+        Map<T, Integer> occurrences = (Map<T, Integer>) latestResultOccurrences.get(key);
+        return occurrences != null ? Collections.unmodifiableMap(occurrences) : null;
+    }
+
+    @Override
+    public Set<String> getCountedDataKeys() {
+        return COUNTED_DATA_KEYS;
+    }
+
+    void addStep(IConversationStep conversationStep) {
+        updateCounters(conversationStep, 1);
+    }
+
+    void removeStep(IConversationStep conversationStep) {
+        updateCounters(conversationStep, -1);
+    }
+
+    private void updateCounters(IConversationStep conversationStep, int delta) {
+        List<IData<List<String>>> behaviorRulesSuccessData = conversationStep.getAllData(KEY_BEHAVIOR_RULES_SUCCESS);
+        for (IData<List<String>> data : behaviorRulesSuccessData) {
+            if (data.getResult() != null) {
+                for (String behaviorRuleName : data.getResult()) {
+                    addTo(behaviorRuleSuccesses, behaviorRuleName, delta);
+                }
+            }
+        }
+
+        for (String key : COUNTED_DATA_KEYS) {
+            IData<Object> latestData = conversationStep.getLatestData(key);
+            Object result = latestData != null ? latestData.getResult() : null;
+            addTo(latestResultOccurrences.get(key), result, delta);
+        }
+    }
+
+    private static <K> void addTo(Map<K, Integer> counters, K key, int delta) {
+        counters.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+}
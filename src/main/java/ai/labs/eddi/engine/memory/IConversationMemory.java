@@ -48,6 +48,20 @@ public interface IConversationMemory extends Serializable {
 
     Stack<IConversationStep> getRedoCache();
 
+    /**
+     * @return true if this memory belongs to a synthetic warmup conversation, which is never persisted
+     */
+    default boolean isWarmup() {
+        return false;
+    }
+
+    /**
+     * @return counters over the previous steps of this conversation, or null if this memory does not maintain them
+     */
+    default IConversationStepCounters getStepCounters() {
+        return null;
+    }
+
 
     interface IConversationStepStack {
         <T> IData<T> getLatestData(String key);
@@ -63,6 +77,26 @@ public interface IConversationMemory extends Serializable {
         <T> List<IData<T>> getAllLatestData(String prefix);
     }
 
+    /**
+     * Counters over the previous (committed) steps of a conversation, kept up to date as steps are committed,
+     * undone and redone. The current step is not included.
+     */
+    interface IConversationStepCounters {
+        /**
+         * @return how often the behavior rule succeeded
+         */
+        int countBehaviorRuleSuccesses(String behaviorRuleName);
+
+        /**
+         * @param key one of the keys given in {@link #getCountedDataKeys()}
+         * @return every distinct result of the latest data of this key (null for steps without any) mapped to
+         * the number of steps it occurred in, or null if this key is not counted
+         */
+        <T> Map<T, Integer> getLatestResultOccurrences(String key);
+
+        Set<String> getCountedDataKeys();
+    }
+
     interface IConversationStep extends Serializable {
         <T> IData<T> getData(String key);
 
@@ -48,7 +48,12 @@ public class MemoryItemConverter implements IMemoryItemConverter {
             if (ret.containsKey(KEY_USER_INFO)) {
                 Object o = ret.get(KEY_USER_INFO);
                 if (o instanceof Map) {
-                    ((Map) o).put(KEY_USER_ID, userId);
+                    // the userInfo context is part of the step's data, which other conditions read concurrently,
+                    // so it is never changed in place
+                    Map<Object, Object> userInfo = new LinkedHashMap<>((Map<?, ?>) o);
+                    userInfo.put(KEY_USER_ID, userId);
+                    ret.put(KEY_USER_INFO, userInfo);
+                    contextMap.put(KEY_USER_INFO, userInfo);
                 }
             } else {
                 ret.put(KEY_USER_INFO, Map.of(KEY_USER_ID, userId));
@@ -0,0 +1,12 @@
+package ai.labs.eddi.engine.runtime;
+
+/**
+ * @author ginccc
+ */
+public interface IBotWarmup {
+    /**
+     * Runs synthetic conversation steps against a freshly deployed bot before it is marked as READY,
+     * so that first real conversations don't pay for lazy initialization and JIT compilation.
+     */
+    void warmup(IBot bot);
+}
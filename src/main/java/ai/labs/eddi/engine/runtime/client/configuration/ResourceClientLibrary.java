@@ -7,6 +7,7 @@ import ai.labs.eddi.configs.output.IRestOutputStore;
 import ai.labs.eddi.configs.parser.IRestParserStore;
 import ai.labs.eddi.configs.propertysetter.IRestPropertySetterStore;
 import ai.labs.eddi.configs.regulardictionary.IRestRegularDictionaryStore;
+import ai.labs.eddi.engine.runtime.client.packages.IPackageImageCache;
 import ai.labs.eddi.engine.runtime.service.ServiceException;
 import ai.labs.eddi.utils.RestUtilities;
 import ai.labs.eddi.utils.RuntimeUtilities;
@@ -32,6 +33,7 @@ public class ResourceClientLibrary implements IResourceClientLibrary {
     private final IRestOutputStore restOutputStore;
     private final IRestPropertySetterStore restPropertySetterStore;
     private final IRestGitCallsStore restGitCallsStore;
+    private final IPackageImageCache packageImageCache;
     private Map<String, IResourceService> restInterfaces;
 
     @Inject
@@ -41,7 +43,8 @@ public class ResourceClientLibrary implements IResourceClientLibrary {
                                  IRestHttpCallsStore restHttpCallsStore,
                                  IRestOutputStore restOutputStore,
                                  IRestPropertySetterStore restPropertySetterStore,
-                                 IRestGitCallsStore restGitCallsStore) {
+                                 IRestGitCallsStore restGitCallsStore,
+                                 IPackageImageCache packageImageCache) {
         this.restParserStore = restParserStore;
         this.restRegularDictionaryStore = restRegularDictionaryStore;
         this.restBehaviorStore = restBehaviorStore;
@@ -49,6 +52,7 @@ public class ResourceClientLibrary implements IResourceClientLibrary {
         this.restOutputStore = restOutputStore;
         this.restPropertySetterStore = restPropertySetterStore;
         this.restGitCallsStore = restGitCallsStore;
+        this.packageImageCache = packageImageCache;
 
         init();
     }
@@ -148,8 +152,14 @@ public class ResourceClientLibrary implements IResourceClientLibrary {
         IResourceService proxy = restInterfaces.get(type);
 
         if (proxy != null) {
+            T cachedResource = packageImageCache.lookupResource(uri, clazz);
+            if (cachedResource != null) {
+                return cachedResource;
+            }
+
             IResourceId resourceId = RestUtilities.extractResourceId(uri);
             Object resource = proxy.read(resourceId.getId(), resourceId.getVersion());
+            packageImageCache.recordResource(uri, resource);
             return (T) resource;
         }
 
@@ -1,47 +1,102 @@
 package ai.labs.eddi.engine.runtime.client.factory;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
 import org.jboss.resteasy.client.jaxrs.ResteasyWebTarget;
-import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.client.ClientBuilder;
-import java.util.HashMap;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Creates client proxies for the IRest* interfaces. Clients are pooled per server url.
+ * For the local api server, read-only (GET) calls can optionally (eddi.restInterfaceFactory.inProcess)
+ * be dispatched straight to the CDI bean instead of looping back over http; all other calls keep going
+ * through http so that response filters, such as the document descriptor maintenance, still run.
+ * Note that in-process calls also skip JAX-RS parameter handling (e.g. @DefaultValue for null arguments),
+ * exception mapping and filters of the read calls, which is why it is disabled by default.
+ *
  * @author ginccc
  */
 @ApplicationScoped
 public class RestInterfaceFactory implements IRestInterfaceFactory {
-    private final Map<String, ResteasyClient> clients = new HashMap<>();
-    private static final String apiServerURI = "http://127.0.0.1:7070";
+    private final Map<String, ResteasyClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Object> proxies = new ConcurrentHashMap<>();
+    private static final String API_SERVER_URI = "http://127.0.0.1:7070";
+
+    private final String apiServerURI;
+    private final Boolean inProcess;
+    private final Integer maxConnections;
+    private final Instance<Object> beans;
+
+    @Inject
+    public RestInterfaceFactory(@ConfigProperty(name = "eddi.restInterfaceFactory.inProcess") Boolean inProcess,
+                                @ConfigProperty(name = "eddi.restInterfaceFactory.maxConnections") Integer maxConnections,
+                                Instance<Object> beans) {
+        this(API_SERVER_URI, inProcess, maxConnections, beans);
+    }
+
+    RestInterfaceFactory(String apiServerURI, Boolean inProcess, Integer maxConnections, Instance<Object> beans) {
+        this.apiServerURI = apiServerURI;
+        this.inProcess = inProcess;
+        this.maxConnections = maxConnections;
+        this.beans = beans;
+    }
 
     @Override
     public <T> T get(Class<T> clazz) {
-        return get(clazz, apiServerURI);
+        if (!inProcess) {
+            return get(clazz, apiServerURI);
+        }
+
+        T remote = get(clazz, apiServerURI);
+        return clazz.cast(proxies.computeIfAbsent("inProcess:" + clazz.getName(),
+                key -> createInProcessProxy(clazz, remote)));
     }
 
     @Override
     public <T> T get(Class<T> clazz, String serverUrl) {
-        ResteasyClient client = getResteasyClient(serverUrl);
-        ResteasyWebTarget target = client.target(serverUrl);
+        return clazz.cast(proxies.computeIfAbsent(serverUrl + ":" + clazz.getName(), key -> {
+            ResteasyClient client = getResteasyClient(serverUrl);
+            ResteasyWebTarget target = client.target(serverUrl);
+            return target.proxy(clazz);
+        }));
+    }
+
+    private <T> T createInProcessProxy(Class<T> clazz, T remote) {
+        Instance<T> instance = beans.select(clazz);
+        if (!instance.isResolvable()) {
+            return remote;
+        }
 
-        return target.proxy(clazz);
+        T bean = instance.get();
+        return clazz.cast(Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz},
+                (proxy, method, args) -> {
+                    Object target = method.getDeclaringClass() == Object.class ||
+                            method.isAnnotationPresent(GET.class) ? bean : remote;
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
     }
 
     private ResteasyClient getResteasyClient(String targetServerUri) {
-        ResteasyClient client = clients.get(targetServerUri);
-        if (client == null) {
+        return clients.computeIfAbsent(targetServerUri, key -> {
             ResteasyClientBuilder clientBuilder = (ResteasyClientBuilder) ClientBuilder.newBuilder();
-            clientBuilder.httpEngine(new ApacheHttpClient43Engine());
-
-            client = clientBuilder.build();
-            clients.put(targetServerUri, client);
-        }
+            clientBuilder.connectionPoolSize(maxConnections);
+            clientBuilder.maxPooledPerRoute(maxConnections);
 
-        return client;
+            return clientBuilder.build();
+        });
     }
 
     public static class RestInterfaceFactoryException extends Exception {
@@ -0,0 +1,36 @@
+package ai.labs.eddi.engine.runtime.client.packages;
+
+import ai.labs.eddi.configs.packages.model.PackageConfiguration;
+import ai.labs.eddi.datastore.IResourceStore.IResourceId;
+
+import java.net.URI;
+
+/**
+ * On-disk cache of the resources a package resolves during configuration, so that a restart
+ * does not need to fetch and deserialize every resource again.
+ *
+ * @author ginccc
+ */
+public interface IPackageImageCache {
+    boolean isEnabled();
+
+    String createConfigurationHash(PackageConfiguration packageConfiguration);
+
+    /**
+     * @return the stored image or null if there is none, it is corrupt or was built for a different configuration
+     */
+    PackageImage loadImage(IResourceId packageId, String configurationHash);
+
+    void storeImage(IResourceId packageId, PackageImage packageImage);
+
+    /**
+     * Binds the image to the current thread, resources resolved on this thread are read from and recorded into it.
+     */
+    void bindImage(PackageImage packageImage);
+
+    void unbindImage();
+
+    <T> T lookupResource(URI uri, Class<T> clazz);
+
+    void recordResource(URI uri, Object resource);
+}
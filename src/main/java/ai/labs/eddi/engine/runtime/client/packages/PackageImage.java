@@ -0,0 +1,43 @@
+package ai.labs.eddi.engine.runtime.client.packages;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serialized resources a package resolved while being configured, tied to the hash of the
+ * package configuration they were resolved for.
+ *
+ * @author ginccc
+ */
+public class PackageImage {
+    @Getter
+    private final String configurationHash;
+    private final Map<String, byte[]> resources;
+    @Getter
+    private boolean modified;
+
+    public PackageImage(String configurationHash) {
+        this(configurationHash, new LinkedHashMap<>());
+    }
+
+    PackageImage(String configurationHash, Map<String, byte[]> resources) {
+        this.configurationHash = configurationHash;
+        this.resources = resources;
+    }
+
+    public byte[] getResource(String uri) {
+        return resources.get(uri);
+    }
+
+    public void putResource(String uri, byte[] resource) {
+        resources.put(uri, resource);
+        modified = true;
+    }
+
+    public Map<String, byte[]> getResources() {
+        return Collections.unmodifiableMap(resources);
+    }
+}
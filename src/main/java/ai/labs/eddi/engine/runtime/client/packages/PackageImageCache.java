@@ -0,0 +1,235 @@
+package ai.labs.eddi.engine.runtime.client.packages;
+
+import ai.labs.eddi.configs.packages.model.PackageConfiguration;
+import ai.labs.eddi.datastore.IResourceStore.IResourceId;
+import ai.labs.eddi.datastore.serialization.SerializationCustomizer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import de.undercouch.bson4jackson.BsonFactory;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Stores package images as one file per package version. Layout:
+ * magic, format version, configuration hash, resource count, (uri, length, bson bytes)*, crc32 of everything before.
+ *
+ * @author ginccc
+ */
+@ApplicationScoped
+public class PackageImageCache implements IPackageImageCache {
+    private static final int MAGIC = 0x45444449;
+    private static final int FORMAT_VERSION = 1;
+    private static final String IMAGE_FILE_EXTENSION = ".img";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final ObjectMapper bsonMapper;
+    private final ObjectMapper hashMapper;
+    private final ThreadLocal<PackageImage> boundImage = new ThreadLocal<>();
+
+    private static final Logger log = Logger.getLogger(PackageImageCache.class);
+
+    @Inject
+    public PackageImageCache(@ConfigProperty(name = "eddi.deployment.imageCache.enabled") Boolean enabled,
+                             @ConfigProperty(name = "eddi.deployment.imageCache.directory") String directory) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+
+        this.bsonMapper = new ObjectMapper(new BsonFactory());
+        new SerializationCustomizer(false).customize(bsonMapper);
+
+        this.hashMapper = JsonMapper.builder().
+                enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).
+                enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).
+                build();
+        new SerializationCustomizer(false).customize(hashMapper);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String createConfigurationHash(PackageConfiguration packageConfiguration) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(hashMapper.writeValueAsBytes(packageConfiguration)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    @Override
+    public PackageImage loadImage(IResourceId packageId, String configurationHash) {
+        var imageFile = getImageFile(packageId);
+        if (!Files.isRegularFile(imageFile)) {
+            return null;
+        }
+
+        try {
+            byte[] content = Files.readAllBytes(imageFile);
+            var image = readImage(content);
+            if (!image.getConfigurationHash().equals(configurationHash)) {
+                log.debugf("Package image %s is stale, configuring package from scratch.", imageFile);
+                return null;
+            }
+
+            return image;
+        } catch (IOException e) {
+            log.warnf("Package image %s is corrupt (%s), deleting it.", imageFile, e.getLocalizedMessage());
+            deleteQuietly(imageFile);
+            return null;
+        }
+    }
+
+    @Override
+    public void storeImage(IResourceId packageId, PackageImage packageImage) {
+        var imageFile = getImageFile(packageId);
+        try {
+            Files.createDirectories(directory);
+            var tmpFile = Files.createTempFile(directory, imageFile.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmpFile, writeImage(packageImage));
+                Files.move(tmpFile, imageFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                deleteQuietly(tmpFile);
+            }
+        } catch (IOException e) {
+            log.warnf("Could not write package image %s: %s", imageFile, e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    public void bindImage(PackageImage packageImage) {
+        boundImage.set(packageImage);
+    }
+
+    @Override
+    public void unbindImage() {
+        boundImage.remove();
+    }
+
+    @Override
+    public <T> T lookupResource(URI uri, Class<T> clazz) {
+        var image = boundImage.get();
+        if (image == null) {
+            return null;
+        }
+
+        byte[] resource = image.getResource(uri.toString());
+        if (resource == null) {
+            return null;
+        }
+
+        try {
+            return bsonMapper.readValue(resource, clazz);
+        } catch (IOException e) {
+            log.warnf("Could not read resource %s from package image, fetching it again: %s",
+                    uri, e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void recordResource(URI uri, Object resource) {
+        var image = boundImage.get();
+        if (image == null || resource == null) {
+            return;
+        }
+
+        try {
+            image.putResource(uri.toString(), bsonMapper.writeValueAsBytes(resource));
+        } catch (JsonProcessingException e) {
+            log.warnf("Could not add resource %s to package image: %s", uri, e.getLocalizedMessage());
+        }
+    }
+
+    Path getImageFile(IResourceId packageId) {
+        return directory.resolve(packageId.getId() + "-" + packageId.getVersion() + IMAGE_FILE_EXTENSION);
+    }
+
+    static byte[] writeImage(PackageImage packageImage) throws IOException {
+        var byteStream = new ByteArrayOutputStream();
+        var out = new DataOutputStream(byteStream);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(packageImage.getConfigurationHash());
+        var resources = packageImage.getResources();
+        out.writeInt(resources.size());
+        for (var resource : resources.entrySet()) {
+            out.writeUTF(resource.getKey());
+            out.writeInt(resource.getValue().length);
+            out.write(resource.getValue());
+        }
+
+        var crc = new CRC32();
+        crc.update(byteStream.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        return byteStream.toByteArray();
+    }
+
+    static PackageImage readImage(byte[] content) throws IOException {
+        if (content.length < Long.BYTES) {
+            throw new IOException("truncated image");
+        }
+
+        var crc = new CRC32();
+        crc.update(content, 0, content.length - Long.BYTES);
+        var in = new DataInputStream(new ByteArrayInputStream(content));
+        in.skipNBytes(content.length - Long.BYTES);
+        if (in.readLong() != crc.getValue()) {
+            throw new IOException("checksum mismatch");
+        }
+
+        in = new DataInputStream(new ByteArrayInputStream(content, 0, content.length - Long.BYTES));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a package image");
+        }
+        if (in.readInt() != FORMAT_VERSION) {
+            throw new IOException("unsupported format version");
+        }
+
+        String configurationHash = in.readUTF();
+        int resourceCount = in.readInt();
+        Map<String, byte[]> resources = new LinkedHashMap<>(resourceCount * 2);
+        for (int i = 0; i < resourceCount; i++) {
+            String uri = in.readUTF();
+            byte[] resource = new byte[in.readInt()];
+            in.readFully(resource);
+            resources.put(uri, resource);
+        }
+
+        return new PackageImage(configurationHash, resources);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debugf("Could not delete %s: %s", file, e.getLocalizedMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ai.labs.eddi.engine.runtime.client.packages;
 
 import ai.labs.eddi.configs.packages.model.PackageConfiguration;
+import ai.labs.eddi.datastore.IResourceStore.IResourceId;
 import ai.labs.eddi.engine.lifecycle.IComponentCache;
 import ai.labs.eddi.engine.lifecycle.ILifecycleManager;
 import ai.labs.eddi.engine.lifecycle.ILifecycleTask;
@@ -34,15 +35,18 @@ public class PackageStoreClientLibrary implements IPackageStoreClientLibrary {
     private final Map<String, Provider<ILifecycleTask>> lifecycleExtensionsProvider;
     private static final String URI_SCHEME_ID = "eddi";
     private final IComponentCache componentCache;
+    private final IPackageImageCache packageImageCache;
 
     @Inject
     public PackageStoreClientLibrary(IPackageStoreService packageStoreService,
                                      IComponentCache componentCache,
+                                     IPackageImageCache packageImageCache,
                                      @LifecycleExtensions Map<String, Provider<ILifecycleTask>> lifecycleExtensionsProvider) {
         this.packageStoreService = packageStoreService;
         this.lifecycleExtensionsProvider = lifecycleExtensionsProvider;
 
         this.componentCache = componentCache;
+        this.packageImageCache = packageImageCache;
     }
 
     @Override
@@ -64,6 +68,7 @@ public class PackageStoreClientLibrary implements IPackageStoreClientLibrary {
 
         final var packageId = extractResourceId(documentDescriptor.getResource());
         final var lifecycleManager = new LifecycleManager(componentCache, packageId);
+        final var packageImage = openPackageImage(packageId, packageConfiguration);
 
         try {
             List<PackageConfiguration.PackageExtension> packageExtensions = packageConfiguration.getPackageExtensions();
@@ -89,6 +94,14 @@ public class PackageStoreClientLibrary implements IPackageStoreClientLibrary {
             }
         } catch (IllegalExtensionConfigurationException | UnrecognizedExtensionException e) {
             throw new PackageInitializationException(e.getMessage(), e);
+        } finally {
+            if (packageImage != null) {
+                packageImageCache.unbindImage();
+            }
+        }
+
+        if (packageImage != null && packageImage.isModified()) {
+            packageImageCache.storeImage(packageId, packageImage);
         }
 
         return new IExecutablePackage() {
@@ -114,6 +127,21 @@ public class PackageStoreClientLibrary implements IPackageStoreClientLibrary {
         };
     }
 
+    private PackageImage openPackageImage(IResourceId packageId, PackageConfiguration packageConfiguration) {
+        if (!packageImageCache.isEnabled()) {
+            return null;
+        }
+
+        var configurationHash = packageImageCache.createConfigurationHash(packageConfiguration);
+        var packageImage = packageImageCache.loadImage(packageId, configurationHash);
+        if (packageImage == null) {
+            packageImage = new PackageImage(configurationHash);
+        }
+
+        packageImageCache.bindImage(packageImage);
+        return packageImage;
+    }
+
     public class PackageInitializationException extends Exception {
         PackageInitializationException(String message, Throwable e) {
             super(message, e);
@@ -12,6 +12,7 @@ import ai.labs.eddi.models.Deployment;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import java.util.Map;
  * @author ginccc
  */
 public class Bot implements IBot {
+    private static final String WARMUP_USER_ID = "warmup";
     @Getter
     private String botId;
     @Getter
@@ -53,6 +55,31 @@ public class Bot implements IBot {
         return conversation;
     }
 
+    /**
+     * Starts a conversation against a memory that is flagged as warmup and never handed out for persistence.
+     */
+    IConversation startWarmupConversation(IPropertiesHandler propertiesHandler) throws LifecycleException {
+        var conversationMemory = new ConversationMemory(botId, botVersion, WARMUP_USER_ID);
+        conversationMemory.setWarmup(true);
+        Conversation conversation = new Conversation(executablePackages, conversationMemory, propertiesHandler, null);
+        conversation.init(Collections.emptyMap());
+        return conversation;
+    }
+
+    List<String> createWarmupInputs(int maxInputs) {
+        List<String> warmupInputs = new LinkedList<>();
+        for (IExecutablePackage executablePackage : executablePackages) {
+            if (warmupInputs.size() >= maxInputs) {
+                break;
+            }
+
+            warmupInputs.addAll(executablePackage.getLifecycleManager().
+                    createWarmupInputs(maxInputs - warmupInputs.size()));
+        }
+
+        return warmupInputs;
+    }
+
     @Override
     public IConversation continueConversation(final IConversationMemory conversationMemory,
                                               final IPropertiesHandler propertiesHandler,
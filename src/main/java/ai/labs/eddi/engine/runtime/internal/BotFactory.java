@@ -6,6 +6,7 @@ import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IPropertiesHandler;
 import ai.labs.eddi.engine.runtime.IBot;
 import ai.labs.eddi.engine.runtime.IBotFactory;
+import ai.labs.eddi.engine.runtime.IBotWarmup;
 import ai.labs.eddi.engine.runtime.IExecutablePackage;
 import ai.labs.eddi.engine.runtime.client.bots.IBotStoreClientLibrary;
 import ai.labs.eddi.engine.runtime.service.ServiceException;
@@ -17,8 +18,7 @@ import org.jboss.logging.Logger;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.*;
 
 /**
  * @author ginccc
@@ -26,15 +26,25 @@ import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class BotFactory implements IBotFactory {
+    private static final long DEPLOYMENT_WAIT_TIMEOUT_IN_SECONDS = 60;
+
     private final Map<Deployment.Environment, ConcurrentHashMap<BotId, IBot>> environments;
+    /**
+     * per environment: botId -> all deployed versions of this bot, used to find the latest version without
+     * having to scan all deployed bots
+     */
+    private final Map<Deployment.Environment, ConcurrentHashMap<String, ConcurrentSkipListSet<Integer>>> versionIndexes;
     private final IBotStoreClientLibrary botStoreClientLibrary;
+    private final IBotWarmup botWarmup;
 
     private static final Logger log = Logger.getLogger(BotFactory.class);
 
     @Inject
-    public BotFactory(IBotStoreClientLibrary botStoreClientLibrary) {
+    public BotFactory(IBotStoreClientLibrary botStoreClientLibrary, IBotWarmup botWarmup) {
         this.botStoreClientLibrary = botStoreClientLibrary;
+        this.botWarmup = botWarmup;
         this.environments = Collections.unmodifiableMap(createEmptyEnvironments());
+        this.versionIndexes = Collections.unmodifiableMap(createEmptyVersionIndexes());
     }
 
     private Map<Deployment.Environment, ConcurrentHashMap<BotId, IBot>> createEmptyEnvironments() {
@@ -46,50 +56,46 @@ public class BotFactory implements IBotFactory {
         return environments;
     }
 
+    private Map<Deployment.Environment, ConcurrentHashMap<String, ConcurrentSkipListSet<Integer>>> createEmptyVersionIndexes() {
+        Map<Deployment.Environment, ConcurrentHashMap<String, ConcurrentSkipListSet<Integer>>> versionIndexes =
+                new HashMap<>(Deployment.Environment.values().length);
+        for (Deployment.Environment environment : Deployment.Environment.values()) {
+            versionIndexes.put(environment, new ConcurrentHashMap<>());
+        }
+        return versionIndexes;
+    }
+
     @Override
     public IBot getLatestBot(Deployment.Environment environment, String botId) {
+        var versions = getVersionIndex(environment).get(botId);
+        if (versions == null) {
+            return null;
+        }
 
-        Map<BotId, IBot> bots = getBotEnvironment(environment);
-        List<BotId> botVersions = bots.keySet().stream().filter(id -> id.getId().equals(botId)).
-                sorted(Collections.reverseOrder((botId1, botId2) ->
-                        botId1.getVersion() < botId2.getVersion() ?
-                                -1 : botId1.getVersion().equals(botId2.getVersion()) ? 0 : 1)).
-                collect(Collectors.toCollection(LinkedList::new));
-
-        IBot latestBot = null;
-
-        if (!botVersions.isEmpty()) {
-            for (BotId botVersion : botVersions) {
-                IBot bot = bots.get(botVersion);
-                if (bot.getDeploymentStatus() == Deployment.Status.READY) {
-                    latestBot = bot;
-                    break;
-                }
+        var bots = getBotEnvironment(environment);
+        // versions are sorted, so the first READY bot in descending order is the latest one
+        for (Integer version : versions.descendingSet()) {
+            IBot bot = bots.get(new BotId(botId, version));
+            if (bot != null && bot.getDeploymentStatus() == Deployment.Status.READY) {
+                return bot;
             }
         }
 
-        return latestBot;
+        return null;
     }
 
     @Override
     public List<IBot> getAllLatestBots(Deployment.Environment environment) {
-        Map<String, IBot> ret = new LinkedHashMap<>();
-
-        for (BotId botIdObj : getBotEnvironment(environment).keySet()) {
-            IBot nextBot = getLatestBot(environment, botIdObj.getId());
-            String botId = botIdObj.getId();
-            IBot currentBot = ret.get(botId);
-            if (ret.containsKey(botId)) {
-                if (currentBot.getBotVersion() < nextBot.getBotVersion()) {
-                    ret.put(botId, nextBot);
-                }
-            } else {
-                ret.put(botIdObj.getId(), nextBot);
-            }
+        List<IBot> ret = new LinkedList<>();
 
+        for (String botId : getVersionIndex(environment).keySet()) {
+            IBot latestBot = getLatestBot(environment, botId);
+            if (latestBot != null) {
+                ret.add(latestBot);
+            }
         }
 
-        return new LinkedList<>(ret.values());
+        return ret;
     }
 
     @Override
@@ -104,22 +110,21 @@ public class BotFactory implements IBotFactory {
     }
 
     private static IBot waitIfBotIsInDeployment(ConcurrentHashMap<BotId, IBot> bots, BotId botIdObj) {
-        IBot bot;
-        int counter = 0;
-        while ((bot = bots.get(botIdObj)) != null &&
-                bot.getDeploymentStatus() == Deployment.Status.IN_PROGRESS) {
+        IBot bot = bots.get(botIdObj);
+        if (bot instanceof InProgressBot inProgressBot) {
             try {
-                Thread.sleep(1000);
+                bot = inProgressBot.getDeployment().get(DEPLOYMENT_WAIT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
             } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 log.error(e.getLocalizedMessage(), e);
                 return null;
-            }
-            counter++;
-
-            if (counter > 60) {
-                log.error("Waited too long for bot deployment to complete (timeout reached at 60s).");
-                bot = null;
-                break;
+            } catch (ExecutionException e) {
+                log.error(e.getLocalizedMessage(), e);
+                return null;
+            } catch (TimeoutException e) {
+                log.error(String.format("Waited too long for bot deployment to complete (timeout reached at %ss).",
+                        DEPLOYMENT_WAIT_TIMEOUT_IN_SECONDS));
+                return null;
             }
         }
 
@@ -136,23 +141,30 @@ public class BotFactory implements IBotFactory {
         // fast path
         if (!botEnvironment.containsKey(id)) {
             logBotDeployment(environment.toString(), botId, version, Deployment.Status.IN_PROGRESS);
-            Bot progressDummyBot = createInProgressDummyBot(botId, version);
+            InProgressBot progressDummyBot = new InProgressBot(botId, version);
             // atomically register dummy bot in environment
             if (botEnvironment.putIfAbsent(id, progressDummyBot) == null) {
+                addToVersionIndex(environment, id);
                 IBot bot;
                 try {
                     bot = botStoreClientLibrary.getBot(botId, version);
-                } catch (ServiceException e) {
+                } catch (ServiceException | IllegalAccessException | RuntimeException e) {
                     Deployment.Status error = Deployment.Status.ERROR;
                     progressDummyBot.setDeploymentStatus(error);
+                    // release waiting callers, they will see the bot in status ERROR
+                    progressDummyBot.getDeployment().complete(progressDummyBot);
                     deploymentProcess.completed(error);
                     logBotDeployment(environment.toString(), botId, version, error);
                     throw e;
                 }
 
+                // warm up before the bot is marked as READY, so it doesn't receive real traffic yet
+                botWarmup.warmup(bot);
+
                 Deployment.Status ready = Deployment.Status.READY;
                 ((Bot) bot).setDeploymentStatus(ready);
                 botEnvironment.put(id, bot);
+                progressDummyBot.getDeployment().complete(bot);
                 deploymentProcess.completed(ready);
                 logBotDeployment(environment.toString(), botId, version, ready);
             }
@@ -169,42 +181,35 @@ public class BotFactory implements IBotFactory {
         Map<BotId, IBot> botEnvironment = getBotEnvironment(environment);
 
         BotId id = new BotId(botId, version);
-        botEnvironment.remove(id);
+        if (botEnvironment.remove(id) != null) {
+            removeFromVersionIndex(environment, id);
+        }
     }
 
     private ConcurrentHashMap<BotId, IBot> getBotEnvironment(Deployment.Environment environment) {
         return environments.get(environment);
     }
 
-    private Bot createInProgressDummyBot(String botId, Integer version) {
-        Bot bot = new Bot(botId, version) {
-            @Override
-            public void addPackage(IExecutablePackage executablePackage) throws IllegalAccessException {
-                throw createBotInProgressException();
-            }
-
-            @Override
-            public IConversation startConversation(String userId,
-                                                   Map<String, Context> context,
-                                                   IPropertiesHandler propertiesHandler,
-                                                   IConversationOutputRenderer outputProvider)
-                    throws IllegalAccessException {
-
-                throw createBotInProgressException();
-            }
-
-            @Override
-            public IConversation continueConversation(IConversationMemory conversationMemory,
-                                                      IPropertiesHandler propertiesHandler,
-                                                      IConversationOutputRenderer outputProvider)
-                    throws IllegalAccessException {
+    private ConcurrentHashMap<String, ConcurrentSkipListSet<Integer>> getVersionIndex(
+            Deployment.Environment environment) {
+        return versionIndexes.get(environment);
+    }
 
-                throw createBotInProgressException();
+    private void addToVersionIndex(Deployment.Environment environment, BotId id) {
+        getVersionIndex(environment).compute(id.getId(), (botId, versions) -> {
+            if (versions == null) {
+                versions = new ConcurrentSkipListSet<>();
             }
-        };
+            versions.add(id.getVersion());
+            return versions;
+        });
+    }
 
-        bot.setDeploymentStatus(Deployment.Status.IN_PROGRESS);
-        return bot;
+    private void removeFromVersionIndex(Deployment.Environment environment, BotId id) {
+        getVersionIndex(environment).computeIfPresent(id.getId(), (botId, versions) -> {
+            versions.remove(id.getVersion());
+            return versions.isEmpty() ? null : versions;
+        });
     }
 
     private static IllegalAccessException createBotInProgressException() {
@@ -221,12 +226,50 @@ public class BotFactory implements IBotFactory {
         }
     }
 
+    /**
+     * Placeholder registered while a bot is being deployed.
+     * Callers waiting for the deployment join {@link #getDeployment()} instead of polling.
+     */
+    private static class InProgressBot extends Bot {
+        @Getter
+        private final CompletableFuture<IBot> deployment = new CompletableFuture<>();
+
+        InProgressBot(String botId, Integer version) {
+            super(botId, version);
+            setDeploymentStatus(Deployment.Status.IN_PROGRESS);
+        }
+
+        @Override
+        public void addPackage(IExecutablePackage executablePackage) throws IllegalAccessException {
+            throw createBotInProgressException();
+        }
+
+        @Override
+        public IConversation startConversation(String userId,
+                                               Map<String, Context> context,
+                                               IPropertiesHandler propertiesHandler,
+                                               IConversationOutputRenderer outputProvider)
+                throws IllegalAccessException {
+
+            throw createBotInProgressException();
+        }
+
+        @Override
+        public IConversation continueConversation(IConversationMemory conversationMemory,
+                                                  IPropertiesHandler propertiesHandler,
+                                                  IConversationOutputRenderer outputProvider)
+                throws IllegalAccessException {
+
+            throw createBotInProgressException();
+        }
+    }
+
     @AllArgsConstructor
     @Getter
     @Setter
     @EqualsAndHashCode
     @ToString
-    private class BotId {
+    private static class BotId {
         private String id;
         private Integer version;
     }
@@ -0,0 +1,144 @@
+package ai.labs.eddi.engine.runtime.internal;
+
+import ai.labs.eddi.configs.properties.model.Properties;
+import ai.labs.eddi.engine.lifecycle.IConversation;
+import ai.labs.eddi.engine.lifecycle.exceptions.LifecycleException;
+import ai.labs.eddi.engine.memory.IPropertiesHandler;
+import ai.labs.eddi.engine.runtime.IBot;
+import ai.labs.eddi.engine.runtime.IBotWarmup;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ginccc
+ */
+@ApplicationScoped
+public class BotWarmup implements IBotWarmup {
+    private static final Logger log = Logger.getLogger(BotWarmup.class);
+
+    private final boolean warmupEnabled;
+    private final int warmupSteps;
+
+    @Inject
+    public BotWarmup(@ConfigProperty(name = "eddi.deployment.warmup.enabled")
+                     boolean warmupEnabled,
+                     @ConfigProperty(name = "eddi.deployment.warmup.steps")
+                     int warmupSteps) {
+        this.warmupEnabled = warmupEnabled;
+        this.warmupSteps = warmupSteps;
+    }
+
+    @Override
+    public void warmup(IBot bot) {
+        if (!warmupEnabled || warmupSteps <= 0 || !(bot instanceof Bot)) {
+            return;
+        }
+
+        var warmupBot = (Bot) bot;
+        List<String> warmupInputs;
+        long[] stepDurations;
+        try {
+            // at least two rounds through all inputs, so that a cold round can be compared with a warm one
+            int maxInputs = Math.max(1, warmupSteps / 2);
+            warmupInputs = warmupBot.createWarmupInputs(maxInputs);
+            if (warmupInputs.size() > maxInputs) {
+                warmupInputs = warmupInputs.subList(0, maxInputs);
+            } else if (warmupInputs.isEmpty()) {
+                // nothing known to the parser, at least run through the regular lifecycle once per step
+                warmupInputs = Collections.singletonList("");
+            }
+
+            stepDurations = new long[countSteps(warmupSteps, warmupInputs.size())];
+            var propertiesHandler = createVolatilePropertiesHandler();
+            IConversation conversation = warmupBot.startWarmupConversation(propertiesHandler);
+            for (int step = 0; step < stepDurations.length; step++) {
+                if (conversation.isEnded()) {
+                    conversation = warmupBot.startWarmupConversation(propertiesHandler);
+                }
+
+                String input = warmupInputs.get(step % warmupInputs.size());
+                long start = System.nanoTime();
+                conversation.say(input, Collections.emptyMap());
+                stepDurations[step] = System.nanoTime() - start;
+            }
+        } catch (LifecycleException | IConversation.ConversationNotReadyException | RuntimeException e) {
+            // a failed warmup must never fail the deployment, the bot simply starts cold
+            log.warn(String.format("Warmup of bot (botId=%s, version=%s) has been aborted: %s",
+                    bot.getBotId(), bot.getBotVersion(), e.getLocalizedMessage()), e);
+            return;
+        }
+
+        logWarmupResult(bot, stepDurations, warmupInputs.size());
+    }
+
+    private static void logWarmupResult(IBot bot, long[] stepDurations, int amountOfWarmupInputs) {
+        double coldP99 = toMillis(coldP99(stepDurations, amountOfWarmupInputs));
+        double warmP99 = toMillis(warmP99(stepDurations, amountOfWarmupInputs));
+        double reduction = coldP99 > 0 ? (1 - warmP99 / coldP99) * 100 : 0;
+
+        log.info(String.format("Bot warmed up with %d steps (botId=%s, version=%s): " +
+                        "p99 latency reduced from %.2fms to %.2fms (%.1f%%)",
+                stepDurations.length, bot.getBotId(), bot.getBotVersion(), coldP99, warmP99, reduction));
+    }
+
+    /**
+     * @return the configured amount of steps, cut down to complete rounds through all warmup inputs,
+     * so that the first (cold) and the last (warm) round run the very same inputs
+     */
+    static int countSteps(int warmupSteps, int amountOfWarmupInputs) {
+        int amountOfInputs = Math.min(amountOfWarmupInputs, warmupSteps);
+        return Math.max(1, warmupSteps / amountOfInputs) * amountOfInputs;
+    }
+
+    /**
+     * @return p99 of the first round of (cold) steps
+     */
+    static long coldP99(long[] stepDurations, int amountOfWarmupInputs) {
+        return p99(Arrays.copyOfRange(stepDurations, 0, sampleSize(stepDurations, amountOfWarmupInputs)));
+    }
+
+    /**
+     * @return p99 of the last round of (warm) steps
+     */
+    static long warmP99(long[] stepDurations, int amountOfWarmupInputs) {
+        return p99(Arrays.copyOfRange(stepDurations,
+                stepDurations.length - sampleSize(stepDurations, amountOfWarmupInputs), stepDurations.length));
+    }
+
+    private static int sampleSize(long[] stepDurations, int amountOfWarmupInputs) {
+        // one round runs through every warmup input once, but cold and warm rounds never overlap
+        return Math.max(1, Math.min(amountOfWarmupInputs, stepDurations.length / 2));
+    }
+
+    static long p99(long[] durations) {
+        long[] sorted = durations.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(sorted.length * 0.99) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    static IPropertiesHandler createVolatilePropertiesHandler() {
+        return new IPropertiesHandler() {
+            @Override
+            public Properties loadProperties() {
+                return new Properties();
+            }
+
+            @Override
+            public void mergeProperties(Properties properties) {
+                // warmup conversations must never leave any traces
+            }
+        };
+    }
+}
@@ -16,7 +16,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -59,7 +59,8 @@ public class BehaviorDeserialization implements IBehaviorDeserialization {
             BehaviorSet behaviorSet = new BehaviorSet();
             BehaviorConfiguration behaviorJson = objectMapper.readerFor(BehaviorConfiguration.class).readValue(json);
 
-            behaviorSet.getBehaviorGroups().addAll(behaviorJson.getBehaviorGroups().stream().map(
+            // behavior rules are shared between conversations and dependency conditions, so nothing may change them
+            behaviorSet.setBehaviorGroups(Collections.unmodifiableList(behaviorJson.getBehaviorGroups().stream().map(
                     groupConfiguration -> {
                         BehaviorGroup behaviorGroup = new BehaviorGroup();
                         behaviorGroup.setName(groupConfiguration.getName());
@@ -73,18 +74,19 @@ public class BehaviorDeserialization implements IBehaviorDeserialization {
 
                         behaviorGroup.setExecutionStrategy(executionStrategy);
 
-                        behaviorGroup.getBehaviorRules().addAll(groupConfiguration.getBehaviorRules().stream().map(
+                        behaviorGroup.setBehaviorRules(Collections.unmodifiableList(groupConfiguration.getBehaviorRules().stream().map(
                                 behaviorRuleJson -> {
                                     BehaviorRule behaviorRule = new BehaviorRule(behaviorRuleJson.getName());
                                     behaviorRule.setActions(behaviorRuleJson.getActions());
-                                    behaviorRule.setConditions(convert(behaviorRuleJson.getConditions(), behaviorSet));
+                                    behaviorRule.setConditions(Collections.unmodifiableList(
+                                            convert(behaviorRuleJson.getConditions(), behaviorSet)));
                                     return behaviorRule;
                                 }
-                        ).collect(Collectors.toList()));
+                        ).collect(Collectors.toList())));
 
                         return behaviorGroup;
                     }
-            ).collect(Collectors.toList()));
+            ).collect(Collectors.toList())));
 
             return behaviorSet;
         } catch (IOException e) {
@@ -113,9 +115,7 @@ public class BehaviorDeserialization implements IBehaviorDeserialization {
                             }
                             var conditions = conditionConfiguration.getConditions();
                             if (!isNullOrEmpty(conditions)) {
-                                var behaviorConditions = convert(conditions, behaviorSet);
-                                List<IBehaviorCondition> conditionsClone = deepCopy(behaviorConditions);
-                                condition.setConditions(conditionsClone);
+                                condition.setConditions(Collections.unmodifiableList(convert(conditions, behaviorSet)));
                             }
                             condition.setContainingBehaviorRuleSet(behaviorSet);
                             return condition;
@@ -123,7 +123,7 @@ public class BehaviorDeserialization implements IBehaviorDeserialization {
 
                         throw new DeserializationException(
                                 format("No condition for type %s was created (%s)", type, conditionsKey));
-                    } catch (CloneNotSupportedException | DeserializationException e) {
+                    } catch (DeserializationException e) {
                         log.error(e.getLocalizedMessage(), e);
                         return null;
                     }
@@ -155,16 +155,4 @@ public class BehaviorDeserialization implements IBehaviorDeserialization {
 
         return null;
     }
-
-    private List<IBehaviorCondition> deepCopy(List<IBehaviorCondition> behaviorConditionList)
-            throws CloneNotSupportedException {
-        List<IBehaviorCondition> executablesClone = new LinkedList<>();
-
-        //deep copy
-        for (IBehaviorCondition behaviorCondition : behaviorConditionList) {
-            executablesClone.add(behaviorCondition.clone());
-        }
-
-        return executablesClone;
-    }
 }
@@ -32,28 +32,34 @@ public class BehaviorRule implements Cloneable {
         if (trace.contains(this)) {
             // this is an infinite loop, thus throw error
             throw throwInfiniteLoopError(trace);
-        } else {
-            trace.add(this);
-
-            ExecutionState state = ExecutionState.NOT_EXECUTED;
-            for (IBehaviorCondition condition : conditions) {
-                var executionState = condition.execute(memory, trace);
-                if (executionState == ExecutionState.FAIL || executionState == ExecutionState.ERROR) {
-                    state = executionState;
-                    break;
-                }
+        }
+
+        BehaviorRuleTrace behaviorRuleTrace = trace instanceof BehaviorRuleTrace ? (BehaviorRuleTrace) trace : null;
+        if (behaviorRuleTrace != null) {
+            ExecutionState memoizedState = behaviorRuleTrace.getExecutionState(this);
+            if (memoizedState != null) {
+                return memoizedState;
             }
+        }
 
-            List<BehaviorRule> tmp = new LinkedList<>(trace);
-            trace.clear();
-            trace.addAll(tmp.subList(0, tmp.indexOf(this)));
+        trace.add(this);
 
-            if (state != ExecutionState.NOT_EXECUTED) {
-                return state;
+        ExecutionState state = ExecutionState.SUCCESS;
+        for (IBehaviorCondition condition : conditions) {
+            var executionState = condition.execute(memory, trace);
+            if (executionState == ExecutionState.FAIL || executionState == ExecutionState.ERROR) {
+                state = executionState;
+                break;
             }
+        }
+
+        trace.subList(trace.indexOf(this), trace.size()).clear();
 
-            return ExecutionState.SUCCESS;
+        if (behaviorRuleTrace != null) {
+            behaviorRuleTrace.putExecutionState(this, state);
         }
+
+        return state;
     }
 
     private InfiniteLoopException throwInfiniteLoopError(List<BehaviorRule> trace) {
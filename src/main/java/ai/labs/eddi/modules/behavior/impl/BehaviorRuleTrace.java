@@ -0,0 +1,28 @@
+package ai.labs.eddi.modules.behavior.impl;
+
+import ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition.ExecutionState;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Trace of the behavior rules currently being executed, scoped to the evaluation of one conversation step.
+ * <p>
+ * Besides detecting cycles between rules (see {@link BehaviorRule#execute}), it remembers the outcome of every
+ * rule that has completed, so rules referenced by several {@link ai.labs.eddi.modules.behavior.impl.conditions.Dependency}
+ * conditions are only executed once per step.
+ *
+ * @author ginccc
+ */
+public class BehaviorRuleTrace extends LinkedList<BehaviorRule> {
+    private final Map<BehaviorRule, ExecutionState> executionStates = new IdentityHashMap<>();
+
+    ExecutionState getExecutionState(BehaviorRule behaviorRule) {
+        return executionStates.get(behaviorRule);
+    }
+
+    void putExecutionState(BehaviorRule behaviorRule, ExecutionState executionState) {
+        executionStates.put(behaviorRule, executionState);
+    }
+}
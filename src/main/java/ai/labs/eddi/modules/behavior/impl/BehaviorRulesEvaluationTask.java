@@ -15,8 +15,10 @@ import ai.labs.eddi.models.ExtensionDescriptor;
 import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.io.IOException;
@@ -24,6 +26,11 @@ import java.net.URI;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static ai.labs.eddi.models.ExtensionDescriptor.ConfigValue;
@@ -44,10 +51,12 @@ public class BehaviorRulesEvaluationTask implements ILifecycleTask {
     private static final String BEHAVIOR_CONFIG_URI = "uri";
     private static final String BEHAVIOR_CONFIG_APPEND_ACTIONS = "appendActions";
     private static final String BEHAVIOR_CONFIG_EXPRESSIONS_AS_ACTIONS = "expressionsAsActions";
+    private static final String BEHAVIOR_CONFIG_PARALLEL_GROUP_EVALUATION = "parallelGroupEvaluation";
     private final IResourceClientLibrary resourceClientLibrary;
     private final IJsonSerialization jsonSerialization;
     private final IBehaviorDeserialization behaviorSerialization;
     private final IExpressionProvider expressionProvider;
+    private final ExecutorService groupExecutor;
 
     private final static boolean appendActionsDefault = true;
     private final static boolean expressionsAsActionsDefault = false;
@@ -58,11 +67,33 @@ public class BehaviorRulesEvaluationTask implements ILifecycleTask {
     public BehaviorRulesEvaluationTask(IResourceClientLibrary resourceClientLibrary,
                                        IJsonSerialization jsonSerialization,
                                        IBehaviorDeserialization behaviorSerialization,
-                                       IExpressionProvider expressionProvider) {
+                                       IExpressionProvider expressionProvider,
+                                       @ConfigProperty(name = "eddi.behavior.parallelGroupEvaluation.threads")
+                                       Integer parallelGroupEvaluationThreads,
+                                       @ConfigProperty(name = "eddi.behavior.parallelGroupEvaluation.queueSize")
+                                       Integer parallelGroupEvaluationQueueSize) {
         this.resourceClientLibrary = resourceClientLibrary;
         this.jsonSerialization = jsonSerialization;
         this.behaviorSerialization = behaviorSerialization;
         this.expressionProvider = expressionProvider;
+        this.groupExecutor = createGroupExecutor(parallelGroupEvaluationThreads, parallelGroupEvaluationQueueSize);
+    }
+
+    private static ExecutorService createGroupExecutor(int threads, int queueSize) {
+        var threadNumber = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "behavior-group-evaluation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @PreDestroy
+    void shutdownGroupExecutor() {
+        groupExecutor.shutdownNow();
     }
 
     @Override
@@ -128,7 +159,7 @@ public class BehaviorRulesEvaluationTask implements ILifecycleTask {
 
         Expressions inputExpressions = new Expressions();
         if (data != null && data.getResult() != null) {
-            inputExpressions = expressionProvider.parseExpressions(data.getResult());
+            inputExpressions = expressionProvider.parseImmutableExpressions(data.getResult());
         }
 
         return inputExpressions.stream().map(Expression::getExpressionName).collect(Collectors.toList());
@@ -184,7 +215,15 @@ public class BehaviorRulesEvaluationTask implements ILifecycleTask {
                 expressionsAsActions = Boolean.parseBoolean(expressionsAsActionsObj.toString());
             }
 
-            return new BehaviorRulesEvaluator(behaviorSet, appendActions, expressionsAsActions);
+            boolean parallelGroupEvaluation = false;
+            Object parallelGroupEvaluationObj = configuration.get(BEHAVIOR_CONFIG_PARALLEL_GROUP_EVALUATION);
+            if (parallelGroupEvaluationObj != null) {
+                parallelGroupEvaluation = Boolean.parseBoolean(parallelGroupEvaluationObj.toString());
+            }
+
+            return new BehaviorRulesEvaluator(behaviorSet, appendActions, expressionsAsActions,
+                    new BehaviorRulesIndex(behaviorSet, expressionProvider),
+                    parallelGroupEvaluation ? groupExecutor : null);
         } catch (IOException | DeserializationException e) {
             String message = "Error while configuring BehaviorRuleLifecycleTask!";
             log.debug(message, e);
@@ -213,6 +252,10 @@ public class BehaviorRulesEvaluationTask implements ILifecycleTask {
                 new ConfigValue("Expressions as Actions", FieldType.BOOLEAN, true, false);
         extensionDescriptor.getConfigs().put(BEHAVIOR_CONFIG_EXPRESSIONS_AS_ACTIONS, expressionsAsActionsConfig);
 
+        var parallelGroupEvaluationConfig =
+                new ConfigValue("Parallel Group Evaluation", FieldType.BOOLEAN, true, false);
+        extensionDescriptor.getConfigs().put(BEHAVIOR_CONFIG_PARALLEL_GROUP_EVALUATION, parallelGroupEvaluationConfig);
+
         return extensionDescriptor;
     }
 }
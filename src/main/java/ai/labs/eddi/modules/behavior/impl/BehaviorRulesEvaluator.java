@@ -1,21 +1,26 @@
 package ai.labs.eddi.modules.behavior.impl;
 
 import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.modules.behavior.impl.conditions.Dependency;
 import ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition;
 import ai.labs.eddi.utils.RuntimeUtilities;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * @author ginccc
  */
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 class BehaviorRulesEvaluator {
@@ -24,52 +29,195 @@ class BehaviorRulesEvaluator {
     boolean appendActions;
     boolean expressionsAsActions;
 
+    /**
+     * optional; without an index every rule is evaluated
+     */
+    private BehaviorRulesIndex behaviorRulesIndex;
+
+    /**
+     * optional; if set, groups without any dependency condition are evaluated concurrently on it
+     */
+    private ExecutorService groupExecutor;
+
+    @Setter(AccessLevel.NONE)
+    private BitSet independentGroups;
+
+    BehaviorRulesEvaluator(BehaviorSet behaviorSet, boolean appendActions, boolean expressionsAsActions,
+                           BehaviorRulesIndex behaviorRulesIndex, ExecutorService groupExecutor) {
+        this.appendActions = appendActions;
+        this.expressionsAsActions = expressionsAsActions;
+        this.behaviorRulesIndex = behaviorRulesIndex;
+        this.groupExecutor = groupExecutor;
+        setBehaviorSet(behaviorSet);
+    }
+
+    void setBehaviorSet(BehaviorSet behaviorSet) {
+        this.behaviorSet = behaviorSet;
+        if (behaviorSet == null) {
+            independentGroups = null;
+            return;
+        }
+
+        independentGroups = new BitSet();
+        int groupIndex = 0;
+        for (BehaviorGroup behaviorGroup : behaviorSet.getBehaviorGroups()) {
+            if (isIndependent(behaviorGroup)) {
+                independentGroups.set(groupIndex);
+            }
+            groupIndex++;
+        }
+    }
+
     BehaviorSetResult evaluate(IConversationMemory memory) throws BehaviorRuleExecutionException, InterruptedException {
         RuntimeUtilities.checkNotNull(behaviorSet, "behaviorSet");
 
-        BehaviorSetResult resultSet = new BehaviorSetResult();
+        BitSet candidateRules = behaviorRulesIndex != null ? behaviorRulesIndex.findCandidateRules(memory) : null;
+        List<Future<BehaviorSetResult>> groupResults = submitIndependentGroups(memory, candidateRules);
 
-        IBehaviorCondition.ExecutionState state;
-        for (BehaviorGroup behaviorGroup : behaviorSet.getBehaviorGroups()) {
-            for (BehaviorRule behaviorRule : behaviorGroup.getBehaviorRules()) {
-                throwExceptionIfInterrupted();
-                if (behaviorRule.getConditions().isEmpty()) {
-                    state = IBehaviorCondition.ExecutionState.SUCCESS;
+        BehaviorSetResult resultSet = new BehaviorSetResult();
+        BehaviorRuleTrace trace = new BehaviorRuleTrace();
+        int groupIndex = 0;
+        int groupPosition = 0;
+        try {
+            for (BehaviorGroup behaviorGroup : behaviorSet.getBehaviorGroups()) {
+                Future<BehaviorSetResult> groupResult = groupResults != null ? groupResults.get(groupIndex++) : null;
+                if (groupResult != null) {
+                    // merged in group order, so the result is the same as evaluating one group after the other
+                    BehaviorSetResult groupResultSet = getGroupResult(groupResult);
+                    resultSet.getSuccessRules().addAll(groupResultSet.getSuccessRules());
+                    resultSet.getFailRules().addAll(groupResultSet.getFailRules());
                 } else {
-                    try {
-                        state = behaviorRule.execute(memory, new LinkedList<>());
-                    } catch (BehaviorRule.InfiniteLoopException | BehaviorRule.RuntimeException e) {
-                        throw new BehaviorRuleExecutionException(e.getLocalizedMessage(), e);
-                    }
+                    evaluateGroup(memory, behaviorGroup, groupPosition, candidateRules, trace, resultSet);
                 }
+                groupPosition += behaviorGroup.getBehaviorRules().size();
+            }
+        } finally {
+            if (groupResults != null) {
+                groupResults.stream().filter(groupResult -> groupResult != null).
+                        forEach(groupResult -> groupResult.cancel(true));
+            }
+        }
+
+        return resultSet;
+    }
+
+    private List<Future<BehaviorSetResult>> submitIndependentGroups(IConversationMemory memory, BitSet candidateRules) {
+        if (groupExecutor == null || independentGroups == null || independentGroups.cardinality() < 2) {
+            return null;
+        }
+
+        List<BehaviorGroup> behaviorGroups = behaviorSet.getBehaviorGroups();
+        List<Future<BehaviorSetResult>> groupResults = new ArrayList<>(behaviorGroups.size());
+        int groupIndex = 0;
+        int groupPosition = 0;
+        for (BehaviorGroup behaviorGroup : behaviorGroups) {
+            if (independentGroups.get(groupIndex++)) {
+                final int position = groupPosition;
+                groupResults.add(groupExecutor.submit(() -> {
+                    BehaviorSetResult groupResultSet = new BehaviorSetResult();
+                    evaluateGroup(memory, behaviorGroup, position, candidateRules,
+                            new BehaviorRuleTrace(), groupResultSet);
+                    return groupResultSet;
+                }));
+            } else {
+                groupResults.add(null);
+            }
+            groupPosition += behaviorGroup.getBehaviorRules().size();
+        }
 
-                if (state == IBehaviorCondition.ExecutionState.SUCCESS) {
-                    resultSet.getSuccessRules().add(behaviorRule);
+        return groupResults;
+    }
 
-                    boolean continueLoopingOnSuccess;
-                    switch (behaviorGroup.getExecutionStrategy()) {
-                        case executeAll:
-                            continueLoopingOnSuccess = true;
-                            break;
-                        default:
-                        case executeUntilFirstSuccess:
-                            continueLoopingOnSuccess = false;
-                    }
+    private static BehaviorSetResult getGroupResult(Future<BehaviorSetResult> groupResult)
+            throws BehaviorRuleExecutionException, InterruptedException {
+        try {
+            return groupResult.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BehaviorRuleExecutionException behaviorRuleExecutionException) {
+                throw behaviorRuleExecutionException;
+            } else if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof java.lang.RuntimeException runtimeException) {
+                throw runtimeException;
+            } else {
+                throw new BehaviorRuleExecutionException(cause.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    private void evaluateGroup(IConversationMemory memory, BehaviorGroup behaviorGroup, int groupPosition,
+                               BitSet candidateRules, BehaviorRuleTrace trace, BehaviorSetResult resultSet)
+            throws BehaviorRuleExecutionException, InterruptedException {
 
-                    if (!continueLoopingOnSuccess) {
+        IBehaviorCondition.ExecutionState state;
+        int rulePosition = groupPosition;
+        for (BehaviorRule behaviorRule : behaviorGroup.getBehaviorRules()) {
+            throwExceptionIfInterrupted();
+            if (!isCandidateRule(candidateRules, rulePosition++)) {
+                // its leading condition cannot match the current step
+                state = IBehaviorCondition.ExecutionState.FAIL;
+            } else if (behaviorRule.getConditions().isEmpty()) {
+                state = IBehaviorCondition.ExecutionState.SUCCESS;
+            } else {
+                try {
+                    state = behaviorRule.execute(memory, trace);
+                } catch (BehaviorRule.InfiniteLoopException | BehaviorRule.RuntimeException e) {
+                    throw new BehaviorRuleExecutionException(e.getLocalizedMessage(), e);
+                }
+            }
+
+            if (state == IBehaviorCondition.ExecutionState.SUCCESS) {
+                resultSet.getSuccessRules().add(behaviorRule);
+
+                boolean continueLoopingOnSuccess;
+                switch (behaviorGroup.getExecutionStrategy()) {
+                    case executeAll:
+                        continueLoopingOnSuccess = true;
                         break;
-                    }
-                } else if (state == IBehaviorCondition.ExecutionState.ERROR) {
-                    String msg = String.format("An Error has occurred while evaluating Behavior Rule: %s",
-                            behaviorRule.getName());
-                    throw new BehaviorRuleExecutionException(msg);
-                } else {
-                    resultSet.getFailRules().add(behaviorRule);
+                    default:
+                    case executeUntilFirstSuccess:
+                        continueLoopingOnSuccess = false;
+                }
+
+                if (!continueLoopingOnSuccess) {
+                    break;
                 }
+            } else if (state == IBehaviorCondition.ExecutionState.ERROR) {
+                String msg = String.format("An Error has occurred while evaluating Behavior Rule: %s",
+                        behaviorRule.getName());
+                throw new BehaviorRuleExecutionException(msg);
+            } else {
+                resultSet.getFailRules().add(behaviorRule);
             }
         }
+    }
 
-        return resultSet;
+    /**
+     * @return true if no rule of this group refers to other rules, so the group can be evaluated on its own
+     */
+    static boolean isIndependent(BehaviorGroup behaviorGroup) {
+        for (BehaviorRule behaviorRule : behaviorGroup.getBehaviorRules()) {
+            if (containsDependency(behaviorRule.getConditions())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean containsDependency(List<IBehaviorCondition> conditions) {
+        for (IBehaviorCondition condition : conditions) {
+            if (condition instanceof Dependency || containsDependency(condition.getConditions())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isCandidateRule(BitSet candidateRules, int rulePosition) {
+        return candidateRules == null || candidateRules.get(rulePosition);
     }
 
     private void throwExceptionIfInterrupted() throws InterruptedException {
@@ -0,0 +1,104 @@
+package ai.labs.eddi.modules.behavior.impl;
+
+import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.engine.memory.IData;
+import ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition;
+import ai.labs.eddi.modules.behavior.impl.conditions.InputMatcher;
+import ai.labs.eddi.modules.nlp.expressions.Expression;
+import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled lookup of the behavior rules of a {@link BehaviorSet} by the input expression or action their
+ * leading condition requires in the current conversation step.
+ * <p>
+ * Rules are addressed by their position when walking all groups in order. A rule whose first condition
+ * requires an expression or action that is missing in the current step can never succeed, so it does not
+ * need to be evaluated. Rules with any other leading condition are always candidates.
+ *
+ * @author ginccc
+ */
+class BehaviorRulesIndex {
+    private static final String KEY_EXPRESSIONS = "expressions";
+    private static final String KEY_ACTIONS = "actions";
+
+    private final IExpressionProvider expressionProvider;
+    private final Map<String, BitSet> rulesByExpressionName = new HashMap<>();
+    private final Map<String, BitSet> rulesByAction = new HashMap<>();
+    private final BitSet unindexedRules = new BitSet();
+
+    BehaviorRulesIndex(BehaviorSet behaviorSet, IExpressionProvider expressionProvider) {
+        this.expressionProvider = expressionProvider;
+
+        int position = 0;
+        for (BehaviorGroup behaviorGroup : behaviorSet.getBehaviorGroups()) {
+            for (BehaviorRule behaviorRule : behaviorGroup.getBehaviorRules()) {
+                indexRule(behaviorRule, position++);
+            }
+        }
+    }
+
+    private void indexRule(BehaviorRule behaviorRule, int position) {
+        List<IBehaviorCondition> conditions = behaviorRule.getConditions();
+        if (conditions.isEmpty()) {
+            unindexedRules.set(position);
+            return;
+        }
+
+        IBehaviorCondition firstCondition = conditions.get(0);
+        String expressionName = firstCondition.getRequiredCurrentExpressionName();
+        String action = firstCondition.getRequiredCurrentAction();
+        if (expressionName != null) {
+            rulesByExpressionName.computeIfAbsent(expressionName, key -> new BitSet()).set(position);
+        } else if (action != null) {
+            rulesByAction.computeIfAbsent(action, key -> new BitSet()).set(position);
+        } else {
+            unindexedRules.set(position);
+        }
+    }
+
+    /**
+     * @return the positions of all rules that may succeed with the current step of this memory
+     */
+    BitSet findCandidateRules(IConversationMemory memory) {
+        BitSet candidates = (BitSet) unindexedRules.clone();
+        IConversationMemory.IWritableConversationStep currentStep = memory.getCurrentStep();
+
+        if (!rulesByExpressionName.isEmpty()) {
+            IData<String> data = currentStep.getLatestData(KEY_EXPRESSIONS);
+            if (data != null && data.getResult() != null) {
+                for (Expression expression : expressionProvider.parseImmutableExpressions(data.getResult())) {
+                    String expressionName = expression.getExpressionName();
+                    if (InputMatcher.ANY_EXPRESSION.equals(expressionName)) {
+                        // a wildcard in the input matches any expression a rule requires
+                        rulesByExpressionName.values().forEach(candidates::or);
+                        break;
+                    }
+
+                    addCandidates(candidates, rulesByExpressionName.get(expressionName));
+                }
+            }
+        }
+
+        if (!rulesByAction.isEmpty()) {
+            IData<List<String>> data = currentStep.getLatestData(KEY_ACTIONS);
+            if (data != null && data.getResult() != null) {
+                for (String action : data.getResult()) {
+                    addCandidates(candidates, rulesByAction.get(action));
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    private static void addCandidates(BitSet candidates, BitSet rules) {
+        if (rules != null) {
+            candidates.or(rules);
+        }
+    }
+}
@@ -96,6 +96,16 @@ public class ActionMatcher extends BaseMatcher implements IBehaviorCondition {
         return Stream.of(actions.split(",")).map(String::trim).collect(Collectors.toList());
     }
 
+    @Override
+    public String getRequiredCurrentAction() {
+        if (occurrence != ConversationStepOccurrence.currentStep ||
+                actions.isEmpty() || KEY_EMPTY.equals(actions.get(0))) {
+            return null;
+        }
+
+        return actions.get(0);
+    }
+
     private boolean isActionEmpty(List<String> actions) {
         return this.actions.size() == 1 &&
                 this.actions.get(0).equals(KEY_EMPTY) &&
@@ -2,6 +2,7 @@ package ai.labs.eddi.modules.behavior.impl.conditions;
 
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IData;
+import ai.labs.eddi.engine.memory.model.Data;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -66,8 +67,24 @@ public abstract class BaseMatcher implements IBehaviorCondition {
     }
 
     boolean occurredInAnyStep(IConversationMemory memory, String dataKey, ValueEvaluation valueEvaluation) {
-        List<IData<String>> allLatestData = memory.getAllSteps().getAllLatestData(dataKey);
-        return allLatestData.stream().anyMatch(latestData -> valueEvaluation.evaluate(latestData) == SUCCESS);
+        var stepCounters = memory.getStepCounters();
+        if (stepCounters == null || !stepCounters.getCountedDataKeys().contains(dataKey)) {
+            List<IData<String>> allLatestData = memory.getAllSteps().getAllLatestData(dataKey);
+            return allLatestData.stream().anyMatch(latestData -> valueEvaluation.evaluate(latestData) == SUCCESS);
+        }
+
+        if (valueEvaluation.evaluate(memory.getCurrentStep().getLatestData(dataKey)) == SUCCESS) {
+            return true;
+        }
+
+        // previous steps with the same result evaluate the same, so each distinct result is evaluated once
+        for (Object result : stepCounters.getLatestResultOccurrences(dataKey).keySet()) {
+            if (valueEvaluation.evaluate(result != null ? new Data<>(dataKey, result) : null) == SUCCESS) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     interface ValueEvaluation {
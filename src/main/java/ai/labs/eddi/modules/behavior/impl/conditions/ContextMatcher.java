@@ -8,12 +8,14 @@ import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
 import ai.labs.eddi.utils.StringUtilities;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import net.minidev.json.JSONValue;
 import org.jboss.logging.Logger;
 
 import java.io.IOException;
@@ -21,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 
 /**
  * @author ginccc
@@ -40,6 +43,7 @@ public class ContextMatcher implements IBehaviorCondition {
     private String contextType;
     private Expressions expressions;
     private ObjectValue object;
+    private JsonPath compiledObjectKeyPath;
     private String string;
     private final String contextKeyQualifier = "contextKey";
     private final String contextTypeQualifier = "contextType";
@@ -95,9 +99,10 @@ public class ContextMatcher implements IBehaviorCondition {
             if (configs.containsKey(contextTypeQualifier)) {
                 contextType = configs.get(contextTypeQualifier);
                 if (configs.get(contextTypeQualifier).equals(expressionsQualifier)) {
-                    expressions = expressionProvider.parseExpressions(configs.get(expressionsQualifier));
+                    expressions = expressionProvider.parseImmutableExpressions(configs.get(expressionsQualifier));
                 } else if (configs.get(contextTypeQualifier).equals(objectQualifier)) {
                     object = new ObjectValue(configs.get(objectKeyPathQualifier), configs.get(objectValueQualifier));
+                    compiledObjectKeyPath = compileObjectKeyPath(object.getObjectKeyPath());
                 } else {
                     string = configs.get(stringQualifier);
                 }
@@ -111,23 +116,23 @@ public class ContextMatcher implements IBehaviorCondition {
 
         ExecutionState state;
         boolean success = false;
+        String contextDataKey = CONTEXT + ":" + contextKey;
         for (IData<Context> contextDatum : contextData) {
             Context context = contextDatum.getResult();
-            if (contextDatum.getKey().equals(CONTEXT + ":" + contextKey)) {
+            if (contextDatum.getKey().equals(contextDataKey)) {
                 switch (context.getType()) {
                     case expressions:
                         Expressions contextExpressions = expressionProvider.
-                                parseExpressions(context.getValue().toString());
+                                parseImmutableExpressions(context.getValue().toString());
                         success = Collections.indexOfSubList(contextExpressions, expressions) != -1;
                         break;
                     case object:
                         try {
                             if (object.getObjectKeyPath() != null) {
-                                final String contextObjectAsJson = jsonSerialization.serialize(context.getValue());
-                                Object foundObjectValue = findObjectValue(contextObjectAsJson);
+                                String foundObjectValue = findObjectValue(context.getValue());
                                 if (foundObjectValue != null) { // key exists in context, so we continue
                                     success = object.getObjectValue() == null ||
-                                            object.getObjectValue().equals(foundObjectValue.toString());
+                                            object.getObjectValue().equals(foundObjectValue);
                                 }
                             }
                         } catch (IOException e) {
@@ -141,6 +146,9 @@ public class ContextMatcher implements IBehaviorCondition {
                         success = string.equals(context.getValue().toString());
                         break;
                 }
+
+                // data keys are unique within a step
+                break;
             }
         }
 
@@ -148,12 +156,55 @@ public class ContextMatcher implements IBehaviorCondition {
         return state;
     }
 
-    private Object findObjectValue(String contextObjectAsJson) {
+    private static JsonPath compileObjectKeyPath(String objectKeyPath) {
+        if (objectKeyPath == null) {
+            return null;
+        }
+
         try {
-            return JsonPath.parse(contextObjectAsJson).read(object.getObjectKeyPath());
+            return JsonPath.compile(objectKeyPath);
+        } catch (InvalidPathException e) {
+            log.warn(String.format("Invalid objectKeyPath '%s': %s", objectKeyPath, e.getLocalizedMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Maps and lists (what JSON context values are deserialized into) are read in place with the compiled path,
+     * anything else is read from its JSON serialization.
+     *
+     * @return the found value as text, or null if the path does not exist
+     */
+    String findObjectValue(Object contextObject) throws IOException {
+        Object foundObjectValue;
+        try {
+            if (compiledObjectKeyPath != null && (contextObject instanceof Map || contextObject instanceof List)) {
+                foundObjectValue = compiledObjectKeyPath.read(contextObject);
+            } else {
+                final String contextObjectAsJson = jsonSerialization.serialize(contextObject);
+                foundObjectValue = JsonPath.parse(contextObjectAsJson).read(object.getObjectKeyPath());
+            }
         } catch (PathNotFoundException e) {
             return null;
         }
+
+        return foundObjectValue != null ? toText(foundObjectValue) : null;
+    }
+
+    /**
+     * Prints in-place values the way the values read from the serialized context print: objects as maps,
+     * arrays as JSON.
+     */
+    private static String toText(Object value) {
+        if (value instanceof List) {
+            return JSONValue.toJSONString(value);
+        } else if (value instanceof Map<?, ?> map) {
+            StringJoiner text = new StringJoiner(", ", "{", "}");
+            map.forEach((key, entryValue) -> text.add(key + "=" + toText(entryValue)));
+            return text.toString();
+        }
+
+        return String.valueOf(value);
     }
 
     @Override
@@ -6,8 +6,8 @@ import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
 import ai.labs.eddi.modules.behavior.impl.BehaviorSet;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +24,7 @@ public class Dependency implements IBehaviorCondition {
 
     private final String referenceQualifier = "reference";
     private BehaviorSet behaviorSet;
+    private volatile List<BehaviorRule> referencedBehaviorRules;
 
     @Override
     public String getId() {
@@ -42,6 +43,7 @@ public class Dependency implements IBehaviorCondition {
         if (configs != null && !configs.isEmpty()) {
             if (configs.containsKey(referenceQualifier)) {
                 reference = configs.get(referenceQualifier);
+                referencedBehaviorRules = null;
             }
         }
     }
@@ -50,21 +52,9 @@ public class Dependency implements IBehaviorCondition {
     public ExecutionState execute(IConversationMemory memory, List<BehaviorRule> trace)
             throws BehaviorRule.InfiniteLoopException, BehaviorRule.RuntimeException {
 
-        //before we execute the behavior rules we make deep copies, so that we don't change the rules in conversation memory!
-        List<BehaviorRule> filteredBehaviorRules = new LinkedList<>();
-        try {
-            List<BehaviorGroup> behaviorGroups = behaviorSet.getBehaviorGroups();
-            List<BehaviorRule> behaviorRules = new LinkedList<>();
-            for (BehaviorGroup behaviorGroup : behaviorGroups) {
-                behaviorRules.addAll(behaviorGroup.getBehaviorRules());
-            }
-            filteredBehaviorRules.addAll(cloneBehaviorRules(behaviorRules, reference));
-        } catch (CloneNotSupportedException e) {
-            throw new BehaviorRule.RuntimeException(e.getLocalizedMessage(), e);
-        }
-
+        //behavior rules are not changed after configuration, so the referenced rules are executed as they are
         ExecutionState state = ExecutionState.NOT_EXECUTED;
-        for (BehaviorRule behaviorRule : filteredBehaviorRules) {
+        for (BehaviorRule behaviorRule : getReferencedBehaviorRules()) {
             state = behaviorRule.execute(memory, trace);
             if (state == ExecutionState.ERROR || state == ExecutionState.SUCCESS) {
                 break;
@@ -80,6 +70,23 @@ public class Dependency implements IBehaviorCondition {
         return state;
     }
 
+    private List<BehaviorRule> getReferencedBehaviorRules() {
+        List<BehaviorRule> referencedBehaviorRules = this.referencedBehaviorRules;
+        if (referencedBehaviorRules == null) {
+            referencedBehaviorRules = new ArrayList<>();
+            for (BehaviorGroup behaviorGroup : behaviorSet.getBehaviorGroups()) {
+                for (BehaviorRule behaviorRule : behaviorGroup.getBehaviorRules()) {
+                    if (behaviorRule.getName().equals(reference)) {
+                        referencedBehaviorRules.add(behaviorRule);
+                    }
+                }
+            }
+            this.referencedBehaviorRules = referencedBehaviorRules;
+        }
+
+        return referencedBehaviorRules;
+    }
+
     @Override
     public IBehaviorCondition clone() {
         Dependency clone = new Dependency();
@@ -88,19 +95,9 @@ public class Dependency implements IBehaviorCondition {
         return clone;
     }
 
-    private List<BehaviorRule> cloneBehaviorRules(List<BehaviorRule> behaviorRules, String filter) throws CloneNotSupportedException {
-        List<BehaviorRule> clone = new LinkedList<>();
-        for (BehaviorRule behaviorRule : behaviorRules) {
-            if (behaviorRule.getName().equals(filter)) {
-                clone.add(behaviorRule.clone());
-            }
-        }
-
-        return clone;
-    }
-
     @Override
     public void setContainingBehaviorRuleSet(BehaviorSet behaviorSet) {
         this.behaviorSet = behaviorSet;
+        this.referencedBehaviorRules = null;
     }
 }
@@ -3,12 +3,15 @@ package ai.labs.eddi.modules.behavior.impl.conditions;
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IMemoryItemConverter;
 import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
+import ai.labs.eddi.utils.OgnlUtilities;
+import ognl.OgnlException;
+import org.jboss.logging.Logger;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static ai.labs.eddi.utils.MatchingUtilities.executeValuePath;
+import static ai.labs.eddi.utils.MatchingUtilities.executeParsedValuePath;
 import static ai.labs.eddi.utils.RuntimeUtilities.isNullOrEmpty;
 
 public class DynamicValueMatcher implements IBehaviorCondition {
@@ -20,12 +23,14 @@ public class DynamicValueMatcher implements IBehaviorCondition {
     }
 
     private String valuePath;
+    private Object parsedValuePath;
     private String contains;
     private String equals;
     private static final String valuePathQualifier = "valuePath";
     private static final String containsQualifier = "contains";
     private static final String equalsQualifier = "equals";
 
+    private static final Logger LOGGER = Logger.getLogger(DynamicValueMatcher.class);
 
     @Override
     public String getId() {
@@ -37,6 +42,7 @@ public class DynamicValueMatcher implements IBehaviorCondition {
         if (!isNullOrEmpty(configs)) {
             if (configs.containsKey(valuePathQualifier)) {
                 valuePath = configs.get(valuePathQualifier);
+                parsedValuePath = parseValuePath(valuePath);
             }
 
             if (configs.containsKey(containsQualifier)) {
@@ -49,6 +55,19 @@ public class DynamicValueMatcher implements IBehaviorCondition {
         }
     }
 
+    private static Object parseValuePath(String valuePath) {
+        if (isNullOrEmpty(valuePath)) {
+            return null;
+        }
+
+        try {
+            return OgnlUtilities.parseExpression(valuePath);
+        } catch (OgnlException e) {
+            LOGGER.warn(String.format("Invalid valuePath in DynamicValueMatcher: %s", valuePath), e);
+            return null;
+        }
+    }
+
     @Override
     public Map<String, String> getConfigs() {
         Map<String, String> configs = new HashMap<>();
@@ -62,9 +81,9 @@ public class DynamicValueMatcher implements IBehaviorCondition {
     @Override
     public ExecutionState execute(IConversationMemory memory, List<BehaviorRule> trace) {
         ExecutionState state;
-        if (!isNullOrEmpty(valuePath)) {
+        if (parsedValuePath != null) {
             var conversationValues = memoryItemConverter.convert(memory);
-            boolean success = executeValuePath(conversationValues, valuePath, equals, contains);
+            boolean success = executeParsedValuePath(conversationValues, parsedValuePath, equals, contains);
             state = success ? ExecutionState.SUCCESS : ExecutionState.FAIL;
         } else {
             state = ExecutionState.FAIL;
@@ -36,6 +36,22 @@ public interface IBehaviorCondition extends Cloneable {
         // not implemented
     }
 
+    /**
+     * @return the name of an expression that has to be part of the current step's input expressions
+     * for this condition to succeed, or null if there is no such single expression
+     */
+    default String getRequiredCurrentExpressionName() {
+        return null;
+    }
+
+    /**
+     * @return an action that has to be part of the current step's actions for this condition to succeed,
+     * or null if there is no such single action
+     */
+    default String getRequiredCurrentAction() {
+        return null;
+    }
+
     enum ExecutionState {
         SUCCESS,
         FAIL,
@@ -3,6 +3,7 @@ package ai.labs.eddi.modules.behavior.impl.conditions;
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IData;
 import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
+import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
 import ai.labs.eddi.utils.StringUtilities;
@@ -24,6 +25,7 @@ import static ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition.E
 public class InputMatcher extends BaseMatcher implements IBehaviorCondition {
     public static final String ID = "inputmatcher";
     private static final String KEY_EXPRESSIONS = "expressions";
+    public static final String ANY_EXPRESSION = "*";
 
     @Getter
     @Setter
@@ -54,7 +56,7 @@ public class InputMatcher extends BaseMatcher implements IBehaviorCondition {
     public void setConfigs(Map<String, String> configs) {
         if (configs != null && !configs.isEmpty()) {
             if (configs.containsKey(expressionsQualifier)) {
-                expressions = expressionProvider.parseExpressions(configs.get(expressionsQualifier));
+                expressions = expressionProvider.parseImmutableExpressions(configs.get(expressionsQualifier));
             }
 
             setConversationOccurrenceQualifier(configs);
@@ -91,7 +93,7 @@ public class InputMatcher extends BaseMatcher implements IBehaviorCondition {
     private ExecutionState evaluateInputExpressions(IData<String> data) {
         Expressions inputExpressions = new Expressions();
         if (data != null && data.getResult() != null) {
-            inputExpressions = expressionProvider.parseExpressions(data.getResult());
+            inputExpressions = expressionProvider.parseImmutableExpressions(data.getResult());
         }
 
         if (isInputEmpty(inputExpressions) ||
@@ -102,6 +104,23 @@ public class InputMatcher extends BaseMatcher implements IBehaviorCondition {
         }
     }
 
+    @Override
+    public String getRequiredCurrentExpressionName() {
+        if (occurrence != ConversationStepOccurrence.currentStep || expressions.isEmpty()) {
+            return null;
+        }
+
+        // wildcards and numeric values match by more than the expression name
+        Expression firstExpression = expressions.get(0);
+        String expressionName = firstExpression.getExpressionName();
+        if (firstExpression.getClass() != Expression.class ||
+                KEY_EMPTY.equals(expressionName) || ANY_EXPRESSION.equals(expressionName)) {
+            return null;
+        }
+
+        return expressionName;
+    }
+
     private boolean isInputEmpty(Expressions inputExpressions) {
         return expressions.size() == 1 &&
                 expressions.get(0).getExpressionName().equals(KEY_EMPTY) &&
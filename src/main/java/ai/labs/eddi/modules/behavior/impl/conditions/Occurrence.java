@@ -91,9 +91,18 @@ public class Occurrence implements IBehaviorCondition {
     @Override
     public ExecutionState execute(IConversationMemory memory, List<BehaviorRule> trace) {
         boolean success;
-        List<List<IData<List<String>>>> allData = memory.getAllSteps().getAllData(BEHAVIOR_RULES_SUCCESS);
+        var stepCounters = memory.getStepCounters();
+        List<List<IData<List<String>>>> allData;
+        int previousTimesOccurred = 0;
+        if (stepCounters != null) {
+            allData = List.of(memory.getCurrentStep().getAllData(BEHAVIOR_RULES_SUCCESS));
+            previousTimesOccurred = stepCounters.countBehaviorRuleSuccesses(behaviorRuleName);
+        } else {
+            allData = memory.getAllSteps().getAllData(BEHAVIOR_RULES_SUCCESS);
+        }
+
         if (allData != null) {
-            final int actualTimesOccurred = countTimesOccurred(getAllBehaviorRules(allData));
+            final int actualTimesOccurred = previousTimesOccurred + countTimesOccurred(getAllBehaviorRules(allData));
             boolean isMin = true;
             boolean isMax = true;
 
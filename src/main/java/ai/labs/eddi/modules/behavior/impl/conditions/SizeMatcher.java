@@ -3,7 +3,7 @@ package ai.labs.eddi.modules.behavior.impl.conditions;
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IMemoryItemConverter;
 import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
-import ognl.Ognl;
+import ai.labs.eddi.utils.OgnlUtilities;
 import ognl.OgnlException;
 import org.jboss.logging.Logger;
 
@@ -23,6 +23,7 @@ public class SizeMatcher implements IBehaviorCondition {
     private final String equalQualifier = "equal";
 
     private String valuePath;
+    private Object parsedValuePath;
     private int max = -1;
     private int min = -1;
     private int equal = -1;
@@ -57,6 +58,14 @@ public class SizeMatcher implements IBehaviorCondition {
         if (configs != null && !configs.isEmpty()) {
             if (configs.containsKey(valuePathQualifier)) {
                 valuePath = configs.get(valuePathQualifier);
+                parsedValuePath = null;
+                if (valuePath != null) {
+                    try {
+                        parsedValuePath = OgnlUtilities.parseExpression(valuePath);
+                    } catch (OgnlException e) {
+                        LOGGER.error(e.getLocalizedMessage(), e);
+                    }
+                }
             }
 
             if (configs.containsKey(minQualifier)) {
@@ -82,7 +91,11 @@ public class SizeMatcher implements IBehaviorCondition {
 
         int size = 0;
         try {
-            size = Integer.parseInt(Ognl.getValue(valuePath, memoryItemConverter.convert(memory)).toString());
+            var conversationValues = memoryItemConverter.convert(memory);
+            Object value = parsedValuePath != null ?
+                    OgnlUtilities.getValueOfParsedExpression(parsedValuePath, conversationValues) :
+                    OgnlUtilities.getValue(valuePath, conversationValues);
+            size = Integer.parseInt(value.toString());
         } catch (OgnlException e) {
             LOGGER.error(e.getLocalizedMessage(), e);
         }
@@ -72,6 +72,11 @@ public class GitCallsTask implements ILifecycleTask {
         return KEY_GIT_CALLS;
     }
 
+    @Override
+    public boolean hasExternalSideEffects() {
+        return true;
+    }
+
     @Override
     public void execute(IConversationMemory memory, Object component) {
         final var gitCallsConfig = (GitCallsConfiguration) component;
@@ -22,7 +22,7 @@ import ai.labs.eddi.models.*;
 import ai.labs.eddi.models.ExtensionDescriptor.ConfigValue;
 import ai.labs.eddi.models.ExtensionDescriptor.FieldType;
 import ai.labs.eddi.modules.templating.ITemplatingEngine;
-import ognl.Ognl;
+import ai.labs.eddi.utils.OgnlUtilities;
 import ognl.OgnlException;
 import org.jboss.logging.Logger;
 
@@ -84,6 +84,11 @@ public class HttpCallsTask implements ILifecycleTask {
         return KEY_HTTP_CALLS;
     }
 
+    @Override
+    public boolean hasExternalSideEffects() {
+        return true;
+    }
+
     @Override
     public void execute(IConversationMemory memory, Object component) throws LifecycleException {
         final var httpCallsConfig = (HttpCallsConfiguration) component;
@@ -427,7 +432,7 @@ public class HttpCallsTask implements ILifecycleTask {
                     Object propertyValue;
                     try {
                         if (!isNullOrEmpty(path)) {
-                            propertyValue = Ognl.getValue(path, templateDataObjects);
+                            propertyValue = OgnlUtilities.getValue(path, templateDataObjects);
                         } else {
                             Object value = propertyInstruction.getValueString();
 
@@ -606,6 +611,7 @@ public class HttpCallsTask implements ILifecycleTask {
                     targetServerUrl = targetServerUrl.substring(0, targetServerUrl.length() - 2);
                 }
                 httpCallsConfig.setTargetServerUrl(targetServerUrl);
+                preparseObjectPaths(httpCallsConfig);
                 return httpCallsConfig;
             } catch (ServiceException e) {
                 LOGGER.error(e.getLocalizedMessage(), e);
@@ -616,6 +622,37 @@ public class HttpCallsTask implements ILifecycleTask {
         throw new PackageConfigurationException("No resource URI has been defined! [HttpCallsConfiguration]");
     }
 
+    private static void preparseObjectPaths(HttpCallsConfiguration httpCallsConfig) {
+        if (httpCallsConfig.getHttpCalls() == null) {
+            return;
+        }
+
+        for (HttpCall httpCall : httpCallsConfig.getHttpCalls()) {
+            PreRequest preRequest = httpCall.getPreRequest();
+            if (preRequest != null) {
+                preparseObjectPaths(preRequest.getPropertyInstructions());
+            }
+
+            PostResponse postResponse = httpCall.getPostResponse();
+            if (postResponse != null) {
+                preparseObjectPaths(postResponse.getPropertyInstructions());
+
+                var retryHttpCallInstruction = postResponse.getRetryHttpCallInstruction();
+                if (retryHttpCallInstruction != null && retryHttpCallInstruction.getResponseValuePathMatchers() != null) {
+                    retryHttpCallInstruction.getResponseValuePathMatchers().forEach(
+                            matchingInfo -> OgnlUtilities.preparseExpression(matchingInfo.getValuePath()));
+                }
+            }
+        }
+    }
+
+    private static void preparseObjectPaths(List<PropertyInstruction> propertyInstructions) {
+        if (propertyInstructions != null) {
+            propertyInstructions.forEach(propertyInstruction ->
+                    OgnlUtilities.preparseExpression(propertyInstruction.getFromObjectPath()));
+        }
+    }
+
     @Override
     public ExtensionDescriptor getExtensionDescriptor() {
         ExtensionDescriptor extensionDescriptor = new ExtensionDescriptor(ID);
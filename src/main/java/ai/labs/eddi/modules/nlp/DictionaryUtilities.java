@@ -60,6 +60,7 @@ public class DictionaryUtilities {
                 dictionary.addWord(quickReplyValue, expressions, 0);
             }
         });
+        dictionary.buildIndex();
         ret.add(dictionary);
 
         return ret;
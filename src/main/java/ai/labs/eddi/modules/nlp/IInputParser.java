@@ -12,6 +12,8 @@ import java.util.List;
 public interface IInputParser {
     Config getConfig();
 
+    List<IDictionary> getDictionaries();
+
     String normalize(String sentence, String userLanguage) throws InterruptedException;
 
     List<RawSolution> parse(String sentence) throws InterruptedException;
@@ -28,5 +30,7 @@ public interface IInputParser {
         private boolean appendExpressions = true;
         private boolean includeUnused = true;
         private boolean includeUnknown = true;
+        // if greater than 0, only this many of the best scored word combinations are matched against phrases
+        private int beamWidth = 0;
     }
 }
@@ -22,22 +22,31 @@ import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.providers.IDictionaryProvider;
 import ai.labs.eddi.modules.nlp.extensions.normalizers.INormalizer;
 import ai.labs.eddi.modules.nlp.extensions.normalizers.providers.INormalizerProvider;
+import ai.labs.eddi.modules.nlp.internal.CachingInputParser;
 import ai.labs.eddi.modules.nlp.internal.InputParser;
 import ai.labs.eddi.modules.nlp.internal.matches.RawSolution;
 import ai.labs.eddi.modules.output.model.QuickReply;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import java.net.URI;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ai.labs.eddi.engine.memory.ContextUtilities.retrieveContextLanguageFromLongTermMemory;
 import static ai.labs.eddi.models.ExtensionDescriptor.FieldType.BOOLEAN;
+import static ai.labs.eddi.models.ExtensionDescriptor.FieldType.INT;
 import static ai.labs.eddi.modules.nlp.DictionaryUtilities.convertQuickReplies;
 import static ai.labs.eddi.modules.nlp.DictionaryUtilities.extractExpressions;
 import static ai.labs.eddi.utils.RuntimeUtilities.isNullOrEmpty;
@@ -54,6 +63,7 @@ public class InputParserTask implements ILifecycleTask {
     private static final String CONFIG_APPEND_EXPRESSIONS = "appendExpressions";
     private static final String CONFIG_INCLUDE_UNUSED = "includeUnused";
     private static final String CONFIG_INCLUDE_UNKNOWN = "includeUnknown";
+    private static final String CONFIG_BEAM_WIDTH = "beamWidth";
     private static final String EXTENSION_NAME_NORMALIZER = "normalizer";
     private static final String EXTENSION_NAME_DICTIONARIES = "dictionaries";
     private static final String EXTENSION_NAME_CORRECTIONS = "corrections";
@@ -66,11 +76,20 @@ public class InputParserTask implements ILifecycleTask {
     private static final String KEY_INTENT = "intents";
     private static final String KEY_TYPE = "type";
     private static final String KEY_CONFIG = "config";
+    private static final int TEMPORARY_DICTIONARIES_CACHE_SIZE = 1000;
 
     private final IExpressionProvider expressionProvider;
     private final Map<String, Provider<INormalizerProvider>> normalizerProviders;
     private final Map<String, Provider<IDictionaryProvider>> dictionaryProviders;
     private final Map<String, Provider<ICorrectionProvider>> correctionProviders;
+    private final boolean parseCacheEnabled;
+    private final long parseCacheMaximumSize;
+    private final Duration parseCacheExpireAfterWrite;
+    private final Counter parseCacheHits;
+    private final Counter parseCacheMisses;
+    // the same quick reply menu is shown to many users, so its dictionaries are built only once
+    private final Cache<List<QuickReply>, List<IDictionary>> temporaryDictionaries =
+            Caffeine.newBuilder().maximumSize(TEMPORARY_DICTIONARIES_CACHE_SIZE).build();
 
     private static final Logger log = Logger.getLogger(InputParserTask.class);
 
@@ -79,12 +98,22 @@ public class InputParserTask implements ILifecycleTask {
                            @ParserNormalizerExtensions Map<String, Provider<INormalizerProvider>> normalizerProviders,
                            @ParserDictionaryExtensions Map<String, Provider<IDictionaryProvider>> dictionaryProviders,
                            @ParserCorrectionExtensions Map<String, Provider<ICorrectionProvider>> correctionProviders,
-                           ObjectMapper objectMapper) {
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @ConfigProperty(name = "eddi.parser.cache.enabled") Boolean parseCacheEnabled,
+                           @ConfigProperty(name = "eddi.parser.cache.maximumSize") Long parseCacheMaximumSize,
+                           @ConfigProperty(name = "eddi.parser.cache.expireAfterWriteInSeconds")
+                           Long parseCacheExpireAfterWriteInSeconds) {
         this.expressionProvider = expressionProvider;
         this.normalizerProviders = normalizerProviders;
         this.dictionaryProviders = dictionaryProviders;
         this.correctionProviders = correctionProviders;
         this.objectMapper = objectMapper;
+        this.parseCacheEnabled = parseCacheEnabled;
+        this.parseCacheMaximumSize = parseCacheMaximumSize;
+        this.parseCacheExpireAfterWrite = Duration.ofSeconds(parseCacheExpireAfterWriteInSeconds);
+        this.parseCacheHits = meterRegistry.counter("eddi.parser.cache.hits");
+        this.parseCacheMisses = meterRegistry.counter("eddi.parser.cache.misses");
     }
 
     @Override
@@ -125,6 +154,23 @@ public class InputParserTask implements ILifecycleTask {
     }
 
 
+    @Override
+    public List<String> createWarmupInputs(Object component, int maxInputs) {
+        final IInputParser parser = (IInputParser) component;
+        if (parser == null) {
+            return Collections.emptyList();
+        }
+
+        // every known phrase and word is an input this bot is expected to understand, only the first ones are taken
+        return parser.getDictionaries().stream().
+                flatMap(dictionary -> Stream.concat(
+                        dictionary.getPhrases().stream().map(IDictionary.IPhrase::getValue),
+                        dictionary.getWords().stream().filter(word -> !word.isPartOfPhrase()).
+                                map(IDictionary.IWord::getValue))).
+                limit(maxInputs).
+                collect(Collectors.toList());
+    }
+
     private List<IDictionary> prepareTemporaryDictionaries(IConversationMemory memory) {
         List<ConversationOutput> conversationOutputs = memory.getConversationOutputs();
         if (conversationOutputs.isEmpty() || conversationOutputs.size() < 2) {
@@ -136,7 +182,8 @@ public class InputParserTask implements ILifecycleTask {
         List<Map<String, Object>> quickRepliesOutput = convertObjectToListOfMaps(conversationOutput);
         if (quickRepliesOutput != null) {
             List<QuickReply> quickReplies = extractQuickReplies(quickRepliesOutput);
-            temporaryDictionaries = convertQuickReplies(quickReplies, expressionProvider);
+            temporaryDictionaries = this.temporaryDictionaries.get(quickReplies,
+                    key -> Collections.unmodifiableList(convertQuickReplies(key, expressionProvider)));
         }
 
         return temporaryDictionaries;
@@ -175,7 +222,8 @@ public class InputParserTask implements ILifecycleTask {
             if (parserConfig.isAppendExpressions() && !newExpressions.isEmpty()) {
                 IData<String> latestExpressions = currentStep.getLatestData(KEY_EXPRESSIONS_PARSED);
                 if (latestExpressions != null) {
-                    Expressions currentExpressions = expressionProvider.parseExpressions(latestExpressions.getResult());
+                    Expressions currentExpressions =
+                            new Expressions(expressionProvider.parseImmutableExpressions(latestExpressions.getResult()));
                     currentExpressions.addAll(newExpressions);
                     newExpressions = currentExpressions.stream().distinct().collect(Collectors.toCollection(Expressions::new));
                 }
@@ -219,6 +267,11 @@ public class InputParserTask implements ILifecycleTask {
             config.setIncludeUnknown(Boolean.parseBoolean(includeUnknown.toString()));
         }
 
+        Object beamWidth = configuration.get(CONFIG_BEAM_WIDTH);
+        if (!isNullOrEmpty(beamWidth)) {
+            config.setBeamWidth(Integer.parseInt(beamWidth.toString()));
+        }
+
         List<INormalizer> normalizers = new LinkedList<>();
         List<IDictionary> dictionaries = new LinkedList<>();
         List<ICorrection> corrections = new LinkedList<>();
@@ -240,7 +293,14 @@ public class InputParserTask implements ILifecycleTask {
             }
         }
 
-        return new InputParser(normalizers, dictionaries, corrections, config);
+        IInputParser inputParser = new InputParser(normalizers, dictionaries, corrections, config);
+        if (parseCacheEnabled) {
+            // each configuration gets its own parser instance, hence its own cache
+            inputParser = new CachingInputParser(inputParser,
+                    parseCacheMaximumSize, parseCacheExpireAfterWrite, parseCacheHits, parseCacheMisses);
+        }
+
+        return inputParser;
     }
 
 
@@ -284,6 +344,7 @@ public class InputParserTask implements ILifecycleTask {
         extensionConfigs.put(CONFIG_APPEND_EXPRESSIONS, new ConfigValue("Append Expressions", BOOLEAN, true, true));
         extensionConfigs.put(CONFIG_INCLUDE_UNUSED, new ConfigValue("Include Unused Expressions", BOOLEAN, true, true));
         extensionConfigs.put(CONFIG_INCLUDE_UNKNOWN, new ConfigValue("Include Unknown Expressions", BOOLEAN, true, true));
+        extensionConfigs.put(CONFIG_BEAM_WIDTH, new ConfigValue("Beam Width (0 = all word combinations)", INT, true, 0));
         extensionDescriptor.setConfigs(extensionConfigs);
 
         return extensionDescriptor;
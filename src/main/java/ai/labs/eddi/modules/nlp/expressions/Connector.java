@@ -21,10 +21,12 @@ public class Connector extends Expression {
     }
 
     public void setConnector(Expression connector) {
+        checkMutable();
         this.expressionName = connector.toString();
     }
 
     public void setDomain(String domain) {
+        checkMutable();
         this.domain = domain;
         for (Expression exp : subExpressions)
             exp.setDomain(domain);
@@ -14,6 +14,7 @@ public class Expression implements Cloneable {
     protected String domain;
     protected String expressionName;
     protected Expressions subExpressions = new Expressions();
+    private boolean immutable;
 
     protected Expression() {
     }
@@ -37,6 +38,7 @@ public class Expression implements Cloneable {
     }
 
     public void setExpressionName(String expressionName) {
+        checkMutable();
         int dot = expressionName.indexOf(".");
         if (dot == -1 || CharacterUtilities.isNumber(expressionName, false))
             this.expressionName = expressionName;
@@ -53,15 +55,18 @@ public class Expression implements Cloneable {
     }
 
     public void setSubExpressions(Expression... subExpressions) {
+        checkMutable();
         this.subExpressions = new Expressions();
         Collections.addAll(this.subExpressions, subExpressions);
     }
 
     public void setSubExpressions(Expressions subExpressions) {
+        checkMutable();
         this.subExpressions = subExpressions;
     }
 
     public void setSubExpression(int index, Expression subExpression) {
+        checkMutable();
         if (index < 0 || index >= this.subExpressions.size()) {
             log.error("Tried to set a subexpression out of bounds!");
             return;
@@ -71,12 +76,14 @@ public class Expression implements Cloneable {
     }
 
     public void addSubExpressions(Expression... subExpressions) {
+        checkMutable();
         Expressions subExpsList = new Expressions();
         Collections.addAll(subExpsList, subExpressions);
         this.subExpressions.addAll(subExpsList);
     }
 
     public void addSubExpressions(int index, Expression... subExpressions) {
+        checkMutable();
         if (index < 0 || index > this.subExpressions.size()) {
             log.error("Tried to set a subexpression out of bounds!");
             return;
@@ -88,10 +95,12 @@ public class Expression implements Cloneable {
     }
 
     public void addSubExpressions(Expressions subExpressions) {
+        checkMutable();
         this.subExpressions.addAll(subExpressions);
     }
 
     public void removeSubExpressions(Expression... subExpressions) {
+        checkMutable();
         for (Expression exp : subExpressions) {
             this.subExpressions.remove(exp);
         }
@@ -106,6 +115,7 @@ public class Expression implements Cloneable {
     }
 
     public void clearSubExpressions() {
+        checkMutable();
         this.subExpressions.clear();
     }
 
@@ -120,6 +130,7 @@ public class Expression implements Cloneable {
     }
 
     public void setDomain(String domain) {
+        checkMutable();
         this.domain = domain;
     }
 
@@ -158,6 +169,31 @@ public class Expression implements Cloneable {
         return result;
     }
 
+    /**
+     * @return an immutable deep copy of this expression (or this expression, if already immutable),
+     * which can be shared between callers and threads. Use {@link #safeClone()} to get a mutable copy of it.
+     */
+    public Expression toImmutable() {
+        if (immutable) {
+            return this;
+        }
+
+        Expression ret = safeClone();
+        ret.subExpressions = new ImmutableExpressions(ret.subExpressions);
+        ret.immutable = true;
+        return ret;
+    }
+
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    protected void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("Expression is immutable: " + this);
+        }
+    }
+
     public Expression safeClone() {
         try {
             Object clone = this.clone();
@@ -172,6 +208,7 @@ public class Expression implements Cloneable {
     @Override
     public Object clone() throws CloneNotSupportedException {
         Expression ret = (Expression) super.clone();
+        ret.immutable = false;
         Expressions tmp = new Expressions();
 
         for (Expression exp : subExpressions) {
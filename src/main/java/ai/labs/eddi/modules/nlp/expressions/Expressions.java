@@ -26,6 +26,13 @@ public class Expressions extends LinkedList<Expression> {
         add(expression);
     }
 
+    /**
+     * @return a read-only deep copy, safe to be shared between callers and threads
+     */
+    public ImmutableExpressions toImmutable() {
+        return new ImmutableExpressions(this);
+    }
+
     @Override
     public String toString() {
         Iterator<Expression> it = iterator();
@@ -0,0 +1,285 @@
+package ai.labs.eddi.modules.nlp.expressions;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-only {@link Expressions} holding only immutable {@link Expression}s, so instances can be cached and
+ * shared between threads. Every modification throws an {@link UnsupportedOperationException};
+ * {@link #clone()} returns a mutable deep copy.
+ *
+ * @author ginccc
+ */
+public final class ImmutableExpressions extends Expressions {
+    private final boolean initialized;
+
+    public ImmutableExpressions(List<Expression> expressions) {
+        for (Expression expression : expressions) {
+            super.add(expression.toImmutable());
+        }
+        initialized = true;
+    }
+
+    @Override
+    public ImmutableExpressions toImmutable() {
+        return this;
+    }
+
+    private void checkMutable() {
+        if (initialized) {
+            throw new UnsupportedOperationException("Expressions are immutable.");
+        }
+    }
+
+    @Override
+    public boolean add(Expression expression) {
+        checkMutable();
+        return super.add(expression);
+    }
+
+    @Override
+    public void add(int index, Expression element) {
+        checkMutable();
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Expression> c) {
+        checkMutable();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Expression> c) {
+        checkMutable();
+        return super.addAll(index, c);
+    }
+
+    @Override
+    public void addFirst(Expression expression) {
+        checkMutable();
+        super.addFirst(expression);
+    }
+
+    @Override
+    public void addLast(Expression expression) {
+        checkMutable();
+        super.addLast(expression);
+    }
+
+    @Override
+    public boolean offer(Expression expression) {
+        checkMutable();
+        return super.offer(expression);
+    }
+
+    @Override
+    public boolean offerFirst(Expression expression) {
+        checkMutable();
+        return super.offerFirst(expression);
+    }
+
+    @Override
+    public boolean offerLast(Expression expression) {
+        checkMutable();
+        return super.offerLast(expression);
+    }
+
+    @Override
+    public void push(Expression expression) {
+        checkMutable();
+        super.push(expression);
+    }
+
+    @Override
+    public Expression pop() {
+        checkMutable();
+        return super.pop();
+    }
+
+    @Override
+    public Expression poll() {
+        checkMutable();
+        return super.poll();
+    }
+
+    @Override
+    public Expression pollFirst() {
+        checkMutable();
+        return super.pollFirst();
+    }
+
+    @Override
+    public Expression pollLast() {
+        checkMutable();
+        return super.pollLast();
+    }
+
+    @Override
+    public Expression remove() {
+        checkMutable();
+        return super.remove();
+    }
+
+    @Override
+    public Expression remove(int index) {
+        checkMutable();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        checkMutable();
+        return super.remove(o);
+    }
+
+    @Override
+    public Expression removeFirst() {
+        checkMutable();
+        return super.removeFirst();
+    }
+
+    @Override
+    public Expression removeLast() {
+        checkMutable();
+        return super.removeLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        checkMutable();
+        return super.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        checkMutable();
+        return super.removeLastOccurrence(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        checkMutable();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        checkMutable();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Expression> filter) {
+        checkMutable();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Expression> operator) {
+        checkMutable();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super Expression> c) {
+        checkMutable();
+        super.sort(c);
+    }
+
+    @Override
+    public Expression set(int index, Expression element) {
+        checkMutable();
+        return super.set(index, element);
+    }
+
+    @Override
+    public void clear() {
+        checkMutable();
+        super.clear();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkMutable();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public ListIterator<Expression> listIterator(int index) {
+        ListIterator<Expression> listIterator = super.listIterator(index);
+        return new ListIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return listIterator.hasNext();
+            }
+
+            @Override
+            public Expression next() {
+                return listIterator.next();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return listIterator.hasPrevious();
+            }
+
+            @Override
+            public Expression previous() {
+                return listIterator.previous();
+            }
+
+            @Override
+            public int nextIndex() {
+                return listIterator.nextIndex();
+            }
+
+            @Override
+            public int previousIndex() {
+                return listIterator.previousIndex();
+            }
+
+            @Override
+            public void remove() {
+                checkMutable();
+            }
+
+            @Override
+            public void set(Expression expression) {
+                checkMutable();
+            }
+
+            @Override
+            public void add(Expression expression) {
+                checkMutable();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Expression> descendingIterator() {
+        Iterator<Expression> descendingIterator = super.descendingIterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return descendingIterator.hasNext();
+            }
+
+            @Override
+            public Expression next() {
+                return descendingIterator.next();
+            }
+        };
+    }
+
+    @Override
+    public Object clone() {
+        Expressions ret = new Expressions();
+        for (Expression expression : this) {
+            ret.add(expression.safeClone());
+        }
+
+        return ret;
+    }
+}
@@ -35,10 +35,12 @@ public class Negation extends Expression {
 
     @Override
     public void setExpressionName(String expressionName) {
+        checkMutable();
         super.expressionName = expressionName;
     }
 
     public void setCategory(String category) {
+        checkMutable();
         this.domain = category;
         if (getSubExpressions().length > 0)
             getSubExpressions()[0].setDomain(category);
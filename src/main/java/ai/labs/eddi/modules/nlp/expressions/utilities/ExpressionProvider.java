@@ -3,7 +3,10 @@ package ai.labs.eddi.modules.nlp.expressions.utilities;
 import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.IExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.ImmutableExpressions;
 import ai.labs.eddi.modules.nlp.expressions.value.Value;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.jboss.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,7 +21,11 @@ import static java.lang.String.format;
 
 @ApplicationScoped
 public class ExpressionProvider implements IExpressionProvider {
+    private static final int EXPRESSIONS_CACHE_SIZE = 10000;
+    private static final ImmutableExpressions NO_EXPRESSIONS = new ImmutableExpressions(new Expressions());
     private final IExpressionFactory expressionFactory;
+    private final Cache<String, ImmutableExpressions> parsedExpressions =
+            Caffeine.newBuilder().maximumSize(EXPRESSIONS_CACHE_SIZE).build();
 
     private static final Logger log = Logger.getLogger(ExpressionProvider.class);
 
@@ -48,6 +55,30 @@ public class ExpressionProvider implements IExpressionProvider {
             return new Expressions();
         }
 
+        // copying the cached expressions is cheaper than parsing them again
+        ImmutableExpressions immutableExpressions = parseImmutableExpressions(expressions);
+        Expressions ret = new Expressions();
+        for (Expression expression : immutableExpressions) {
+            ret.add(expression.safeClone());
+        }
+
+        return ret;
+    }
+
+    @Override
+    public ImmutableExpressions parseImmutableExpressions(String expressions) {
+        if (isNullOrEmpty(expressions)) {
+            return NO_EXPRESSIONS;
+        }
+
+        return parsedExpressions.get(expressions, key -> parseMutableExpressions(key).toImmutable());
+    }
+
+    private Expressions parseMutableExpressions(String expressions) {
+        if (isNullOrEmpty(expressions)) {
+            return new Expressions();
+        }
+
         List<String> listStringExpressions = new ArrayList<>();
 
         expressions = expressions.trim();
@@ -107,7 +138,7 @@ public class ExpressionProvider implements IExpressionProvider {
             exp = new Expression(tmp.trim());
             try {
                 String subExpressions = expression.substring(indexOfOpening + 1, indexOfClosing);
-                Expressions expressions = parseExpressions(subExpressions);
+                Expressions expressions = parseMutableExpressions(subExpressions);
                 exp.setSubExpressions(expressions);
             } catch (Exception e) {
                 log.error(format("Error while parsing Expression: %s, indexOfOpening: %s, indexOfClosing: %s, message: %s",
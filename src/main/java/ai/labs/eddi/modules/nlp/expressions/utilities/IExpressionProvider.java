@@ -2,6 +2,7 @@ package ai.labs.eddi.modules.nlp.expressions.utilities;
 
 import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
+import ai.labs.eddi.modules.nlp.expressions.ImmutableExpressions;
 import ai.labs.eddi.modules.nlp.expressions.value.Value;
 
 import java.util.List;
@@ -11,6 +12,12 @@ public interface IExpressionProvider {
 
     Expressions parseExpressions(String expressions);
 
+    /**
+     * Like {@link #parseExpressions(String)}, but returns cached, read-only expressions for callers that
+     * only inspect them.
+     */
+    ImmutableExpressions parseImmutableExpressions(String expressions);
+
     Expression parseExpression(String expression);
 
     void extractAllValues(Expression exp, List<Value> ret);
@@ -1,11 +1,11 @@
 package ai.labs.eddi.modules.nlp.extensions.corrections;
 
-import ai.labs.eddi.modules.nlp.extensions.corrections.similarities.DamerauLevenshteinDistance;
-import ai.labs.eddi.modules.nlp.extensions.corrections.similarities.IDistanceCalculator;
+import ai.labs.eddi.modules.nlp.extensions.corrections.similarities.BoundedDamerauLevenshteinDistance;
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 import ai.labs.eddi.modules.nlp.model.FoundWord;
 import ai.labs.eddi.modules.nlp.model.Word;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,46 +16,69 @@ import java.util.stream.Collectors;
  */
 public class DamerauLevenshteinCorrection implements ICorrection {
     private final int maxDistance;
-    private final IDistanceCalculator distanceCalculator = new DamerauLevenshteinDistance();
+    private final BoundedDamerauLevenshteinDistance distanceCalculator = new BoundedDamerauLevenshteinDistance();
     private final boolean lookupIfKnown;
+    private final boolean indexed;
     private List<IDictionary> dictionaries;
 
+    // only set in indexed mode: the words of all dictionaries in lookup order, and their symmetric delete index
+    private IDictionary.IWord[] indexedWords;
+    private String[] lowerCaseIndexedWords;
+    private SymmetricDeleteIndex symmetricDeleteIndex;
+
     public DamerauLevenshteinCorrection() {
         this(2, false);
     }
 
     public DamerauLevenshteinCorrection(int maxDistance, boolean lookupIfKnown) {
+        this(maxDistance, lookupIfKnown, false);
+    }
+
+    /**
+     * @param indexed precompute a symmetric delete index of the dictionaries in {@link #init(List)} instead of
+     *                comparing the lookup with every word, results are the same in both modes. The index holds
+     *                every deletion variant of every word up to maxDistance, so its memory grows with the size
+     *                of the dictionaries and steeply with the distance
+     */
+    public DamerauLevenshteinCorrection(int maxDistance, boolean lookupIfKnown, boolean indexed) {
         this.maxDistance = maxDistance;
         this.lookupIfKnown = lookupIfKnown;
+        this.indexed = indexed;
     }
 
     @Override
     public void init(List<IDictionary> dictionaries) {
         this.dictionaries = dictionaries;
+
+        if (indexed) {
+            List<IDictionary.IWord> words = new ArrayList<>();
+            dictionaries.forEach(dictionary -> words.addAll(dictionary.getWords()));
+            indexedWords = words.toArray(new IDictionary.IWord[0]);
+            lowerCaseIndexedWords = words.stream().map(word -> word.getValue().toLowerCase()).toArray(String[]::new);
+            symmetricDeleteIndex = new SymmetricDeleteIndex(List.of(lowerCaseIndexedWords), maxDistance);
+        }
     }
 
     @Override
     public List<IDictionary.IFoundWord> correctWord(String lookup, String userLanguage, List<IDictionary> temporaryDictionaries) {
-        List<WordDistanceWrapper> foundWords = new LinkedList<>();
+        List<WordDistanceWrapper> foundWords = new ArrayList<>();
         var lowerCaseLookup = lookup.toLowerCase();
 
-        List<IDictionary> allDictionaries = new LinkedList<>();
-        allDictionaries.addAll(temporaryDictionaries);
-        allDictionaries.addAll(dictionaries);
+        List<IDictionary> allDictionaries = new LinkedList<>(temporaryDictionaries);
+        if (symmetricDeleteIndex == null) {
+            allDictionaries.addAll(dictionaries);
+        }
 
         for (IDictionary dictionary : allDictionaries) {
             for (IDictionary.IWord word : dictionary.getWords()) {
-                final int distance = calculateDistance(lowerCaseLookup, word.getValue().toLowerCase());
-
-                if (distance > -1) {
-                    Word entry = new Word(word.getValue(),
-                            word.getExpressions(),
-                            word.getLanguageCode(),
-                            word.getFrequency(),
-                            word.isPartOfPhrase());
+                addIfWithinDistance(foundWords, lowerCaseLookup, word, word.getValue().toLowerCase());
+            }
+        }
 
-                    foundWords.add(new WordDistanceWrapper(distance, entry));
-                }
+        if (symmetricDeleteIndex != null) {
+            var candidates = symmetricDeleteIndex.lookupCandidates(lowerCaseLookup);
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                addIfWithinDistance(foundWords, lowerCaseLookup, indexedWords[i], lowerCaseIndexedWords[i]);
             }
         }
 
@@ -72,12 +95,27 @@ public class DamerauLevenshteinCorrection implements ICorrection {
         return lookupIfKnown;
     }
 
+    private void addIfWithinDistance(List<WordDistanceWrapper> foundWords, String lowerCaseLookup,
+                                     IDictionary.IWord word, String lowerCaseWord) {
+        final int distance = calculateDistance(lowerCaseLookup, lowerCaseWord);
+
+        if (distance > -1) {
+            Word entry = new Word(word.getValue(),
+                    word.getExpressions(),
+                    word.getLanguageCode(),
+                    word.getFrequency(),
+                    word.isPartOfPhrase());
+
+            foundWords.add(new WordDistanceWrapper(distance, entry));
+        }
+    }
+
     private int calculateDistance(String inputPart, String word) {
         int lengthWord = word.length();
         int lengthPart = inputPart.length();
         int distance;
         if (lengthWord < (lengthPart - maxDistance) || lengthWord > (lengthPart + maxDistance) ||
-                (distance = distanceCalculator.calculate(word, inputPart)) > maxDistance) {
+                (distance = distanceCalculator.calculate(word, inputPart, maxDistance)) > maxDistance) {
             distance = -1;
         }
 
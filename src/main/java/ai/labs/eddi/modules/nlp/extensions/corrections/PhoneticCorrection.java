@@ -5,18 +5,21 @@ import ai.labs.eddi.modules.nlp.model.FoundWord;
 import org.apache.commons.codec.language.DoubleMetaphone;
 import org.apache.commons.codec.language.RefinedSoundex;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.*;
+
+import static ai.labs.eddi.utils.RuntimeUtilities.isNullOrEmpty;
 
 
 /**
  * @author ginccc
  */
 public class PhoneticCorrection implements ICorrection {
-    private HashMap<String, List<IDictionary.IFoundWord>> soundexCodes;
-    private HashMap<String, List<IDictionary.IFoundWord>> metaphoneCodes;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    // phonetic code -> positions of all words with that code in foundWords, ascending
+    private Map<String, int[]> soundexCodes;
+    private Map<String, int[]> metaphoneCodes;
+    private IDictionary.IFoundWord[] foundWords;
     private RefinedSoundex refinedSoundex;
     private DoubleMetaphone doubleMetaphone;
     private boolean lookupIfKnown;
@@ -26,19 +29,40 @@ public class PhoneticCorrection implements ICorrection {
         refinedSoundex = new RefinedSoundex();
         doubleMetaphone = new DoubleMetaphone();
 
-        metaphoneCodes = new HashMap<>();
-        soundexCodes = new HashMap<>();
+        metaphoneCodes = Collections.emptyMap();
+        soundexCodes = Collections.emptyMap();
+        foundWords = new IDictionary.IFoundWord[0];
     }
 
     @Override
     public void init(List<IDictionary> dictionaries) {
+        List<IDictionary.IFoundWord> foundWords = new ArrayList<>();
+        Map<String, List<Integer>> soundexCodes = new HashMap<>();
+        Map<String, List<Integer>> metaphoneCodes = new HashMap<>();
+
         dictionaries.forEach(dictionary -> dictionary.getWords().
                 forEach(word -> {
-                    List<IDictionary.IFoundWord> foundWords =
-                            Collections.singletonList(new FoundWord(word, true, 0.3));
-                    soundexCodes.put(calculateSoundexCode(word.getValue()), foundWords);
-                    metaphoneCodes.put(calculateMetaphoneCode(word.getValue()), foundWords);
+                    int position = foundWords.size();
+                    foundWords.add(new FoundWord(word, true, 0.3));
+                    addCode(soundexCodes, calculateSoundexCode(word.getValue()), position);
+                    addCode(metaphoneCodes, calculateMetaphoneCode(word.getValue()), position);
                 }));
+
+        this.foundWords = foundWords.toArray(new IDictionary.IFoundWord[0]);
+        this.soundexCodes = toCompactIndex(soundexCodes);
+        this.metaphoneCodes = toCompactIndex(metaphoneCodes);
+    }
+
+    private static void addCode(Map<String, List<Integer>> codes, String code, int position) {
+        if (!isNullOrEmpty(code)) {
+            codes.computeIfAbsent(code, k -> new ArrayList<>(1)).add(position);
+        }
+    }
+
+    private static Map<String, int[]> toCompactIndex(Map<String, List<Integer>> codes) {
+        Map<String, int[]> ret = new HashMap<>(codes.size() * 4 / 3 + 1);
+        codes.forEach((code, positions) -> ret.put(code, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return ret;
     }
 
     private String calculateMetaphoneCode(String word) {
@@ -49,16 +73,37 @@ public class PhoneticCorrection implements ICorrection {
         return refinedSoundex.soundex(word);
     }
 
+    /**
+     * Words matching both phonetic codes come first, then words matching one of them,
+     * in dictionary order within each group.
+     */
     private List<IDictionary.IFoundWord> lookupPhonetic(String word) {
-        List<IDictionary.IFoundWord> foundWords = new ArrayList<>();
+        int[] soundexMatches = lookupCode(soundexCodes, calculateSoundexCode(word));
+        int[] metaphoneMatches = lookupCode(metaphoneCodes, calculateMetaphoneCode(word));
+        if (soundexMatches.length == 0 && metaphoneMatches.length == 0) {
+            return Collections.emptyList();
+        }
 
-        String soundexCode = calculateSoundexCode(word);
-        foundWords.addAll(soundexCodes.get(soundexCode));
+        List<IDictionary.IFoundWord> bothCodes = new ArrayList<>();
+        List<IDictionary.IFoundWord> oneCode = new ArrayList<>();
+        int i = 0, j = 0;
+        while (i < soundexMatches.length || j < metaphoneMatches.length) {
+            if (j == metaphoneMatches.length || (i < soundexMatches.length && soundexMatches[i] < metaphoneMatches[j])) {
+                oneCode.add(foundWords[soundexMatches[i++]]);
+            } else if (i == soundexMatches.length || metaphoneMatches[j] < soundexMatches[i]) {
+                oneCode.add(foundWords[metaphoneMatches[j++]]);
+            } else {
+                bothCodes.add(foundWords[soundexMatches[i++]]);
+                j++;
+            }
+        }
 
-        String metaphoneCode = calculateMetaphoneCode(word);
-        foundWords.addAll(metaphoneCodes.get(metaphoneCode));
+        bothCodes.addAll(oneCode);
+        return bothCodes;
+    }
 
-        return foundWords;
+    private static int[] lookupCode(Map<String, int[]> codes, String code) {
+        return isNullOrEmpty(code) ? NO_POSITIONS : codes.getOrDefault(code, NO_POSITIONS);
     }
 
     @Override
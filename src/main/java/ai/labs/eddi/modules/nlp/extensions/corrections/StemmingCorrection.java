@@ -2,8 +2,11 @@ package ai.labs.eddi.modules.nlp.extensions.corrections;
 
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 import ai.labs.eddi.modules.nlp.model.FoundWord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.tartarus.snowball.SnowballStemmer;
 
+import java.lang.reflect.Constructor;
 import java.util.*;
 
 
@@ -11,9 +14,14 @@ import java.util.*;
  * @author ginccc
  */
 public class StemmingCorrection implements ICorrection {
+    private static final int STEM_CACHE_SIZE = 10000;
+
     private boolean lookupIfKnown;
     private String language;
-    private SnowballStemmer stemmer;
+    private Constructor<? extends SnowballStemmer> stemmerConstructor;
+    // snowball stemmers keep the current word as state, so every thread gets its own instance
+    private final ThreadLocal<SnowballStemmer> stemmers = ThreadLocal.withInitial(this::createNewStemmer);
+    private final Cache<String, String> stemCache = Caffeine.newBuilder().maximumSize(STEM_CACHE_SIZE).build();
     private Map<String, List<IDictionary.IFoundWord>> stemmedWordMap = new HashMap<>();
 
     public StemmingCorrection(String language, boolean lookupIfKnown) {
@@ -23,39 +31,52 @@ public class StemmingCorrection implements ICorrection {
 
     @Override
     public void init(List<IDictionary> dictionaries) {
-        stemmer = createNewStemmer();
+        stemmerConstructor = resolveStemmerConstructor();
+
+        Map<String, List<IDictionary.IFoundWord>> stemmedWordMap = new HashMap<>();
         dictionaries.stream().flatMap(dictionary -> dictionary.getWords().stream()).
-                forEach(word -> {
-                    stemmer.setCurrent(word.getValue().toLowerCase());
-                    stemmer.stem();
-                    String stemmedWord = stemmer.getCurrent();
-                    if (!this.stemmedWordMap.containsKey(stemmedWord)) {
-                        this.stemmedWordMap.put(stemmedWord, new ArrayList<>());
-                    }
-                    this.stemmedWordMap.get(stemmedWord).add(new FoundWord(word, true, 0.5));
-                });
+                forEach(word -> stemmedWordMap.computeIfAbsent(stem(word.getValue().toLowerCase()),
+                        k -> new ArrayList<>()).add(new FoundWord(word, true, 0.5)));
+
+        stemmedWordMap.replaceAll((stemmedWord, foundWords) -> {
+            Collections.sort(foundWords);
+            return Collections.unmodifiableList(foundWords);
+        });
+        this.stemmedWordMap = stemmedWordMap;
     }
 
-    private SnowballStemmer createNewStemmer() {
+    @SuppressWarnings("unchecked")
+    private Constructor<? extends SnowballStemmer> resolveStemmerConstructor() {
         try {
             Class<?> stemClass = Class.forName("org.tartarus.snowball.ext." + language + "Stemmer");
-            return (SnowballStemmer) stemClass.getDeclaredConstructor().newInstance();
+            return ((Class<? extends SnowballStemmer>) stemClass).getDeclaredConstructor();
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
 
+    private SnowballStemmer createNewStemmer() {
+        try {
+            return stemmerConstructor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private String stem(String word) {
+        var stemmer = stemmers.get();
+        stemmer.setCurrent(word);
+        stemmer.stem();
+        return stemmer.getCurrent();
+    }
+
     @Override
     public List<IDictionary.IFoundWord> correctWord(String word, String userLanguage, List<IDictionary> temporaryDictionaries) {
-        stemmer = createNewStemmer();
-        stemmer.setCurrent(word.toLowerCase());
-        stemmer.stem();
-        String stemmedWord = stemmer.getCurrent();
+        String stemmedWord = stemCache.get(word.toLowerCase(), this::stem);
 
         List<IDictionary.IFoundWord> foundWords = stemmedWordMap.get(stemmedWord);
 
         if (foundWords != null && !foundWords.isEmpty()) {
-            Collections.sort(foundWords);
             return foundWords;
         }
 
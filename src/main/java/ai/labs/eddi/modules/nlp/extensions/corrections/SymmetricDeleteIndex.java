@@ -0,0 +1,73 @@
+package ai.labs.eddi.modules.nlp.extensions.corrections;
+
+import java.util.*;
+
+/**
+ * Symmetric delete index (as in SymSpell): every word is stored under all strings reachable by deleting
+ * up to maxDistance characters. Two strings within an optimal string alignment distance of maxDistance
+ * always share such a delete, so a lookup only needs to generate the deletes of the input to find
+ * a superset of all words within reach. Candidates still have to be verified by the caller.
+ *
+ * @author ginccc
+ */
+class SymmetricDeleteIndex {
+    private final int maxDistance;
+    private final int size;
+    private final Map<String, int[]> positionsByDelete;
+
+    /**
+     * @param words words to index, their position in this list is what lookups return
+     */
+    SymmetricDeleteIndex(List<String> words, int maxDistance) {
+        this.maxDistance = maxDistance;
+        this.size = words.size();
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int position = 0; position < words.size(); position++) {
+            for (String delete : createDeletes(words.get(position))) {
+                positions.computeIfAbsent(delete, k -> new ArrayList<>(1)).add(position);
+            }
+        }
+
+        positionsByDelete = new HashMap<>(positions.size() * 4 / 3 + 1);
+        positions.forEach((delete, positionsOfDelete) ->
+                positionsByDelete.put(delete, positionsOfDelete.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * @return positions of all candidate words, in ascending order
+     */
+    BitSet lookupCandidates(String lookup) {
+        BitSet candidates = new BitSet(size);
+        for (String delete : createDeletes(lookup)) {
+            int[] positions = positionsByDelete.get(delete);
+            if (positions != null) {
+                for (int position : positions) {
+                    candidates.set(position);
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    private Set<String> createDeletes(String word) {
+        Set<String> deletes = new HashSet<>();
+        deletes.add(word);
+        Collection<String> currentLevel = Collections.singletonList(word);
+        for (int distance = 0; distance < maxDistance; distance++) {
+            List<String> nextLevel = new ArrayList<>();
+            for (String current : currentLevel) {
+                for (int i = 0; i < current.length(); i++) {
+                    String delete = current.substring(0, i) + current.substring(i + 1);
+                    if (deletes.add(delete)) {
+                        nextLevel.add(delete);
+                    }
+                }
+            }
+            currentLevel = nextLevel;
+        }
+
+        return deletes;
+    }
+}
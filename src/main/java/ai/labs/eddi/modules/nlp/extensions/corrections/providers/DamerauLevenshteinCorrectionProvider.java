@@ -10,6 +10,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import java.util.HashMap;
 import java.util.Map;
 
+import static ai.labs.eddi.models.ExtensionDescriptor.FieldType.BOOLEAN;
 import static ai.labs.eddi.models.ExtensionDescriptor.FieldType.INT;
 
 /**
@@ -21,6 +22,7 @@ public class DamerauLevenshteinCorrectionProvider implements ICorrectionProvider
     public static final String ID = "ai.labs.parser.corrections.levenshtein";
 
     private static final String KEY_DISTANCE = "distance";
+    private static final String KEY_INDEXED = "indexed";
     public static final int DEFAULT_DISTANCE = 2;
 
     @Override
@@ -40,7 +42,11 @@ public class DamerauLevenshteinCorrectionProvider implements ICorrectionProvider
 
         boolean lookupIfKnown = extractLookupIfKnownParam(config);
 
-        return new DamerauLevenshteinCorrection(distance, lookupIfKnown);
+        // the index trades memory for lookup speed, so it has to be asked for explicitly
+        Object indexedObj = config.get(KEY_INDEXED);
+        boolean indexed = indexedObj != null && Boolean.parseBoolean(indexedObj.toString());
+
+        return new DamerauLevenshteinCorrection(distance, lookupIfKnown, indexed);
     }
 
     @Override
@@ -48,6 +54,9 @@ public class DamerauLevenshteinCorrectionProvider implements ICorrectionProvider
         Map<String, ConfigValue> ret = new HashMap<>();
 
         ret.put(KEY_DISTANCE, new ConfigValue("Distance", INT, true, 2));
+        ret.put(KEY_INDEXED, new ConfigValue("Use precomputed symmetric delete index " +
+                "(faster lookups, but memory grows with dictionary size and steeply with distance; " +
+                "roughly words x word length ^ distance entries)", BOOLEAN, true, false));
 
         return ret;
     }
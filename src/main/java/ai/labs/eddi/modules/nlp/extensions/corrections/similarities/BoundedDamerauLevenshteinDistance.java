@@ -0,0 +1,119 @@
+package ai.labs.eddi.modules.nlp.extensions.corrections.similarities;
+
+/**
+ * Restricted Damerau-Levenshtein (optimal string alignment) distance, computed with the bit-parallel
+ * algorithm of Myers extended for transpositions by Hyyrö, for the shorter string being at most 64 chars.
+ * Longer strings fall back to {@link DamerauLevenshteinDistance}.
+ * <p>
+ * When only distances up to a bound are of interest, {@link #calculate(String, String, int)} returns
+ * early with {@code maxDistance + 1} as soon as the bound cannot be met anymore.
+ *
+ * @author ginccc
+ */
+public class BoundedDamerauLevenshteinDistance implements IDistanceCalculator {
+    private static final int MAX_PATTERN_LENGTH = Long.SIZE;
+    private static final int PATTERN_TABLE_SIZE = 256;
+
+    private final DamerauLevenshteinDistance fallback = new DamerauLevenshteinDistance();
+    private final ThreadLocal<long[]> patternTables = ThreadLocal.withInitial(() -> new long[PATTERN_TABLE_SIZE]);
+
+    @Override
+    public int calculate(String source, String target) {
+        return calculate(source, target, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * @return the distance, or {@code maxDistance + 1} if it is larger than maxDistance
+     */
+    public int calculate(String source, String target, int maxDistance) {
+        String pattern = source.length() <= target.length() ? source : target;
+        String text = pattern == source ? target : source;
+        int m = pattern.length();
+        int n = text.length();
+
+        if (n - m > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        if (m == 0) {
+            return n;
+        }
+
+        if (m > MAX_PATTERN_LENGTH) {
+            return Math.min(fallback.calculate(source, target), maxDistance + 1);
+        }
+
+        long[] patternTable = patternTables.get();
+        try {
+            for (int i = 0; i < m; i++) {
+                char c = pattern.charAt(i);
+                if (c < PATTERN_TABLE_SIZE) {
+                    patternTable[c] |= 1L << i;
+                }
+            }
+
+            return calculateBitParallel(pattern, text, patternTable, maxDistance);
+        } finally {
+            for (int i = 0; i < m; i++) {
+                char c = pattern.charAt(i);
+                if (c < PATTERN_TABLE_SIZE) {
+                    patternTable[c] = 0;
+                }
+            }
+        }
+    }
+
+    private static int calculateBitParallel(String pattern, String text, long[] patternTable, int maxDistance) {
+        int m = pattern.length();
+        int n = text.length();
+        long lastBit = 1L << (m - 1);
+
+        long vp = -1L;
+        long vn = 0;
+        long d0 = 0;
+        long previousPm = 0;
+        int distance = m;
+
+        for (int j = 0; j < n; j++) {
+            long pm = matchMask(pattern, text.charAt(j), patternTable);
+            long transposition = (((~d0) & pm) << 1) & previousPm;
+            d0 = (((pm & vp) + vp) ^ vp) | pm | vn | transposition;
+            long hp = vn | ~(d0 | vp);
+            long hn = d0 & vp;
+
+            if ((hp & lastBit) != 0) {
+                distance++;
+            } else if ((hn & lastBit) != 0) {
+                distance--;
+            }
+
+            // each remaining column can lower the distance by one at most
+            if (distance - (n - j - 1) > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            hp = (hp << 1) | 1;
+            hn = hn << 1;
+            vp = hn | ~(d0 | hp);
+            vn = hp & d0;
+            previousPm = pm;
+        }
+
+        return distance;
+    }
+
+    private static long matchMask(String pattern, char c, long[] patternTable) {
+        if (c < PATTERN_TABLE_SIZE) {
+            return patternTable[c];
+        }
+
+        long mask = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+
+        return mask;
+    }
+}
@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * @author ginccc
@@ -22,12 +22,11 @@ public class RegularDictionary implements IDictionary {
 
     private boolean lookupIfKnown;
 
+    private volatile LookupIndex lookupIndex;
+
     @Override
     public List<IWord> getWords() {
-        List<IWord> allWords = new LinkedList<>(words.values());
-        phrases.stream().map(IPhrase::getWords).forEach(allWords::addAll);
-
-        return Collections.unmodifiableList(allWords);
+        return getLookupIndex().allWords;
     }
 
     @Override
@@ -35,35 +34,56 @@ public class RegularDictionary implements IDictionary {
         return Collections.unmodifiableList(phrases);
     }
 
+    public void setPhrases(List<IPhrase> phrases) {
+        this.phrases = phrases;
+        lookupIndex = null;
+    }
+
+    public void setWords(Map<String, IWord> words) {
+        this.words = words;
+        lookupIndex = null;
+    }
+
+    public void setRegExs(List<IRegEx> regExs) {
+        this.regExs = regExs;
+        lookupIndex = null;
+    }
+
     @Override
     public List<IFoundWord> lookupTerm(String lookup) {
-        List<IFoundWord> ret = phrases.stream().flatMap(phrase -> phrase.getWords().stream()).
-                filter(partOfPhrase -> partOfPhrase.getValue().equals(lookup)).
-                map(partOfPhrase -> new FoundWord(partOfPhrase, false, 1.0)).
-                collect(Collectors.toList());
-
-        phrases.stream().flatMap(phrase -> phrase.getWords().stream()).
-                filter(partOfPhrase -> partOfPhrase.getValue().equalsIgnoreCase(lookup)).
-                map(partOfPhrase -> new FoundWord(partOfPhrase, false, 0.9)).
-                collect(Collectors.toList()).stream().filter(foundWord -> !ret.contains(foundWord)).forEach(ret::add);
-
-        IWord word;
-        if ((word = words.get(lookup)) != null) {
-            boolean isCaseSensitiveMatch = words.keySet().stream().parallel().anyMatch(key -> key.equals(lookup));
-            ret.add(new FoundWord(word, !isCaseSensitiveMatch, isCaseSensitiveMatch ? 1.0 : 0.9));
+        var index = getLookupIndex();
+        List<IFoundWord> ret = new LinkedList<>();
+
+        for (IWord partOfPhrase : index.phraseWords.getOrDefault(lookup, Collections.emptyList())) {
+            ret.add(new FoundWord(partOfPhrase, false, 1.0));
+        }
+
+        String foldedLookup = foldCase(lookup);
+        for (IWord partOfPhrase : index.foldedPhraseWords.getOrDefault(foldedLookup, Collections.emptyList())) {
+            ret.add(new FoundWord(partOfPhrase, false, 0.9));
+        }
+
+        Map.Entry<String, IWord> wordEntry = index.foldedWords.get(foldedLookup);
+        if (wordEntry != null) {
+            boolean isCaseSensitiveMatch = wordEntry.getKey().equals(lookup);
+            ret.add(new FoundWord(wordEntry.getValue(), !isCaseSensitiveMatch, isCaseSensitiveMatch ? 1.0 : 0.9));
         }
 
         if (ret.isEmpty() || lookupIfKnown) {
-            regExs.stream().
-                    filter(regEx -> regEx.match(lookup)).
-                    forEach(regEx ->
-                            ret.add(new FoundRegEx(new Word(lookup, regEx.getExpressions(), regEx.getLanguageCode()), regEx))
-                    );
+            index.lookupRegExs(lookup, regEx ->
+                    ret.add(new FoundRegEx(new Word(lookup, regEx.getExpressions(), regEx.getLanguageCode()), regEx)));
         }
 
         return ret;
     }
 
+    /**
+     * @return phrases whose first word equals the given word (case-insensitive), in configuration order
+     */
+    public List<IPhrase> lookupPhrasesStartingWith(String word) {
+        return getLookupIndex().phrasesByFirstWord.getOrDefault(foldCase(word), Collections.emptyList());
+    }
+
     @Override
     public boolean lookupIfKnown() {
         return lookupIfKnown;
@@ -71,13 +91,139 @@ public class RegularDictionary implements IDictionary {
 
     public void addWord(final String value, final Expressions expressions, int rating) {
         words.put(value, new Word(value, expressions, ID, rating, false));
+        lookupIndex = null;
     }
 
     public void addRegex(final String regEx, Expressions expressions) {
         regExs.add(new RegEx(regEx, expressions));
+        lookupIndex = null;
     }
 
     public void addPhrase(String value, Expressions expressions) {
         phrases.add(new Phrase(value, expressions, ID));
+        lookupIndex = null;
+    }
+
+    /**
+     * Builds the lookup indexes eagerly, otherwise they are built on the first lookup after a modification.
+     */
+    public void buildIndex() {
+        getLookupIndex();
+    }
+
+    private LookupIndex getLookupIndex() {
+        var index = lookupIndex;
+        if (index == null) {
+            index = new LookupIndex(words, phrases, regExs);
+            lookupIndex = index;
+        }
+
+        return index;
+    }
+
+    /**
+     * Folds a string so that two strings have the same key exactly if {@link String#equalsIgnoreCase} is true.
+     */
+    static String foldCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+
+        return new String(chars);
+    }
+
+    private static class LookupIndex {
+        private final List<IWord> allWords;
+        private final Map<String, Map.Entry<String, IWord>> foldedWords = new HashMap<>();
+        private final Map<String, List<IWord>> phraseWords = new HashMap<>();
+        // phrase words matching case-insensitively, one per distinct value as duplicates are equal FoundWords
+        private final Map<String, List<IWord>> foldedPhraseWords = new HashMap<>();
+        private final Map<String, List<IPhrase>> phrasesByFirstWord = new HashMap<>();
+        private final IRegEx[] regExs;
+        private final String[] regExPrefixes;
+        // positions of regexs by the first character of their literal prefix, and of those without a prefix
+        private final Map<Character, int[]> regExsByFirstChar = new HashMap<>();
+        private final int[] regExsWithoutPrefix;
+
+        private LookupIndex(Map<String, IWord> words, List<IPhrase> phrases, List<IRegEx> regExs) {
+            List<IWord> allWords = new ArrayList<>(words.values());
+            words.entrySet().forEach(entry -> foldedWords.putIfAbsent(foldCase(entry.getKey()), entry));
+
+            for (IPhrase phrase : phrases) {
+                List<IWord> wordsOfPhrase = phrase.getWords();
+                allWords.addAll(wordsOfPhrase);
+                for (IWord partOfPhrase : wordsOfPhrase) {
+                    String value = partOfPhrase.getValue();
+                    phraseWords.computeIfAbsent(value, k -> new ArrayList<>(1)).add(partOfPhrase);
+
+                    var sameFoldedValue = foldedPhraseWords.computeIfAbsent(foldCase(value), k -> new ArrayList<>(1));
+                    if (sameFoldedValue.stream().noneMatch(word -> word.getValue().equals(value))) {
+                        sameFoldedValue.add(partOfPhrase);
+                    }
+                }
+
+                if (!wordsOfPhrase.isEmpty()) {
+                    phrasesByFirstWord.computeIfAbsent(foldCase(wordsOfPhrase.get(0).getValue()),
+                            k -> new ArrayList<>(1)).add(phrase);
+                }
+            }
+
+            this.allWords = Collections.unmodifiableList(allWords);
+            freeze(phraseWords);
+            freeze(foldedPhraseWords);
+            freeze(phrasesByFirstWord);
+
+            this.regExs = regExs.toArray(new IRegEx[0]);
+            this.regExPrefixes = new String[this.regExs.length];
+            Map<Character, List<Integer>> byFirstChar = new HashMap<>();
+            List<Integer> withoutPrefix = new ArrayList<>();
+            for (int i = 0; i < this.regExs.length; i++) {
+                String prefix = this.regExs[i] instanceof RegEx regEx ? regEx.getLiteralPrefix() : "";
+                regExPrefixes[i] = prefix;
+                if (prefix.isEmpty()) {
+                    withoutPrefix.add(i);
+                } else {
+                    byFirstChar.computeIfAbsent(prefix.charAt(0), k -> new ArrayList<>()).add(i);
+                }
+            }
+            byFirstChar.forEach((firstChar, positions) -> regExsByFirstChar.put(firstChar, toArray(positions)));
+            regExsWithoutPrefix = toArray(withoutPrefix);
+        }
+
+        /**
+         * Passes all regexs matching the lookup to the consumer, in configuration order. Regexs whose
+         * literal prefix the lookup does not start with are skipped without running their matcher.
+         */
+        private void lookupRegExs(String lookup, Consumer<IRegEx> matchConsumer) {
+            int[] withPrefix = lookup.isEmpty() ? null : regExsByFirstChar.get(lookup.charAt(0));
+            int[] withoutPrefix = regExsWithoutPrefix;
+            int i = 0, j = 0;
+            int withPrefixLength = withPrefix == null ? 0 : withPrefix.length;
+            while (i < withPrefixLength || j < withoutPrefix.length) {
+                int position;
+                if (j == withoutPrefix.length || (i < withPrefixLength && withPrefix[i] < withoutPrefix[j])) {
+                    position = withPrefix[i++];
+                    if (!lookup.startsWith(regExPrefixes[position])) {
+                        continue;
+                    }
+                } else {
+                    position = withoutPrefix[j++];
+                }
+
+                IRegEx regEx = regExs[position];
+                if (regEx.match(lookup)) {
+                    matchConsumer.accept(regEx);
+                }
+            }
+        }
+
+        private static int[] toArray(List<Integer> positions) {
+            return positions.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static <T> void freeze(Map<String, List<T>> index) {
+            index.replaceAll((key, values) -> List.copyOf(values));
+        }
     }
 }
@@ -112,6 +112,7 @@ public class RegularDictionaryProvider implements IDictionaryProvider {
             }
         });
 
+        regularDictionary.buildIndex();
         return regularDictionary;
     }
 
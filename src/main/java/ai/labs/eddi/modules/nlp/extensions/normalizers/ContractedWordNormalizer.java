@@ -1,12 +1,11 @@
 package ai.labs.eddi.modules.nlp.extensions.normalizers;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
 
 public class ContractedWordNormalizer implements INormalizer {
     private static final Map<String, String> contractedWords = new HashMap<>();
+    private static final char APOSTROPHE = '\'';
 
     static {
         contractedWords.put("don't", "do not");
@@ -31,17 +30,14 @@ public class ContractedWordNormalizer implements INormalizer {
 
     @Override
     public String normalize(String input, String userLanguage) {
-        List<String> inputParts = toStringList(input);
-
-        IntStream.range(0, inputParts.size()).forEach(idx -> {
-            String part = inputParts.get(idx);
+        return normalizeParts(input, part -> {
+            // every contracted word contains an apostrophe, so skip lower casing all other parts
+            if (part.indexOf(APOSTROPHE) < 0) {
+                return part;
+            }
 
             String match = contractedWords.get(part.toLowerCase());
-            if (match != null) {
-                inputParts.set(idx, match);
-            }
+            return match != null ? match : part;
         });
-
-        return concatWords(inputParts);
     }
 }
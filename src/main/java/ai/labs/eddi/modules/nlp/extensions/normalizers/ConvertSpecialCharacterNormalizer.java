@@ -6,6 +6,22 @@ import org.apache.commons.lang3.StringUtils;
 public class ConvertSpecialCharacterNormalizer implements INormalizer {
     @Override
     public String normalize(String input, String userLanguage) {
+        if (isPlainAscii(input)) {
+            // neither converted nor stripped of accents, which covers most inputs
+            return input;
+        }
+
         return StringUtils.stripAccents(CharacterUtilities.convertSpecialCharacter(input));
     }
+
+    private static boolean isPlainAscii(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c >= 0x80 || c == '`') {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
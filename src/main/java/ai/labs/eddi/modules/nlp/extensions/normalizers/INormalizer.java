@@ -3,6 +3,7 @@ package ai.labs.eddi.modules.nlp.extensions.normalizers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public interface INormalizer {
     String BLANK_CHAR = " ";
@@ -18,4 +19,23 @@ public interface INormalizer {
         inputParts.forEach(part -> newInput.append(part.trim()).append(BLANK_CHAR));
         return newInput.toString().trim();
     }
+
+    /**
+     * Same result as {@code concatWords(toStringList(input))} with every part replaced by the
+     * result of {@code normalizePart}, but walks the input in place instead of
+     * collecting the parts in an intermediate list first.
+     */
+    default String normalizeParts(String input, UnaryOperator<String> normalizePart) {
+        StringBuilder newInput = new StringBuilder(input.length() + 16);
+        int start = 0;
+        int end;
+        do {
+            end = input.indexOf(BLANK_CHAR, start);
+            String part = input.substring(start, end < 0 ? input.length() : end);
+            newInput.append(normalizePart.apply(part).trim()).append(BLANK_CHAR);
+            start = end + 1;
+        } while (end >= 0);
+
+        return newInput.toString().trim();
+    }
 }
@@ -5,9 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,20 +19,29 @@ public class PunctuationNormalizer implements INormalizer {
     private boolean removePunctuation;
 
     public String normalize(String input, String userLanguage) {
-        List<String> inputParts = toStringList(input);
-
         final String replacement = removePunctuation ? BLANK_CHAR : REPLACE_REGEX;
-        IntStream.range(0, inputParts.size()).forEach(idx -> {
-            String part = inputParts.get(idx);
-
-            if (containsPunctuation(part) && !isTimeExpression(part) && !isOrdinalNumber(part)) {
+        return normalizeParts(input, part -> {
+            // parts the replacements would not change skip the (costly) time and ordinal number checks
+            if (containsPunctuation(part) && isChangedByReplacement(part) &&
+                    !isTimeExpression(part) && !isOrdinalNumber(part)) {
                 part = punctuationPattern.matcher(part).replaceAll(replacement);
                 part = multipleSpacesPattern.matcher(part).replaceAll(BLANK_CHAR);
-                inputParts.set(idx, part);
             }
+
+            return part;
         });
+    }
+
+    private boolean isChangedByReplacement(String part) {
+        for (int i = 0; i < part.length(); i++) {
+            char c = part.charAt(i);
+            // the whitespace characters matched by \s
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return true;
+            }
+        }
 
-        return concatWords(inputParts);
+        return punctuationPattern.matcher(part).find();
     }
 
     private boolean isOrdinalNumber(String part) {
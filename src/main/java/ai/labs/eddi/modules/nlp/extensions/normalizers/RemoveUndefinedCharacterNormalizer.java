@@ -5,9 +5,24 @@ import ai.labs.eddi.utils.CharacterUtilities;
 
 public class RemoveUndefinedCharacterNormalizer implements INormalizer {
     private static final String DEFAULT_ALLOWED_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz 1234567890!?:;.,";
+    private static final boolean[] ALLOWED_ASCII_CHARS = new boolean[128];
+
+    static {
+        DEFAULT_ALLOWED_CHARS.chars().forEach(c -> ALLOWED_ASCII_CHARS[c] = true);
+    }
 
     @Override
     public String normalize(String input, String userLanguage) {
-        return CharacterUtilities.deleteUndefinedChars(input, DEFAULT_ALLOWED_CHARS);
+        for (int i = 0; i < input.length(); i++) {
+            if (!isAllowed(input.charAt(i))) {
+                return CharacterUtilities.deleteUndefinedChars(input, DEFAULT_ALLOWED_CHARS);
+            }
+        }
+
+        return input;
+    }
+
+    private static boolean isAllowed(char c) {
+        return c < ALLOWED_ASCII_CHARS.length && ALLOWED_ASCII_CHARS[c];
     }
 }
@@ -0,0 +1,141 @@
+package ai.labs.eddi.modules.nlp.internal;
+
+import ai.labs.eddi.modules.nlp.IInputParser;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.RegularDictionary;
+import ai.labs.eddi.modules.nlp.internal.matches.RawSolution;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Remembers the parsed solutions of an {@link IInputParser} per (normalized input, user language,
+ * temporary dictionaries), so repeated short utterances and quick reply clicks skip the dictionary lookup,
+ * correction and permutation steps.
+ * <p>
+ * The cache belongs to exactly one parser configuration: a changed configuration results in a new parser
+ * and therefore a new, empty cache.
+ * Temporary dictionaries are fingerprinted by their content; parse calls with temporary dictionaries
+ * that cannot be fingerprinted (anything other than a {@link RegularDictionary}) bypass the cache.
+ *
+ * @author ginccc
+ */
+public class CachingInputParser implements IInputParser {
+    private final IInputParser inputParser;
+    private final Cache<ParseKey, List<RawSolution>> parseResults;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingInputParser(IInputParser inputParser, long maximumSize, Duration expireAfterWrite,
+                              Counter hits, Counter misses) {
+        this.inputParser = inputParser;
+        this.parseResults = Caffeine.newBuilder().
+                maximumSize(maximumSize).
+                expireAfterWrite(expireAfterWrite).
+                build();
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    @Override
+    public Config getConfig() {
+        return inputParser.getConfig();
+    }
+
+    @Override
+    public List<IDictionary> getDictionaries() {
+        return inputParser.getDictionaries();
+    }
+
+    @Override
+    public String normalize(String sentence, String userLanguage) throws InterruptedException {
+        return inputParser.normalize(sentence, userLanguage);
+    }
+
+    @Override
+    public List<RawSolution> parse(String sentence) throws InterruptedException {
+        return inputParser.parse(sentence);
+    }
+
+    @Override
+    public List<RawSolution> parse(String sentence, String userLanguage, List<IDictionary> temporaryDictionaries)
+            throws InterruptedException {
+
+        String temporaryDictionariesFingerprint = createFingerprint(temporaryDictionaries);
+        if (sentence == null || temporaryDictionariesFingerprint == null) {
+            return inputParser.parse(sentence, userLanguage, temporaryDictionaries);
+        }
+
+        var parseKey = new ParseKey(sentence, userLanguage, temporaryDictionariesFingerprint);
+        List<RawSolution> rawSolutions = parseResults.getIfPresent(parseKey);
+        if (rawSolutions != null) {
+            hits.increment();
+            return rawSolutions;
+        }
+
+        misses.increment();
+        // parsing is interruptible, so it cannot run inside the cache's compute function
+        rawSolutions = Collections.unmodifiableList(inputParser.parse(sentence, userLanguage, temporaryDictionaries));
+        parseResults.put(parseKey, rawSolutions);
+
+        return rawSolutions;
+    }
+
+    long getCachedParseResultsCount() {
+        parseResults.cleanUp();
+        return parseResults.estimatedSize();
+    }
+
+    /**
+     * @return a string identifying the content of the given dictionaries, or null if at least one of them
+     * cannot be identified by its content
+     */
+    static String createFingerprint(List<IDictionary> temporaryDictionaries) {
+        if (temporaryDictionaries == null || temporaryDictionaries.isEmpty()) {
+            return "";
+        }
+
+        var fingerprint = new StringBuilder();
+        for (IDictionary dictionary : temporaryDictionaries) {
+            if (!(dictionary instanceof RegularDictionary regularDictionary)) {
+                return null;
+            }
+
+            fingerprint.append('[').append(regularDictionary.getLanguageCode()).
+                    append('|').append(regularDictionary.lookupIfKnown());
+            for (IDictionary.IWord word : regularDictionary.getWords()) {
+                appendEntry(fingerprint.append("|w:"), word);
+            }
+            for (IDictionary.IPhrase phrase : regularDictionary.getPhrases()) {
+                appendEntry(fingerprint.append("|p:"), phrase);
+            }
+            for (IDictionary.IRegEx regEx : regularDictionary.getRegExs()) {
+                appendEntry(fingerprint.append("|r:"), regEx);
+            }
+            fingerprint.append(']');
+        }
+
+        return fingerprint.toString();
+    }
+
+    private static void appendEntry(StringBuilder fingerprint, IDictionary.IDictionaryEntry entry) {
+        String value = entry.getValue();
+        fingerprint.append(value == null ? -1 : value.length()).append(':').append(value).
+                append('=').append(entry.getExpressions()).
+                append('#').append(entry.getFrequency());
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class ParseKey {
+        private final String normalizedInput;
+        private final String userLanguage;
+        private final String temporaryDictionariesFingerprint;
+    }
+}
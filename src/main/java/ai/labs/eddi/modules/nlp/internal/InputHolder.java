@@ -10,7 +10,15 @@ import java.util.List;
 public class InputHolder {
     public String[] input;
     public Integer index = 0;
-    private MatchMatrix matchMatrix = new MatchMatrix();
+    private final MatchMatrix matchMatrix;
+
+    public InputHolder() {
+        this(0);
+    }
+
+    InputHolder(int beamWidth) {
+        matchMatrix = new MatchMatrix(beamWidth);
+    }
 
     void addMatch(int index, String inputTerm, MatchingResult matchingResult) {
         matchMatrix.addMatchingResult(index, inputTerm, matchingResult);
@@ -10,6 +10,9 @@ import ai.labs.eddi.modules.nlp.internal.matches.Suggestion;
 import ai.labs.eddi.modules.nlp.model.FoundPhrase;
 import ai.labs.eddi.modules.nlp.model.FoundUnknown;
 import ai.labs.eddi.modules.nlp.model.Unknown;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -25,12 +28,19 @@ public class InputParser implements IInputParser {
     private static final Pattern REGEX_MATCHER_MULTIPLE_SPACES = Pattern.compile(" +");
     private static final String BLANK_CHAR = " ";
     private static final String DEFAULT_USER_LANGUAGE = "en";
+    private static final int TEMPORARY_PHRASES_CACHE_SIZE = 1000;
+    private static final TemporaryPhrases NO_TEMPORARY_PHRASES = new TemporaryPhrases(Collections.emptyMap(), null);
 
     private final List<INormalizer> normalizers;
     private final List<IDictionary> dictionaries;
     private final List<ICorrection> corrections;
     private final Map<IDictionary.IWord, List<IDictionary.IPhrase>> phrasesMap;
+    private final PhraseAutomaton phraseAutomaton;
+    private final boolean prefilterPhrases;
     private final Config config;
+    // keyed by identity, for temporary dictionaries handed in repeatedly, such as cached quick reply dictionaries
+    private final Cache<List<IDictionary>, TemporaryPhrases> temporaryPhrases =
+            Caffeine.newBuilder().weakKeys().maximumSize(TEMPORARY_PHRASES_CACHE_SIZE).build();
 
     public InputParser(List<IDictionary> dictionaries) {
         this(dictionaries, Collections.emptyList());
@@ -41,11 +51,18 @@ public class InputParser implements IInputParser {
     }
 
     public InputParser(List<INormalizer> normalizers, List<IDictionary> dictionaries, List<ICorrection> corrections, Config config) {
+        this(normalizers, dictionaries, corrections, config, true);
+    }
+
+    InputParser(List<INormalizer> normalizers, List<IDictionary> dictionaries, List<ICorrection> corrections,
+                Config config, boolean prefilterPhrases) {
         this.normalizers = normalizers;
         this.dictionaries = dictionaries;
         this.corrections = corrections;
         this.config = config;
+        this.prefilterPhrases = prefilterPhrases;
         phrasesMap = preparePhrases(dictionaries);
+        phraseAutomaton = createPhraseAutomaton(dictionaries);
     }
 
     @Override
@@ -62,7 +79,12 @@ public class InputParser implements IInputParser {
     }
 
     private String normalizeWhitespaces(String normalizedSentence) {
-        return REGEX_MATCHER_MULTIPLE_SPACES.matcher(normalizedSentence.trim()).replaceAll(BLANK_CHAR);
+        normalizedSentence = normalizedSentence.trim();
+        if (!normalizedSentence.contains(BLANK_CHAR + BLANK_CHAR)) {
+            return normalizedSentence;
+        }
+
+        return REGEX_MATCHER_MULTIPLE_SPACES.matcher(normalizedSentence).replaceAll(BLANK_CHAR);
     }
 
     @Override
@@ -71,7 +93,7 @@ public class InputParser implements IInputParser {
 
         userLanguage = getLanguageOrDefault(userLanguage);
 
-        InputHolder holder = new InputHolder();
+        InputHolder holder = new InputHolder(config.getBeamWidth());
         holder.input = sentence.split(" ");
 
         for (; holder.index < holder.input.length; holder.index++) {
@@ -88,7 +110,11 @@ public class InputParser implements IInputParser {
             }
         }
 
-        return lookupPhrases(holder, preparePhrases(temporaryDictionaries));
+        TemporaryPhrases preparedTemporaryPhrases = temporaryDictionaries.isEmpty() ? NO_TEMPORARY_PHRASES :
+                temporaryPhrases.get(temporaryDictionaries, dictionaries ->
+                        new TemporaryPhrases(preparePhrases(dictionaries), createPhraseAutomaton(dictionaries)));
+
+        return lookupPhrases(holder, preparedTemporaryPhrases.phrasesMap, preparedTemporaryPhrases.phraseAutomaton);
     }
 
     private String iterateNormalizers(String sentence, String userLanguage) throws InterruptedException {
@@ -164,7 +190,8 @@ public class InputParser implements IInputParser {
     }
 
     private List<RawSolution> lookupPhrases(InputHolder holder,
-                                            Map<IDictionary.IWord, List<IDictionary.IPhrase>> tmpPhrasesMap)
+                                            Map<IDictionary.IWord, List<IDictionary.IPhrase>> tmpPhrasesMap,
+                                            PhraseAutomaton tmpPhraseAutomaton)
             throws InterruptedException {
 
         List<RawSolution> possibleSolutions = new LinkedList<>();
@@ -180,12 +207,22 @@ public class InputParser implements IInputParser {
             RawSolution rawSolution = null;
             boolean matchingCompleted = false;
 
+            // replacing matched words by a phrase never creates a new occurrence of another phrase, so phrases
+            // not occurring in the found words can be skipped. Without words left to match, the first phrase
+            // ends the loop and has to be tried regardless.
+            Set<IDictionary.IPhrase> occurringPhrases = prefilterPhrases && !noWordsLeft(foundWords) ?
+                    findOccurringPhrases(foundWords, tmpPhraseAutomaton) : null;
+
             //first try: look for full matches (one/more phrases)
             for (IDictionary.IPhrase phrase : phrasesContainingFoundWords) {
                 if (isInterrupted()) {
                     break;
                 }
 
+                if (occurringPhrases != null && !occurringPhrases.contains(phrase)) {
+                    continue;
+                }
+
                 if (phrase.getWords().size() <= foundWords.size()) {
                     foundWords = lookForMatch(foundWords, phrase);
                     if (foundWords.contains(createPhrase(phrase, 1.0))) {
@@ -271,6 +308,25 @@ public class InputParser implements IInputParser {
         return possibleSolutions;
     }
 
+    private Set<IDictionary.IPhrase> findOccurringPhrases(List<IDictionary.IFoundWord> foundWords,
+                                                          PhraseAutomaton tmpPhraseAutomaton) {
+        List<String> tokens = new ArrayList<>(foundWords.size());
+        for (IDictionary.IFoundWord foundWord : foundWords) {
+            IDictionary.IWord word = foundWord.getFoundWord();
+            tokens.add(word != null ? word.getValue() : null);
+        }
+
+        Set<IDictionary.IPhrase> ret = new HashSet<>();
+        if (phraseAutomaton != null) {
+            ret.addAll(phraseAutomaton.findPhrases(tokens));
+        }
+        if (tmpPhraseAutomaton != null) {
+            ret.addAll(tmpPhraseAutomaton.findPhrases(tokens));
+        }
+
+        return ret;
+    }
+
     private void addIfAbsent(List<RawSolution> possibleSolutions, RawSolution rawSolution) {
         addIfAbsent(possibleSolutions, rawSolution, -1);
     }
@@ -367,6 +423,12 @@ public class InputParser implements IInputParser {
         return phrasesMap;
     }
 
+    private static PhraseAutomaton createPhraseAutomaton(List<IDictionary> dictionaries) {
+        List<IDictionary.IPhrase> phrases = new ArrayList<>();
+        dictionaries.stream().map(IDictionary::getPhrases).forEach(phrases::addAll);
+        return phrases.isEmpty() ? null : new PhraseAutomaton(phrases);
+    }
+
     private void orderPhrasesByLength(List<IDictionary.IPhrase> phrases) {
         phrases.sort(Collections.reverseOrder((o1, o2) -> {
             int lengthWord1 = o1.getWords().size();
@@ -383,14 +445,14 @@ public class InputParser implements IInputParser {
             List<IDictionary.IFoundWord> foundWords,
             List<Map<IDictionary.IWord, List<IDictionary.IPhrase>>> phrasesMaps) {
 
-        List<IDictionary.IPhrase> ret = new LinkedList<>();
+        Set<IDictionary.IPhrase> ret = new LinkedHashSet<>();
         foundWords.stream().filter(foundWord -> !foundWord.isPhrase()).
                 forEach(foundWord -> phrasesMaps.stream().
                         map(phrasesMap -> phrasesMap.get(foundWord.getFoundWord())).
                         filter(Objects::nonNull).flatMap(Collection::stream).
-                        filter(phrase -> !ret.contains(phrase)).forEach(ret::add));
+                        forEach(ret::add));
 
-        return ret;
+        return new ArrayList<>(ret);
     }
 
     private static String getLanguageOrDefault(String languageCode) {
@@ -401,4 +463,15 @@ public class InputParser implements IInputParser {
     public Config getConfig() {
         return config;
     }
+
+    @Override
+    public List<IDictionary> getDictionaries() {
+        return dictionaries;
+    }
+
+    @AllArgsConstructor
+    private static class TemporaryPhrases {
+        private final Map<IDictionary.IWord, List<IDictionary.IPhrase>> phrasesMap;
+        private final PhraseAutomaton phraseAutomaton;
+    }
 }
@@ -0,0 +1,82 @@
+package ai.labs.eddi.modules.nlp.internal;
+
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over the word sequences of phrases. Finds all phrases occurring as a
+ * contiguous run of tokens in one pass over the tokens.
+ *
+ * @author ginccc
+ */
+class PhraseAutomaton {
+    private static final int ROOT = 0;
+
+    private final List<Map<String, Integer>> transitions = new ArrayList<>();
+    private final List<List<IDictionary.IPhrase>> outputs = new ArrayList<>();
+    private final int[] failures;
+
+    PhraseAutomaton(Collection<IDictionary.IPhrase> phrases) {
+        addState();
+        for (IDictionary.IPhrase phrase : phrases) {
+            int state = ROOT;
+            for (IDictionary.IWord word : phrase.getWords()) {
+                Integer next = transitions.get(state).get(word.getValue());
+                if (next == null) {
+                    next = addState();
+                    transitions.get(state).put(word.getValue(), next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(phrase);
+        }
+
+        failures = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<String, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                int failure = state == ROOT ? ROOT : next(failures[state], transition.getKey());
+                failures[child] = failure;
+                outputs.get(child).addAll(outputs.get(failure));
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param tokens values of the found words, in input order
+     * @return all phrases whose words occur consecutively in the tokens
+     */
+    Set<IDictionary.IPhrase> findPhrases(List<String> tokens) {
+        Set<IDictionary.IPhrase> ret = new HashSet<>();
+        int state = ROOT;
+        for (String token : tokens) {
+            state = next(state, token);
+            ret.addAll(outputs.get(state));
+        }
+
+        return ret;
+    }
+
+    private int next(int state, String token) {
+        while (true) {
+            Integer next = transitions.get(state).get(token);
+            if (next != null) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    private int addState() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>(0));
+        return transitions.size() - 1;
+    }
+}
@@ -0,0 +1,115 @@
+package ai.labs.eddi.modules.nlp.internal.matches;
+
+import java.util.*;
+
+/**
+ * Enumerates the combinations of per-position results in descending order of their summed score and stops
+ * after the best {@code maxIterationPlans} combinations, instead of walking the combinatorially growing
+ * space {@link IterationCounter} covers.
+ * <p>
+ * Every position's results are ranked by score; starting from the combination of the best results, each
+ * emitted combination pushes its successors (one position moved to its next best result) onto a heap.
+ * Only positions at or after the last moved one are advanced, so every combination is reached exactly once.
+ *
+ * @author ginccc
+ */
+public class BestFirstIterationCounter implements Iterator<IterationCounter.IterationPlan> {
+    private final int[][] rankedIndexes;
+    private final double[][] rankedScores;
+    private final PriorityQueue<Candidate> candidates;
+    private final int maxIterationPlans;
+    private int iterationPlans;
+    private long sequence;
+
+    /**
+     * @param scores            the score of every result, per position
+     * @param maxIterationPlans the number of best combinations to enumerate at most
+     */
+    public BestFirstIterationCounter(double[][] scores, int maxIterationPlans) {
+        this.maxIterationPlans = maxIterationPlans;
+        rankedIndexes = new int[scores.length][];
+        rankedScores = new double[scores.length][];
+        candidates = new PriorityQueue<>(Comparator.
+                comparingDouble((Candidate candidate) -> candidate.score).reversed().
+                thenComparingLong(candidate -> candidate.sequence));
+
+        double score = 0;
+        for (int position = 0; position < scores.length; position++) {
+            if (scores[position].length == 0) {
+                // a position without any result allows no combination at all
+                return;
+            }
+
+            rankResults(position, scores[position]);
+            score += rankedScores[position][0];
+        }
+
+        if (scores.length > 0) {
+            candidates.add(new Candidate(new int[scores.length], 0, score, sequence++));
+        }
+    }
+
+    private void rankResults(int position, double[] scores) {
+        Integer[] order = new Integer[scores.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // stable, so equally scored results keep the order they were found in
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        rankedIndexes[position] = new int[order.length];
+        rankedScores[position] = new double[order.length];
+        for (int rank = 0; rank < order.length; rank++) {
+            rankedIndexes[position][rank] = order[rank];
+            rankedScores[position][rank] = scores[order[rank]];
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterationPlans < maxIterationPlans && !candidates.isEmpty();
+    }
+
+    @Override
+    public IterationCounter.IterationPlan next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Candidate candidate = candidates.poll();
+        iterationPlans++;
+
+        int[] ranks = candidate.ranks;
+        for (int position = candidate.lastAdvancedPosition; position < ranks.length; position++) {
+            int rank = ranks[position];
+            if (rank + 1 < rankedIndexes[position].length) {
+                int[] successorRanks = ranks.clone();
+                successorRanks[position]++;
+                double successorScore = candidate.score -
+                        rankedScores[position][rank] + rankedScores[position][rank + 1];
+                candidates.add(new Candidate(successorRanks, position, successorScore, sequence++));
+            }
+        }
+
+        int[] indexes = new int[ranks.length];
+        for (int position = 0; position < ranks.length; position++) {
+            indexes[position] = rankedIndexes[position][ranks[position]];
+        }
+
+        return new IterationCounter.IterationPlan(indexes);
+    }
+
+    private static class Candidate {
+        private final int[] ranks;
+        private final int lastAdvancedPosition;
+        private final double score;
+        private final long sequence;
+
+        private Candidate(int[] ranks, int lastAdvancedPosition, double score, long sequence) {
+            this.ranks = ranks;
+            this.lastAdvancedPosition = lastAdvancedPosition;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -10,19 +10,20 @@ import java.util.*;
  */
 public class IterationCounter implements Iterator<IterationCounter.IterationPlan> {
     private IterationPlan next;
-    private Integer[] indexes;
-    private Iterator<Integer[]> permutationIterator;
-    private List<IterationPlan> previousIterationPlans = new LinkedList<>();
-    private Integer inputLength;
-    private Integer[] resultLengths;
+    private int[] indexes;
+    private Iterator<int[]> permutationIterator;
+    private final Set<IterationPlan> previousIterationPlans = new HashSet<>();
+    private final int inputLength;
+    private final int[] resultLengths;
     private int overallIterations;
     private int index;
     private int counter;
 
-    public IterationCounter(Integer inputLength, Integer[] resultLengths) {
+    public IterationCounter(int inputLength, int[] resultLengths) {
         this.inputLength = inputLength;
         this.resultLengths = resultLengths;
-        indexes = createIntegerArray(inputLength);
+        // the permutation iterators sort and permute this very array, which drives the enumeration order
+        indexes = new int[inputLength];
         next = new IterationPlan(indexes);
         previousIterationPlans.add(next);
         permutationIterator = new Permutation(indexes).iterator();
@@ -32,15 +33,6 @@ public class IterationCounter implements Iterator<IterationCounter.IterationPlan
         counter = 0;
     }
 
-    private Integer[] createIntegerArray(Integer length) {
-        Integer[] integerArray = new Integer[length];
-        for (int i = 0; i < length; i++) {
-            integerArray[i] = 0;
-        }
-
-        return integerArray;
-    }
-
     @Override
     public boolean hasNext() {
         return next != null && index > -1;
@@ -88,8 +80,8 @@ public class IterationCounter implements Iterator<IterationCounter.IterationPlan
 
     private IterationPlan permuteNext() {
         while (permutationIterator.hasNext()) {
-            Integer[] indexes = permutationIterator.next();
-            if (!contains(previousIterationPlans, indexes)) {
+            int[] indexes = permutationIterator.next();
+            if (!contains(indexes)) {
                 return returnNewIterationPlan(indexes);
             }
         }
@@ -102,7 +94,7 @@ public class IterationCounter implements Iterator<IterationCounter.IterationPlan
             while (counter <= resultLengths[index]) {
                 indexes[0] = counter;
                 counter++;
-                if (!contains(previousIterationPlans, indexes)) {
+                if (!contains(indexes)) {
                     permutationIterator = new Permutation(indexes).iterator();
                     return permuteNext();
                 }
@@ -119,7 +111,7 @@ public class IterationCounter implements Iterator<IterationCounter.IterationPlan
             while (index > 0 && indexes[index] < resultLengths[index]) {
                 indexes[index]++;
                 index--;
-                if (!contains(previousIterationPlans, indexes)) {
+                if (!contains(indexes)) {
                     return incrementThisIndex();
                 }
             }
@@ -130,30 +122,23 @@ public class IterationCounter implements Iterator<IterationCounter.IterationPlan
         return null;
     }
 
-    private IterationPlan returnNewIterationPlan(Integer[] indexes) {
+    private IterationPlan returnNewIterationPlan(int[] indexes) {
         IterationPlan iterationPlan = new IterationPlan(indexes);
         previousIterationPlans.add(iterationPlan);
         return iterationPlan;
     }
 
-    private boolean contains(List<IterationPlan> listIndexes, Integer[] indexes) {
-        for (IterationPlan listIndex : listIndexes) {
-            if (Arrays.equals(listIndex.getIndexes(), indexes)) {
-                return true;
-            }
-        }
-
-        return false;
+    private boolean contains(int[] indexes) {
+        return previousIterationPlans.contains(new IterationPlan(indexes));
     }
 
     @Getter
     @EqualsAndHashCode
-    public class IterationPlan {
-        private Integer[] indexes;
+    public static class IterationPlan {
+        private final int[] indexes;
 
-        private IterationPlan(Integer[] indexes) {
-            this.indexes = new Integer[indexes.length];
-            System.arraycopy(indexes, 0, this.indexes, 0, indexes.length);
+        IterationPlan(int[] indexes) {
+            this.indexes = indexes.clone();
         }
     }
 }
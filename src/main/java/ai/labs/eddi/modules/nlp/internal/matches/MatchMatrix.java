@@ -21,21 +21,35 @@ public class MatchMatrix implements Iterable<Suggestion> {
     }
 
 
-    private Map<Match, List<MatchingResult>> mappedMatchMatrix = new LinkedHashMap<>();
+    private final Map<Match, List<MatchingResult>> mappedMatchMatrix = new HashMap<>();
+    // the values of mappedMatchMatrix in insertion order, for access by index
+    private final List<List<MatchingResult>> matchingResultsByIndex = new ArrayList<>();
+    private final int maxSuggestions;
+
+    public MatchMatrix() {
+        this(0);
+    }
+
+    /**
+     * @param maxSuggestions if greater than 0, suggestions are created best first by the matching accuracy
+     *                       of their results and only this many of them
+     */
+    public MatchMatrix(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
 
     public void addMatchingResult(int index, String inputTerm, MatchingResult matchingResult) {
         Match match = new Match(index, inputTerm);
-        if (!mappedMatchMatrix.containsKey(match)) {
-            mappedMatchMatrix.put(match, new LinkedList<>());
-        }
-
-        mappedMatchMatrix.get(match).add(matchingResult);
+        mappedMatchMatrix.computeIfAbsent(match, key -> {
+            List<MatchingResult> matchingResults = new ArrayList<>();
+            matchingResultsByIndex.add(matchingResults);
+            return matchingResults;
+        }).add(matchingResult);
     }
 
     public List<MatchingResult> getMatchingResults(int index) {
-        Collection<List<MatchingResult>> allMatchingResults = mappedMatchMatrix.values();
-        if (index < allMatchingResults.size()) {
-            return new ArrayList<>(allMatchingResults).get(index);
+        if (index < matchingResultsByIndex.size()) {
+            return matchingResultsByIndex.get(index);
         }
 
         return null;
@@ -47,25 +61,38 @@ public class MatchMatrix implements Iterable<Suggestion> {
     }
 
     class SolutionIterator implements Iterator<Suggestion> {
-        private final IterationCounter iterationCounter;
+        private final Iterator<IterationCounter.IterationPlan> iterationCounter;
         private Suggestion nextSuggestion = null;
-        private final Integer[] resultLengths;
 
         SolutionIterator() {
-            resultLengths = createResultLengths(mappedMatchMatrix.values());
-            iterationCounter = new IterationCounter(mappedMatchMatrix.size(), resultLengths);
+            if (maxSuggestions > 0) {
+                iterationCounter = new BestFirstIterationCounter(createScores(), maxSuggestions);
+            } else {
+                iterationCounter = new IterationCounter(matchingResultsByIndex.size(), createResultLengths());
+            }
+
             if (iterationCounter.hasNext()) {
                 nextSuggestion = calculateNext();
             }
         }
 
-        private Integer[] createResultLengths(Collection<List<MatchingResult>> values) {
-            Integer[] ret = new Integer[values.size()];
+        private int[] createResultLengths() {
+            int[] ret = new int[matchingResultsByIndex.size()];
+            for (int i = 0; i < ret.length; i++) {
+                ret[i] = matchingResultsByIndex.get(i).size() - 1;
+            }
+
+            return ret;
+        }
 
-            Iterator<List<MatchingResult>> iterator = values.iterator();
-            int i = 0;
-            while (iterator.hasNext()) {
-                ret[i++] = iterator.next().size() - 1;
+        private double[][] createScores() {
+            double[][] ret = new double[matchingResultsByIndex.size()][];
+            for (int i = 0; i < ret.length; i++) {
+                List<MatchingResult> matchingResults = matchingResultsByIndex.get(i);
+                ret[i] = new double[matchingResults.size()];
+                for (int j = 0; j < ret[i].length; j++) {
+                    ret[i][j] = matchingResults.get(j).getMatchingAccuracy();
+                }
             }
 
             return ret;
@@ -95,9 +122,10 @@ public class MatchMatrix implements Iterable<Suggestion> {
                 IterationCounter.IterationPlan iterationPlan = iterationCounter.next();
 
                 nextSuggestion = new Suggestion();
-                for (int index = 0; index < mappedMatchMatrix.size(); index++) {
-                    List<MatchingResult> listOfMatchingResults = getMatchingResults(index);
-                    Integer iterationIndex = iterationPlan.getIndexes()[index];
+                int[] iterationIndexes = iterationPlan.getIndexes();
+                for (int index = 0; index < matchingResultsByIndex.size(); index++) {
+                    List<MatchingResult> listOfMatchingResults = matchingResultsByIndex.get(index);
+                    int iterationIndex = iterationIndexes[index];
                     if (iterationIndex >= listOfMatchingResults.size()) {
                         //iteration plan is out of bounds, so we skip it
                         nextSuggestion = null;
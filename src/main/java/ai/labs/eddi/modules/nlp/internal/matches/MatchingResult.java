@@ -1,6 +1,7 @@
 package ai.labs.eddi.modules.nlp.internal.matches;
 
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.model.FoundDictionaryEntry;
 import lombok.Getter;
 
 import java.util.LinkedList;
@@ -26,4 +27,17 @@ public class MatchingResult {
     public void addResult(IDictionary.IFoundWord dictionaryEntries) {
         result.add(dictionaryEntries);
     }
+
+    /**
+     * @return the summed matching accuracy of the results, ranking exact over corrected over phonetic matches
+     */
+    double getMatchingAccuracy() {
+        double matchingAccuracy = 0;
+        for (IDictionary.IFoundWord foundWord : result) {
+            matchingAccuracy += foundWord instanceof FoundDictionaryEntry ?
+                    ((FoundDictionaryEntry) foundWord).getMatchingAccuracy() : 1.0;
+        }
+
+        return matchingAccuracy;
+    }
 }
@@ -7,27 +7,27 @@ import java.util.NoSuchElementException;
 /**
  * @author ginccc
  */
-public class Permutation implements Iterable<Integer[]> {
-    private Integer[] values;
+public class Permutation implements Iterable<int[]> {
+    private int[] values;
 
-    public Permutation(Integer[] values) {
+    public Permutation(int[] values) {
         this.values = values;
     }
 
     @Override
-    public Iterator<Integer[]> iterator() {
+    public Iterator<int[]> iterator() {
         return new PermutationIterator(values);
     }
 
-    public class PermutationIterator implements Iterator<Integer[]> {
-        private Integer[] values;
+    public class PermutationIterator implements Iterator<int[]> {
+        private int[] values;
 
         private int factorial;
         private int factorialCounter;
 
-        private Integer[] next = null;
+        private int[] next = null;
 
-        PermutationIterator(Integer[] values) {
+        PermutationIterator(int[] values) {
             this.values = values;
 
             Arrays.sort(this.values);
@@ -47,11 +47,10 @@ public class Permutation implements Iterable<Integer[]> {
         }
 
         @Override
-        public Integer[] next() {
-            Integer[] ret = null;
+        public int[] next() {
+            int[] ret = null;
             if (next != null) {
-                ret = new Integer[next.length];
-                System.arraycopy(next, 0, ret, 0, next.length);
+                ret = next.clone();
             }
 
             next = calculateNext();
@@ -63,13 +62,13 @@ public class Permutation implements Iterable<Integer[]> {
             throw new NoSuchElementException();
         }
 
-        private Integer[] calculateNext() {
+        private int[] calculateNext() {
             factorialCounter++;
             if (factorialCounter < factorial) {
                 int firstNonDecreasingIndex = -1, swapPoint = -1;
 
                 for (int i = values.length - 1; i > 0; i--) {
-                    if (values[i - 1].compareTo(values[i]) < 0) {
+                    if (values[i - 1] < values[i]) {
                         firstNonDecreasingIndex = i - 1;
                         break;
                     } else if (i == 1) {
@@ -78,12 +77,12 @@ public class Permutation implements Iterable<Integer[]> {
                 }//from the end, find first index that arrayToPermute[index]<arrayToPermute[index+1]
 
                 for (int i = values.length - 1; i > firstNonDecreasingIndex; i--) {
-                    if (values[firstNonDecreasingIndex].compareTo(values[i]) < 0) {
+                    if (values[firstNonDecreasingIndex] < values[i]) {
                         swapPoint = i;
                         break;
                     }//finding the first numthat arrayToPermute[swapPoint]>arrayToPermute[index]
                 }
-                Integer tmp = values[firstNonDecreasingIndex];
+                int tmp = values[firstNonDecreasingIndex];
                 values[firstNonDecreasingIndex] = values[swapPoint];
                 values[swapPoint] = tmp;//swap arrayToPermute[index], arrayToPermute[swapPoint]
 
@@ -4,29 +4,42 @@ import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * @author ginccc
  */
 public class Phrase extends DictionaryEntry implements IDictionary.IPhrase {
+    private volatile List<IDictionary.IWord> words;
 
     public Phrase(String value, Expressions expressions, String identifier) {
         super(value, expressions, identifier, 0);
+        words = splitIntoWords(value);
     }
 
     @Override
     public List<IDictionary.IWord> getWords() {
+        return words;
+    }
+
+    @Override
+    public void setValue(String value) {
+        super.setValue(value);
+        words = splitIntoWords(value);
+    }
+
+    private static List<IDictionary.IWord> splitIntoWords(String value) {
         String[] splitPhrase = value.split(" ");
-        List<IDictionary.IWord> words = new LinkedList<>();
+        List<IDictionary.IWord> words = new ArrayList<>(splitPhrase.length);
         Arrays.stream(splitPhrase).forEach(word -> {
             Expression unusedExp = new Expression("unused", new Expression(word));
             words.add(new Word(word, new Expressions(unusedExp), null, 0, true));
         });
 
-        return words;
+        return Collections.unmodifiableList(words);
     }
 
     @Override
@@ -4,17 +4,25 @@ package ai.labs.eddi.modules.nlp.model;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 
+import lombok.Getter;
+
 import java.util.regex.Pattern;
 
 /**
  * @author ginccc
  */
 public class RegEx extends DictionaryEntry implements IDictionary.IRegEx {
+    private static final String META_CHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+    private static final String QUANTIFIERS = "?*+{";
+
     private final Pattern regEx;
+    @Getter
+    private final String literalPrefix;
 
     public RegEx(String value, Expressions expressions) {
         super(value, expressions);
         this.regEx = Pattern.compile(value);
+        this.literalPrefix = extractLiteralPrefix(value);
     }
 
     @Override
@@ -26,4 +34,53 @@ public class RegEx extends DictionaryEntry implements IDictionary.IRegEx {
     public boolean match(String lookup) {
         return regEx.matcher(lookup).matches();
     }
+
+    /**
+     * @return the literal characters every input matching the whole regex has to start with,
+     * empty if this cannot be determined safely (e.g. top-level alternations)
+     */
+    static String extractLiteralPrefix(String regEx) {
+        if (regEx.contains("\\Q") || hasTopLevelAlternation(regEx)) {
+            return "";
+        }
+
+        int start = regEx.startsWith("^") ? 1 : 0;
+        int end = start;
+        while (end < regEx.length() && META_CHARACTERS.indexOf(regEx.charAt(end)) == -1) {
+            end++;
+        }
+
+        if (end < regEx.length() && QUANTIFIERS.indexOf(regEx.charAt(end)) != -1 && end > start) {
+            // the last literal is quantified, so it might not be there at all
+            end--;
+            if (end > start && Character.isHighSurrogate(regEx.charAt(end - 1))) {
+                end--;
+            }
+        }
+
+        return regEx.substring(start, end);
+    }
+
+    private static boolean hasTopLevelAlternation(String regEx) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = 0; i < regEx.length(); i++) {
+            char c = regEx.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = c != ']';
+            } else if (c == '[') {
+                inCharacterClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth <= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -215,7 +215,7 @@ public class OutputGenerationTask implements ILifecycleTask {
 
     private LinkedList<IOutputFilter> createOutputFilters(IConversationMemory memory, List<String> actions) {
         return actions.stream().map(action ->
-                        new OutputFilter(action, countActionOccurrences(memory.getPreviousSteps(), action))).
+                        new OutputFilter(action, countActionOccurrences(memory, action))).
                 collect(Collectors.toCollection(LinkedList::new));
     }
 
@@ -267,6 +267,23 @@ public class OutputGenerationTask implements ILifecycleTask {
         return possibleValues.get(new SecureRandom().nextInt(possibleValues.size()));
     }
 
+    private int countActionOccurrences(IConversationMemory memory, String action) {
+        var stepCounters = memory.getStepCounters();
+        if (stepCounters == null) {
+            return countActionOccurrences(memory.getPreviousSteps(), action);
+        }
+
+        int count = 0;
+        Map<List<String>, Integer> actionsOccurrences = stepCounters.getLatestResultOccurrences(KEY_ACTIONS);
+        for (var actionsOccurrence : actionsOccurrences.entrySet()) {
+            List<String> actions = actionsOccurrence.getKey();
+            if (actions != null && actions.contains(action)) {
+                count += actionsOccurrence.getValue();
+            }
+        }
+        return count;
+    }
+
     private int countActionOccurrences(IConversationStepStack conversationStepStack,
                                        String action) {
 
@@ -17,9 +17,9 @@ import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
 import ai.labs.eddi.modules.properties.IPropertySetter;
 import ai.labs.eddi.modules.templating.ITemplatingEngine;
+import ai.labs.eddi.utils.OgnlUtilities;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import ognl.Ognl;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -147,7 +147,7 @@ public class PropertySetterTask implements ILifecycleTask {
                             Object templatedObj;
                             if (!conversationProperties.containsKey(name) || property.getOverride()) {
                                 if (!isNullOrEmpty(fromObjectPath)) {
-                                    templatedObj = Ognl.getValue(fromObjectPath, templateDataObjects);
+                                    templatedObj = OgnlUtilities.getValue(fromObjectPath, templateDataObjects);
                                     if (templatedObj instanceof String) {
                                         templateString = templatingEngine.processTemplate(templatedObj.toString(), templateDataObjects);
                                         conversationProperties.put(name, new Property(name, templateString, scope));
@@ -162,7 +162,7 @@ public class PropertySetterTask implements ILifecycleTask {
                                     }
 
                                     if (!isNullOrEmpty(templatedObj) && !isNullOrEmpty(toObjectPath)) {
-                                        Ognl.setValue(toObjectPath, templateDataObjects, templatedObj);
+                                        OgnlUtilities.setValue(toObjectPath, templateDataObjects, templatedObj);
                                     }
                                 } else {
                                     var valueString = property.getValueString();
@@ -275,6 +275,14 @@ public class PropertySetterTask implements ILifecycleTask {
             throw new PackageConfigurationException(message, e);
         }
 
+        setOnActionsList.stream().
+                filter(setOnActions -> setOnActions.getSetProperties() != null).
+                flatMap(setOnActions -> setOnActions.getSetProperties().stream()).
+                forEach(propertyInstruction -> {
+                    OgnlUtilities.preparseExpression(propertyInstruction.getFromObjectPath());
+                    OgnlUtilities.preparseExpression(propertyInstruction.getToObjectPath());
+                });
+
         return new PropertySetter(new LinkedList<>(setOnActionsList));
     }
 
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.runtime.Startup;
 import org.jboss.logging.Logger;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.StringTemplateResolver;
 
@@ -29,6 +30,7 @@ import java.util.Map;
 @Startup(1000)
 @ApplicationScoped
 public class TemplateEngineModule {    private static final Logger LOGGER = Logger.getLogger("Startup");
+    private static final int PARSED_TEMPLATES_CACHE_SIZE = 1000;
     private final Map<String, Provider<ILifecycleTask>> lifecycleTaskProviders;
     private final Instance<ILifecycleTask> instance;
     private final SecureTemplateConfiguration secureConfig;    public TemplateEngineModule(@LifecycleExtensions Map<String, Provider<ILifecycleTask>> lifecycleTaskProviders,
@@ -66,8 +68,14 @@ public class TemplateEngineModule {    private static final Logger LOGGER = Logg
         templateEngine.addDialect(new JsonSerializationThymeleafDialect(objectMapper));
         StringTemplateResolver templateResolver = new StringTemplateResolver();
         templateResolver.setTemplateMode(templateMode);
+        // the template text is the cache key, so parsed templates can be reused without ever expiring
+        templateResolver.setCacheable(true);
         templateEngine.addTemplateResolver(templateResolver);
 
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(PARSED_TEMPLATES_CACHE_SIZE);
+        templateEngine.setCacheManager(cacheManager);
+
         // Apply security configuration to prevent SSTI attacks
         secureConfig.configureSecureTemplate(templateEngine);
         
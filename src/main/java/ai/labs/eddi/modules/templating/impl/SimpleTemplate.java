@@ -0,0 +1,163 @@
+package ai.labs.eddi.modules.templating.impl;
+
+import org.unbescape.html.HtmlEscape;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A text template that only consists of plain text and simple variable expressions such as
+ * {@code [[${properties.name}]]}, which can be rendered without running the Thymeleaf engine.
+ * Values are escaped the same way as the engine's text inliner does it.
+ * <p>
+ * Variables are resolved along their dot path through maps only. Whenever a value is met that the
+ * engine might render differently (e.g. a bean, a collection or a missing intermediate value),
+ * {@link #render(Map)} returns null and the template has to be processed by Thymeleaf instead.
+ *
+ * @author ginccc
+ */
+final class SimpleTemplate {
+    private static final Pattern SIMPLE_EXPRESSION =
+            Pattern.compile("\\[\\[\\$\\{([A-Za-z_][A-Za-z0-9_]*(?:\\.[A-Za-z_][A-Za-z0-9_]*)*)}]]");
+
+    /**
+     * any of these in the plain text parts could start other inlined expressions or textual elements
+     */
+    private static final String[] RESERVED_CHARS = {"[", "]", "${", "*{", "#{", "@{", "~{", "th:"};
+
+    /**
+     * names that Thymeleaf does not resolve as plain context variables
+     */
+    private static final Set<String> RESERVED_VARIABLE_NAMES = Set.of("param", "session", "application");
+
+    /**
+     * names that OGNL either reads as keywords or, on maps, as special properties (e.g. {@code map.size})
+     */
+    private static final Set<String> RESERVED_PROPERTY_NAMES = Set.of(
+            "size", "keys", "keySet", "values", "isEmpty", "class",
+            "and", "or", "not", "in", "instanceof", "new", "true", "false", "null", "this",
+            "gt", "lt", "eq", "neq", "gte", "lte", "band", "bor", "xor", "shl", "shr", "ushr");
+
+    private static final Object NOT_RESOLVABLE = new Object();
+
+    private final String[] texts;
+    private final String[][] variablePaths;
+
+    private SimpleTemplate(String[] texts, String[][] variablePaths) {
+        this.texts = texts;
+        this.variablePaths = variablePaths;
+    }
+
+    /**
+     * @return the simple template, or null if this template needs the Thymeleaf engine
+     */
+    static SimpleTemplate parse(String template) {
+        List<String> texts = new ArrayList<>();
+        List<String[]> variablePaths = new ArrayList<>();
+
+        Matcher matcher = SIMPLE_EXPRESSION.matcher(template);
+        int textStart = 0;
+        while (matcher.find()) {
+            String[] variablePath = matcher.group(1).split("\\.");
+            if (!isPlainText(template.substring(textStart, matcher.start())) || !isSimplePath(variablePath)) {
+                return null;
+            }
+
+            texts.add(template.substring(textStart, matcher.start()));
+            variablePaths.add(variablePath);
+            textStart = matcher.end();
+        }
+
+        String lastText = template.substring(textStart);
+        if (variablePaths.isEmpty() || !isPlainText(lastText)) {
+            return null;
+        }
+        texts.add(lastText);
+
+        return new SimpleTemplate(texts.toArray(new String[0]), variablePaths.toArray(new String[0][]));
+    }
+
+    private static boolean isPlainText(String text) {
+        for (String reservedChars : RESERVED_CHARS) {
+            if (text.contains(reservedChars)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isSimplePath(String[] variablePath) {
+        if (RESERVED_VARIABLE_NAMES.contains(variablePath[0])) {
+            return false;
+        }
+
+        for (String name : variablePath) {
+            if (RESERVED_PROPERTY_NAMES.contains(name)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return only those entries of these variables that this template refers to
+     */
+    Map<String, Object> selectVariables(Map<String, Object> variables) {
+        Map<String, Object> selectedVariables = new HashMap<>();
+        if (variables != null) {
+            for (String[] variablePath : variablePaths) {
+                if (variables.containsKey(variablePath[0])) {
+                    selectedVariables.put(variablePath[0], variables.get(variablePath[0]));
+                }
+            }
+        }
+
+        return selectedVariables;
+    }
+
+    /**
+     * @return the rendered template, or null if one of the values cannot be rendered without the engine
+     */
+    String render(Map<String, Object> variables) {
+        StringBuilder rendered = new StringBuilder(texts[0]);
+        for (int i = 0; i < variablePaths.length; i++) {
+            Object value = resolve(variables, variablePaths[i]);
+            // a missing value is rendered as an empty string, just like the engine does
+            if (value != null) {
+                if (!isSimpleValue(value)) {
+                    return null;
+                }
+                rendered.append(HtmlEscape.escapeHtml4Xml(value.toString()));
+            }
+            rendered.append(texts[i + 1]);
+        }
+
+        return rendered.toString();
+    }
+
+    private static Object resolve(Map<String, Object> variables, String[] variablePath) {
+        Object value = variables.get(variablePath[0]);
+        for (int i = 1; i < variablePath.length; i++) {
+            if (!(value instanceof Map)) {
+                // a missing intermediate value or a bean, the engine decides how to deal with it
+                return NOT_RESOLVABLE;
+            }
+            value = ((Map<?, ?>) value).get(variablePath[i]);
+        }
+
+        return value;
+    }
+
+    private static boolean isSimpleValue(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long ||
+                value instanceof Short || value instanceof Byte || value instanceof Boolean ||
+                value instanceof Character;
+    }
+}
@@ -2,6 +2,10 @@ package ai.labs.eddi.modules.templating.impl;
 
 import ai.labs.eddi.modules.templating.ITemplatingEngine;
 import ai.labs.eddi.modules.templating.security.SecureTemplateConfiguration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.exceptions.TemplateInputException;
@@ -19,10 +23,14 @@ import java.util.Map;
 @ApplicationScoped
 public class TemplatingEngine implements ITemplatingEngine {
     private static final List<String> templatingControlChars = Arrays.asList("${", "*{", "#{", "@{", "~{", "th:");
+    private static final int SANITIZED_TEMPLATES_CACHE_SIZE = 10000;
     private final TextTemplateEngine textTemplateEngine;
     private final HtmlTemplateEngine htmlTemplateEngine;
     private final JavaScriptTemplateEngine javaScriptTemplateEngine;
-    private final SecureTemplateConfiguration secureConfig;    @Inject
+    private final SecureTemplateConfiguration secureConfig;
+    private final Cache<String, SanitizedTemplate> sanitizedTemplates =
+            Caffeine.newBuilder().maximumSize(SANITIZED_TEMPLATES_CACHE_SIZE).build();
+    @Inject
     public TemplatingEngine(TextTemplateEngine textTemplateEngine,
                             HtmlTemplateEngine htmlTemplateEngine,
                             JavaScriptTemplateEngine javaScriptTemplateEngine) {
@@ -42,18 +50,28 @@ public class TemplatingEngine implements ITemplatingEngine {
                                   Map<String, Object> dynamicAttributesMap,
                                   TemplateMode templateMode) throws TemplateEngineException {
         // SECURITY: Sanitize template content FIRST (replace dangerous patterns with "CONTENT NOT ALLOWED")
-        String sanitizedTemplate = secureConfig.sanitizeTemplateContent(template);
-        
+        SanitizedTemplate sanitizedTemplate = sanitizeTemplate(template);
+
+        SimpleTemplate simpleTemplate = sanitizedTemplate.getSimpleTemplate();
+        if (simpleTemplate != null && templateMode == TemplateMode.TEXT) {
+            // only the referenced variables are sanitized, each of them the same way as in the full variables map
+            var referencedVariables = simpleTemplate.selectVariables(dynamicAttributesMap);
+            String rendered = simpleTemplate.render(secureConfig.sanitizeTemplateVariables(referencedVariables));
+            if (rendered != null) {
+                return rendered;
+            }
+        }
+
         // SECURITY: Sanitize template variables
         Map<String, Object> sanitizedVariables = secureConfig.sanitizeTemplateVariables(dynamicAttributesMap);
         
         final Context ctx = new Context(Locale.ENGLISH);
         sanitizedVariables.forEach(ctx::setVariable);
         try {
-            if (containsTemplatingControlCharacters(sanitizedTemplate)) {
-                return getTemplateEngine(templateMode).process(sanitizedTemplate, ctx);
+            if (sanitizedTemplate.containsTemplatingControlCharacters()) {
+                return getTemplateEngine(templateMode).process(sanitizedTemplate.getContent(), ctx);
             } else {
-                return sanitizedTemplate;
+                return sanitizedTemplate.getContent();
             }
         } catch (TemplateInputException e) {
             String message = "Error trying to insert context information into template. " +
@@ -62,7 +80,19 @@ public class TemplatingEngine implements ITemplatingEngine {
         }
     }
 
-    private boolean containsTemplatingControlCharacters(String template) {
+    /**
+     * Sanitization only depends on the template text, so its result is memoized for repeatedly rendered templates.
+     */
+    private SanitizedTemplate sanitizeTemplate(String template) {
+        return sanitizedTemplates.get(template, key -> {
+            String sanitizedContent = secureConfig.sanitizeTemplateContent(key);
+            boolean containsControlCharacters = containsTemplatingControlCharacters(sanitizedContent);
+            return new SanitizedTemplate(sanitizedContent, containsControlCharacters,
+                    containsControlCharacters ? SimpleTemplate.parse(sanitizedContent) : null);
+        });
+    }
+
+    private static boolean containsTemplatingControlCharacters(String template) {
         return templatingControlChars.stream().anyMatch(template::contains);
     }
 
@@ -77,4 +107,20 @@ public class TemplatingEngine implements ITemplatingEngine {
                 return textTemplateEngine.getTemplateEngine();
         }
     }
+
+    @AllArgsConstructor
+    private static class SanitizedTemplate {
+        @Getter
+        private final String content;
+        private final boolean containsTemplatingControlCharacters;
+        /**
+         * null if this template needs the Thymeleaf engine
+         */
+        @Getter
+        private final SimpleTemplate simpleTemplate;
+
+        boolean containsTemplatingControlCharacters() {
+            return containsTemplatingControlCharacters;
+        }
+    }
 }
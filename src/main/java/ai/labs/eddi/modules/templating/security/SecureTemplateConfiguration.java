@@ -9,7 +9,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import java.util.Set;
 import java.util.Map;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 /**
  * Security configuration for Thymeleaf templates to prevent SSTI attacks.
@@ -63,6 +65,28 @@ public class SecureTemplateConfiguration {
         "getenv"
     );
     
+    private static final String CONTENT_NOT_ALLOWED = "CONTENT NOT ALLOWED";
+
+    // Patterns used by sanitizeTemplateContent, compiled once instead of on every replaceAll
+    private static final Pattern TYPE_EXPRESSION_PATTERN = Pattern.compile("T\\([^)]*\\)");
+    private static final Pattern HASH_TYPE_EXPRESSION_PATTERN = Pattern.compile("#\\{T\\([^}]*\\)\\}");
+    private static final Pattern OGNL_JAVA_EXPRESSION_PATTERN = Pattern.compile("@java\\.[^\\s]*");
+    private static final Map<String, Pattern> BLACKLISTED_METHOD_PATTERNS = compileBlacklistedMethodPatterns();
+    private static final Pattern SCRIPT_OPENING_TAG_PATTERN = Pattern.compile("(?i)<script");
+    private static final Pattern SCRIPT_CLOSING_TAG_PATTERN = Pattern.compile("(?i)</script>");
+    private static final Pattern JAVASCRIPT_PROTOCOL_PATTERN = Pattern.compile("(?i)javascript:");
+    private static final Pattern VBSCRIPT_PROTOCOL_PATTERN = Pattern.compile("(?i)vbscript:");
+    private static final Pattern EVENT_HANDLER_PATTERN = Pattern.compile("(?i)on\\w+\\s*=");
+
+    private static Map<String, Pattern> compileBlacklistedMethodPatterns() {
+        // keeps the iteration order of BLACKLISTED_METHODS, so methods are replaced in the same order as before
+        Map<String, Pattern> patterns = new LinkedHashMap<>();
+        for (String blacklistedMethod : BLACKLISTED_METHODS) {
+            patterns.put(blacklistedMethod, Pattern.compile(blacklistedMethod + "\\([^)]*\\)"));
+        }
+        return Collections.unmodifiableMap(patterns);
+    }
+
     /**
      * Configures a TemplateEngine with security restrictions to prevent SSTI.
      * 
@@ -96,47 +120,49 @@ public class SecureTemplateConfiguration {
         // Replace dangerous type expressions (T() operator)
         if (sanitized.contains("T(") || sanitized.contains("#{T(") || sanitized.contains("#ctx")) {
             LOGGER.warning("Sanitizing template containing T() type expression: potential SSTI attempt");
-            sanitized = sanitized.replaceAll("T\\([^)]*\\)", "CONTENT NOT ALLOWED");
-            sanitized = sanitized.replaceAll("#\\{T\\([^}]*\\)\\}", "CONTENT NOT ALLOWED");
-            sanitized = sanitized.replace("#ctx", "CONTENT NOT ALLOWED");
+            sanitized = TYPE_EXPRESSION_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
+            sanitized = HASH_TYPE_EXPRESSION_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
+            sanitized = sanitized.replace("#ctx", CONTENT_NOT_ALLOWED);
         }
         
         // Replace OGNL expressions which should not be present
         if (sanitized.contains("@") && sanitized.contains("@java.")) {
             LOGGER.warning("Sanitizing template containing OGNL @ expressions: potential SSTI attempt");
-            sanitized = sanitized.replaceAll("@java\\.[^\\s]*", "CONTENT NOT ALLOWED");
+            sanitized = OGNL_JAVA_EXPRESSION_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
         }
         
         // Replace dangerous class references
         for (String blacklistedClass : BLACKLISTED_CLASSES) {
             if (sanitized.contains(blacklistedClass)) {
                 LOGGER.warning("Sanitizing template containing blacklisted class: " + blacklistedClass);
-                sanitized = sanitized.replace(blacklistedClass, "CONTENT NOT ALLOWED");
+                sanitized = sanitized.replace(blacklistedClass, CONTENT_NOT_ALLOWED);
             }
         }
         
         // Replace dangerous method calls
-        for (String blacklistedMethod : BLACKLISTED_METHODS) {
+        for (Map.Entry<String, Pattern> blacklistedMethodPattern : BLACKLISTED_METHOD_PATTERNS.entrySet()) {
+            String blacklistedMethod = blacklistedMethodPattern.getKey();
             if (sanitized.contains(blacklistedMethod + "(")) {
                 LOGGER.warning("Sanitizing template containing blacklisted method: " + blacklistedMethod);
-                sanitized = sanitized.replaceAll(blacklistedMethod + "\\([^)]*\\)", "CONTENT NOT ALLOWED");
+                sanitized = blacklistedMethodPattern.getValue().matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
             }
         }        // Replace script injections - improved patterns
-        if (sanitized.toLowerCase().contains("<script") || 
-            sanitized.toLowerCase().contains("javascript:") ||
-            sanitized.toLowerCase().contains("vbscript:") ||
-            sanitized.toLowerCase().contains("onclick") ||
-            sanitized.toLowerCase().contains("onload")) {
+        String lowerCaseSanitized = sanitized.toLowerCase();
+        if (lowerCaseSanitized.contains("<script") || 
+            lowerCaseSanitized.contains("javascript:") ||
+            lowerCaseSanitized.contains("vbscript:") ||
+            lowerCaseSanitized.contains("onclick") ||
+            lowerCaseSanitized.contains("onload")) {
             LOGGER.warning("Sanitizing template containing script injection attempt");
             
             // Simple and effective: replace any occurrence of script tags
-            sanitized = sanitized.replaceAll("(?i)<script", "CONTENT NOT ALLOWED");
-            sanitized = sanitized.replaceAll("(?i)</script>", "CONTENT NOT ALLOWED");
-            sanitized = sanitized.replaceAll("(?i)javascript:", "CONTENT NOT ALLOWED");
-            sanitized = sanitized.replaceAll("(?i)vbscript:", "CONTENT NOT ALLOWED");
+            sanitized = SCRIPT_OPENING_TAG_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
+            sanitized = SCRIPT_CLOSING_TAG_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
+            sanitized = JAVASCRIPT_PROTOCOL_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
+            sanitized = VBSCRIPT_PROTOCOL_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
             
             // Replace event handlers
-            sanitized = sanitized.replaceAll("(?i)on\\w+\\s*=", "CONTENT NOT ALLOWED");
+            sanitized = EVENT_HANDLER_PATTERN.matcher(sanitized).replaceAll(CONTENT_NOT_ALLOWED);
         }
         
         LOGGER.info("SECURITY: Sanitization completed. Original: '" + template + "' -> Sanitized: '" + sanitized + "'");
@@ -64,24 +64,16 @@ public class CharacterUtilities {
      * @param pattern  String containing all allowed chars
      */
     public static void deleteUndefinedChars(StringBuilder sentence, String pattern) {
-        boolean isProhibited;
-        char[] patternChars = pattern.toCharArray();
-
-        for (int i = 0; i < sentence.length(); ) {
-            isProhibited = true;
-            for (char allowedChar : patternChars) {
-                if (sentence.charAt(i) == allowedChar) {
-                    isProhibited = false;
-                    break;
-                }
-            }
-
-            if (isProhibited) {
-                sentence.deleteCharAt(i);
-            } else {
-                i++;
+        // compact the allowed chars to the front in one pass instead of shifting the rest on every delete
+        int length = 0;
+        for (int i = 0; i < sentence.length(); i++) {
+            char c = sentence.charAt(i);
+            if (pattern.indexOf(c) >= 0) {
+                sentence.setCharAt(length++, c);
             }
         }
+
+        sentence.setLength(length);
     }
 
     public static String convertSpecialCharacter(String input) {
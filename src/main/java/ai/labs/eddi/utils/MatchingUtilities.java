@@ -1,7 +1,5 @@
 package ai.labs.eddi.utils;
 
-import ognl.Ognl;
-
 import java.util.List;
 import java.util.Map;
 
@@ -11,14 +9,35 @@ public class MatchingUtilities {
     public static boolean executeValuePath(Map<String, Object> conversationValues,
                                            String valuePath, String equals, String contains) {
 
-        boolean success = false;
+        Object value = null;
+        try {
+            value = OgnlUtilities.getValue(valuePath, conversationValues);
+        } catch (Exception e) {
+            //no value was found, which is an expected case, so silent exception here
+        }
+
+        return matchValue(value, equals, contains);
+    }
+
+    /**
+     * @param parsedValuePath as returned by {@link OgnlUtilities#parseExpression(String)}
+     */
+    public static boolean executeParsedValuePath(Map<String, Object> conversationValues,
+                                                 Object parsedValuePath, String equals, String contains) {
 
         Object value = null;
         try {
-            value = Ognl.getValue(valuePath, conversationValues);
+            value = OgnlUtilities.getValueOfParsedExpression(parsedValuePath, conversationValues);
         } catch (Exception e) {
             //no value was found, which is an expected case, so silent exception here
         }
+
+        return matchValue(value, equals, contains);
+    }
+
+    private static boolean matchValue(Object value, String equals, String contains) {
+        boolean success = false;
+
         if (value != null) {
             if (!isNullOrEmpty(equals) && equals.equals(value.toString())) {
                 success = true;
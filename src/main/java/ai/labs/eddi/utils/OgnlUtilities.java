@@ -0,0 +1,111 @@
+package ai.labs.eddi.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ognl.AbstractMemberAccess;
+import ognl.ClassResolver;
+import ognl.MemberAccess;
+import ognl.Ognl;
+import ognl.OgnlException;
+import org.jboss.logging.Logger;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evaluates OGNL path expressions (such as {@code properties.username} or {@code memory.current.output[0]})
+ * against the data objects of a conversation.
+ * <p>
+ * Parsed expression trees are kept in a bounded cache shared by all modules, so a path is only parsed once,
+ * no matter how often it gets evaluated. Parsed trees are safe to evaluate concurrently.
+ * <p>
+ * Every evaluation runs in a restricted context: classes cannot be resolved by name (no static calls,
+ * no constructors), static members are not accessible and neither are members of classes that allow
+ * to break out of the data objects (e.g. {@link Class}, {@link ClassLoader} or {@link Runtime}).
+ *
+ * @author ginccc
+ */
+public class OgnlUtilities {
+    private static final int PARSED_EXPRESSIONS_CACHE_SIZE = 1000;
+    private static final Cache<String, Object> parsedExpressions =
+            Caffeine.newBuilder().maximumSize(PARSED_EXPRESSIONS_CACHE_SIZE).build();
+
+    private static final Set<Class<?>> RESTRICTED_CLASSES = Set.of(
+            Class.class, ClassLoader.class, Runtime.class, ProcessBuilder.class, System.class,
+            Thread.class, Module.class);
+    private static final String RESTRICTED_PACKAGE_REFLECTION = "java.lang.reflect";
+    private static final String GET_CLASS = "getClass";
+
+    private static final MemberAccess RESTRICTED_MEMBER_ACCESS = new AbstractMemberAccess() {
+        @Override
+        public boolean isAccessible(Map context, Object target, Member member, String propertyName) {
+            int modifiers = member.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)) {
+                return false;
+            }
+
+            Class<?> declaringClass = member.getDeclaringClass();
+            return !RESTRICTED_CLASSES.contains(declaringClass) &&
+                    !declaringClass.getName().startsWith(RESTRICTED_PACKAGE_REFLECTION) &&
+                    !GET_CLASS.equals(member.getName());
+        }
+    };
+
+    private static final Logger LOGGER = Logger.getLogger(OgnlUtilities.class);
+
+    private static final ClassResolver RESTRICTED_CLASS_RESOLVER = (className, context) -> {
+        throw new ClassNotFoundException(String.format("Access to classes is not allowed (class=%s)", className));
+    };
+
+    /**
+     * @return the parsed tree of this expression, taken from the shared cache if it has been parsed before
+     * @throws OgnlException if the expression is not valid
+     */
+    public static Object parseExpression(String expression) throws OgnlException {
+        Object parsedExpression = parsedExpressions.getIfPresent(expression);
+        if (parsedExpression == null) {
+            parsedExpression = Ognl.parseExpression(expression);
+            parsedExpressions.put(expression, parsedExpression);
+        }
+
+        return parsedExpression;
+    }
+
+    /**
+     * Parses a statically configured expression ahead of its first evaluation.
+     * Invalid expressions are only logged here, they fail again once they get evaluated.
+     */
+    public static void preparseExpression(String expression) {
+        if (RuntimeUtilities.isNullOrEmpty(expression)) {
+            return;
+        }
+
+        try {
+            parseExpression(expression);
+        } catch (OgnlException e) {
+            LOGGER.warn(String.format("Invalid object path: %s (%s)", expression, e.getLocalizedMessage()));
+        }
+    }
+
+    public static Object getValue(String expression, Object root) throws OgnlException {
+        return getValueOfParsedExpression(parseExpression(expression), root);
+    }
+
+    /**
+     * @param parsedExpression as returned by {@link #parseExpression(String)}
+     */
+    public static Object getValueOfParsedExpression(Object parsedExpression, Object root) throws OgnlException {
+        return Ognl.getValue(parsedExpression, createContext(root), root);
+    }
+
+    public static void setValue(String expression, Object root, Object value) throws OgnlException {
+        Ognl.setValue(parseExpression(expression), createContext(root), root, value);
+    }
+
+    private static Map createContext(Object root) {
+        // an OgnlContext holds the state of one evaluation, so only its restrictions are shared
+        return Ognl.createDefaultContext(root, RESTRICTED_MEMBER_ACCESS, RESTRICTED_CLASS_RESOLVER, null);
+    }
+}
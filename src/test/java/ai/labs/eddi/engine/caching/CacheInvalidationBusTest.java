@@ -0,0 +1,92 @@
+package ai.labs.eddi.engine.caching;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author ginccc
+ */
+public class CacheInvalidationBusTest {
+    private static final String CACHE_NAME = "botTriggers";
+    private CacheInvalidationBus node1;
+    private CacheInvalidationBus node2;
+    private ICache<String, String> cacheOfNode1;
+    private ICache<String, String> cacheOfNode2;
+
+    @BeforeEach
+    public void setUp() {
+        var transport = new InMemoryCacheInvalidationTransport();
+        node1 = new CacheInvalidationBus(transport);
+        node2 = new CacheInvalidationBus(transport);
+        cacheOfNode1 = createCache(CACHE_NAME);
+        cacheOfNode2 = createCache(CACHE_NAME);
+        node1.register(cacheOfNode1);
+        node2.register(cacheOfNode2);
+    }
+
+    @Test
+    public void publishInvalidation_invalidatesKeyOnOtherNode() {
+        //setup
+        cacheOfNode1.put("intent", "updatedValue");
+        cacheOfNode2.put("intent", "staleValue");
+        cacheOfNode2.put("otherIntent", "otherValue");
+
+        //test
+        node1.publishInvalidation(CACHE_NAME, "intent");
+
+        //assert
+        Assertions.assertEquals("updatedValue", cacheOfNode1.get("intent"));
+        Assertions.assertNull(cacheOfNode2.get("intent"));
+        Assertions.assertEquals("otherValue", cacheOfNode2.get("otherIntent"));
+    }
+
+    @Test
+    public void publishInvalidation_nullKeyClearsCacheOnOtherNode() {
+        //setup
+        cacheOfNode1.put("intent", "value");
+        cacheOfNode2.put("intent", "value");
+        cacheOfNode2.put("otherIntent", "otherValue");
+
+        //test
+        node1.publishInvalidation(CACHE_NAME, null);
+
+        //assert
+        Assertions.assertEquals("value", cacheOfNode1.get("intent"));
+        Assertions.assertTrue(cacheOfNode2.keySet().isEmpty());
+    }
+
+    @Test
+    public void publishInvalidation_onlyAffectsCacheWithSameName() {
+        //setup
+        ICache<String, String> otherCacheOfNode2 = createCache("userConversations");
+        node2.register(otherCacheOfNode2);
+        cacheOfNode2.put("key", "value");
+        otherCacheOfNode2.put("key", "value");
+
+        //test
+        node1.publishInvalidation(CACHE_NAME, "key");
+
+        //assert
+        Assertions.assertNull(cacheOfNode2.get("key"));
+        Assertions.assertEquals("value", otherCacheOfNode2.get("key"));
+    }
+
+    @Test
+    public void publishInvalidation_worksInBothDirections() {
+        //setup
+        cacheOfNode1.put("key", "staleValue");
+
+        //test
+        node2.publishInvalidation(CACHE_NAME, "key");
+
+        //assert
+        Assertions.assertNull(cacheOfNode1.get("key"));
+        Assertions.assertNotEquals(node1.getNodeId(), node2.getNodeId());
+    }
+
+    private static ICache<String, String> createCache(String cacheName) {
+        return new CaffeineCache<>(cacheName, Caffeine.newBuilder().<String, String>build());
+    }
+}
@@ -0,0 +1,97 @@
+package ai.labs.eddi.engine.caching.mongo;
+
+import ai.labs.eddi.engine.caching.CacheInvalidationEvent;
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.reactivex.rxjava3.core.Flowable;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class MongoCacheInvalidationTransportTest {
+    private MongoCollection<Document> collection;
+    private MongoCacheInvalidationTransport transport;
+    private List<CacheInvalidationEvent> deliveredEvents;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(database.createCollection(anyString(), any())).thenReturn(Flowable.empty());
+        collection = mock(MongoCollection.class);
+        when(database.getCollection(anyString())).thenReturn(collection);
+        FindPublisher<Document> findPublisher = mock(FindPublisher.class);
+        when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+        when(collection.find(any(Bson.class))).thenReturn(findPublisher);
+
+        transport = new MongoCacheInvalidationTransport(database);
+        deliveredEvents = new LinkedList<>();
+        transport.subscribe(deliveredEvents::add);
+    }
+
+    @Test
+    public void deliver_documentsSeenAgainAfterRetailAreSkipped() {
+        //setup
+        Document first = createDocument(new ObjectId(), "key1", System.currentTimeMillis());
+        Document second = createDocument(new ObjectId(), "key2", System.currentTimeMillis());
+
+        //test
+        transport.deliver(first);
+        transport.deliver(second);
+        // the reopened cursor overlaps with what has been delivered before
+        transport.deliver(first);
+        transport.deliver(second);
+
+        //assert
+        Assertions.assertEquals(List.of(
+                new CacheInvalidationEvent("otherNode", "cacheName", "key1"),
+                new CacheInvalidationEvent("otherNode", "cacheName", "key2")), deliveredEvents);
+    }
+
+    @Test
+    public void tail_reopensBeforeTheLatestEventRegardlessOfIdOrder() {
+        //setup
+        long publishedAt = System.currentTimeMillis() + 10_000;
+        // an id created by a node whose clock is behind, with an event stamped later than all others
+        ObjectId earlierId = new ObjectId(new Date(publishedAt - 3_600_000));
+        transport.deliver(createDocument(earlierId, "key", publishedAt));
+        transport.deliver(createDocument(new ObjectId(), "otherKey", publishedAt - 5_000));
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+
+        //test
+        transport.tail();
+
+        //assert
+        verify(collection, times(2)).find(filter.capture());
+        Assertions.assertEquals(Filters.gte("publishedAt", publishedAt - 60_000).toBsonDocument(),
+                filter.getValue().toBsonDocument());
+        Assertions.assertEquals(2, deliveredEvents.size());
+    }
+
+    private static Document createDocument(ObjectId id, String key, long publishedAt) {
+        Document document = new Document();
+        document.put("_id", id);
+        document.put("originNodeId", "otherNode");
+        document.put("cacheName", "cacheName");
+        document.put("key", key);
+        document.put("publishedAt", publishedAt);
+        return document;
+    }
+}
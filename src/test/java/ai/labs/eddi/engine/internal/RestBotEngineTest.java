@@ -0,0 +1,153 @@
+package ai.labs.eddi.engine.internal;
+
+import ai.labs.eddi.engine.caching.CaffeineCache;
+import ai.labs.eddi.engine.caching.ICacheFactory;
+import ai.labs.eddi.engine.caching.ICacheInvalidationBus;
+import ai.labs.eddi.engine.lifecycle.IConversation;
+import ai.labs.eddi.engine.memory.ConversationMemory;
+import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.engine.memory.IConversationMemoryStore;
+import ai.labs.eddi.engine.memory.descriptor.IConversationDescriptorStore;
+import ai.labs.eddi.engine.runtime.IBot;
+import ai.labs.eddi.engine.runtime.IBotFactory;
+import ai.labs.eddi.engine.runtime.IConversationCoordinator;
+import ai.labs.eddi.engine.runtime.IRuntime;
+import ai.labs.eddi.models.ConversationState;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.container.AsyncResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static ai.labs.eddi.engine.memory.ConversationMemoryUtilities.convertConversationMemory;
+import static ai.labs.eddi.models.Deployment.Environment.unrestricted;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class RestBotEngineTest {
+    private static final String CONVERSATION_ID = "conversationId";
+    private static final String BOT_ID = "botId";
+    private IBotFactory botFactory;
+    private IConversationMemoryStore conversationMemoryStore;
+    private IConversationCoordinator conversationCoordinator;
+    private ICacheInvalidationBus cacheInvalidationBus;
+    private IRuntime runtime;
+    private RestBotEngine restBotEngine;
+
+    @BeforeEach
+    public void setUp() {
+        botFactory = mock(IBotFactory.class);
+        conversationMemoryStore = mock(IConversationMemoryStore.class);
+        conversationCoordinator = mock(IConversationCoordinator.class);
+        runtime = mock(IRuntime.class);
+        IContextLogger contextLogger = mock(IContextLogger.class);
+        when(contextLogger.createLoggingContext(any(), anyString(), anyString(), any())).thenReturn(new HashMap<>());
+        cacheInvalidationBus = mock(ICacheInvalidationBus.class);
+        ICacheFactory cacheFactory = mock(ICacheFactory.class);
+        when(cacheFactory.getCache(any())).
+                thenAnswer(invocation -> new CaffeineCache<>(invocation.getArgument(0), Caffeine.newBuilder().build()));
+        restBotEngine = new RestBotEngine(botFactory, null, conversationMemoryStore,
+                mock(IConversationDescriptorStore.class), null, conversationCoordinator, null,
+                cacheFactory, cacheInvalidationBus, runtime, contextLogger, new SimpleMeterRegistry(), 60);
+    }
+
+    @Test
+    public void getConversationState_readThroughPublishesNoInvalidation() {
+        //setup
+        when(conversationMemoryStore.getConversationState(CONVERSATION_ID)).thenReturn(ConversationState.READY);
+
+        //test
+        ConversationState fromStore = restBotEngine.getConversationState(unrestricted, CONVERSATION_ID);
+        ConversationState fromCache = restBotEngine.getConversationState(unrestricted, CONVERSATION_ID);
+
+        //assert
+        Assertions.assertEquals(ConversationState.READY, fromStore);
+        Assertions.assertEquals(ConversationState.READY, fromCache);
+        verify(conversationMemoryStore, times(1)).getConversationState(CONVERSATION_ID);
+        verify(cacheInvalidationBus, never()).publishInvalidation(any(), any());
+    }
+
+    @Test
+    public void endConversation_publishesInvalidation() {
+        //setup
+        when(conversationMemoryStore.getConversationState(CONVERSATION_ID)).thenReturn(ConversationState.READY);
+        restBotEngine.getConversationState(unrestricted, CONVERSATION_ID);
+
+        //test
+        restBotEngine.endConversation(CONVERSATION_ID);
+
+        //assert
+        Assertions.assertEquals(ConversationState.ENDED, restBotEngine.getConversationState(unrestricted, CONVERSATION_ID));
+        verify(conversationMemoryStore).setConversationState(CONVERSATION_ID, ConversationState.ENDED);
+        verify(cacheInvalidationBus, times(1)).publishInvalidation("conversationState", CONVERSATION_ID);
+    }
+
+    @Test
+    public void endConversation_publishesInvalidationEvenIfStateIsAlreadyCached() {
+        //setup
+        when(conversationMemoryStore.getConversationState(CONVERSATION_ID)).thenReturn(ConversationState.ENDED);
+        restBotEngine.getConversationState(unrestricted, CONVERSATION_ID);
+
+        //test
+        restBotEngine.endConversation(CONVERSATION_ID);
+        restBotEngine.endConversation(CONVERSATION_ID);
+
+        //assert
+        verify(cacheInvalidationBus, times(2)).publishInvalidation("conversationState", CONVERSATION_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void say_publishesInvalidationAfterMemoryHasBeenStored() throws Exception {
+        //setup
+        var conversationMemory = new ConversationMemory(BOT_ID, 1, "userId");
+        when(conversationMemoryStore.loadConversationMemorySnapshot(CONVERSATION_ID)).
+                thenReturn(convertConversationMemory(conversationMemory));
+        IBot bot = mock(IBot.class);
+        when(botFactory.getBot(any(), eq(BOT_ID), anyInt())).thenReturn(bot);
+        when(bot.continueConversation(any(), any(), any())).thenAnswer(invocation -> {
+            IConversationMemory memory = invocation.getArgument(0);
+            IConversation.IConversationOutputRenderer outputRenderer = invocation.getArgument(2);
+            IConversation conversation = mock(IConversation.class);
+            doAnswer(sayInvocation -> {
+                // the conversation renders its output before the engine stores the memory
+                outputRenderer.renderOutput(memory);
+                verify(cacheInvalidationBus, never()).publishInvalidation(any(), any());
+                return null;
+            }).when(conversation).say(anyString(), any());
+            return conversation;
+        });
+        doAnswer(invocation -> {
+            ((Callable<Void>) invocation.getArgument(1)).call();
+            return null;
+        }).when(conversationCoordinator).submitInOrder(eq(CONVERSATION_ID), any());
+        when(runtime.submitCallable(any(Callable.class), any(IRuntime.IFinishedExecution.class), any())).
+                thenAnswer(invocation -> {
+                    ((Callable<Void>) invocation.getArgument(0)).call();
+                    ((IRuntime.IFinishedExecution<Void>) invocation.getArgument(1)).onComplete(null);
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        //test
+        restBotEngine.say(unrestricted, BOT_ID, CONVERSATION_ID, false, true, List.of(), "hello",
+                mock(AsyncResponse.class));
+
+        //assert
+        InOrder inOrder = inOrder(conversationMemoryStore, cacheInvalidationBus);
+        inOrder.verify(conversationMemoryStore).storeConversationMemorySnapshot(any());
+        inOrder.verify(cacheInvalidationBus).publishInvalidation("conversationState", CONVERSATION_ID);
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.mockito.Mockito.mock;
 
 /**
@@ -40,6 +42,46 @@ public class LifecycleManagerTest {
         Mockito.verify(lifecycleTask, Mockito.atMost(1)).execute(memory, null);
     }
 
+    @Test
+    public void testExecuteLifecycle_skipTasksWithExternalSideEffectsDuringWarmup() throws Exception {
+        //setup
+        ILifecycleTask lifecycleTask = mock(ILifecycleTask.class);
+        ILifecycleTask sideEffectTask = mock(ILifecycleTask.class);
+        Mockito.when(sideEffectTask.hasExternalSideEffects()).thenReturn(true);
+        lifecycleManager.addLifecycleTask(lifecycleTask);
+        lifecycleManager.addLifecycleTask(sideEffectTask);
+        Mockito.when(memory.isWarmup()).thenReturn(true);
+
+        //test
+        lifecycleManager.executeLifecycle(memory, null);
+
+        //assert
+        Mockito.verify(lifecycleTask, Mockito.times(1)).execute(memory, null);
+        Mockito.verify(sideEffectTask, Mockito.never()).execute(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testCreateWarmupInputs_limitIsSharedByAllTasks() {
+        //setup
+        ILifecycleTask firstTask = mock(ILifecycleTask.class);
+        ILifecycleTask secondTask = mock(ILifecycleTask.class);
+        ILifecycleTask thirdTask = mock(ILifecycleTask.class);
+        Mockito.when(firstTask.createWarmupInputs(Mockito.any(), Mockito.anyInt())).thenReturn(List.of("a", "b"));
+        Mockito.when(secondTask.createWarmupInputs(Mockito.any(), Mockito.anyInt())).thenReturn(List.of("c"));
+        lifecycleManager.addLifecycleTask(firstTask);
+        lifecycleManager.addLifecycleTask(secondTask);
+        lifecycleManager.addLifecycleTask(thirdTask);
+
+        //test
+        List<String> warmupInputs = lifecycleManager.createWarmupInputs(3);
+
+        //assert
+        Assertions.assertEquals(List.of("a", "b", "c"), warmupInputs);
+        Mockito.verify(firstTask).createWarmupInputs(null, 3);
+        Mockito.verify(secondTask).createWarmupInputs(null, 1);
+        Mockito.verify(thirdTask, Mockito.never()).createWarmupInputs(Mockito.any(), Mockito.anyInt());
+    }
+
     @Test
     public void testValidationWhenMemoryIsNull() {
         //test
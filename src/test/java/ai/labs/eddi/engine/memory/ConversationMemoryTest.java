@@ -5,12 +5,18 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author ginccc
  */
 public class ConversationMemoryTest {
+    private static final String KEY_BEHAVIOR_RULES_SUCCESS = "behavior_rules:success";
+    private static final String KEY_ACTIONS = "actions";
+    private static final String KEY_EXPRESSIONS = "expressions";
     private static ConversationMemory memory;
 
     @BeforeEach
@@ -94,4 +100,91 @@ public class ConversationMemoryTest {
         Assertions.assertFalse(memory.isRedoAvailable());
 
     }
+
+    @Test
+    public void testStepCounters() {
+        //setup
+        storeStep(List.of("greeting", "welcome"), List.of("greet"), "greeting(hello)");
+        memory.startNextStep();
+        storeStep(List.of("greeting"), List.of("greet", "ask"), "greeting(hi)");
+        memory.startNextStep();
+        storeStep(List.of("question"), List.of("answer"), "greeting(hello)");
+
+        //test
+        IConversationMemory.IConversationStepCounters stepCounters = memory.getStepCounters();
+
+        //assert
+        Assertions.assertEquals(2, stepCounters.countBehaviorRuleSuccesses("greeting"));
+        Assertions.assertEquals(1, stepCounters.countBehaviorRuleSuccesses("welcome"));
+        Assertions.assertEquals(0, stepCounters.countBehaviorRuleSuccesses("question"));
+        Assertions.assertEquals(Map.of(List.of("greet"), 1, List.of("greet", "ask"), 1),
+                stepCounters.getLatestResultOccurrences(KEY_ACTIONS));
+        Assertions.assertEquals(Map.of("greeting(hello)", 1, "greeting(hi)", 1),
+                stepCounters.getLatestResultOccurrences(KEY_EXPRESSIONS));
+        Assertions.assertNull(stepCounters.getLatestResultOccurrences("testkey"));
+    }
+
+    @Test
+    public void testStepCountersAfterUndoAndRedo() {
+        //setup
+        storeStep(List.of("greeting"), List.of("greet"), "greeting(hello)");
+        memory.startNextStep();
+        storeStep(List.of("greeting"), List.of("greet"), "greeting(hello)");
+        memory.startNextStep();
+        IConversationMemory.IConversationStepCounters stepCounters = memory.getStepCounters();
+
+        //test
+        memory.undoLastStep();
+
+        //assert
+        Assertions.assertEquals(1, stepCounters.countBehaviorRuleSuccesses("greeting"));
+        Assertions.assertEquals(Map.of(List.of("greet"), 1), stepCounters.getLatestResultOccurrences(KEY_ACTIONS));
+
+        //test
+        memory.undoLastStep();
+
+        //assert
+        Assertions.assertEquals(0, stepCounters.countBehaviorRuleSuccesses("greeting"));
+        Assertions.assertTrue(stepCounters.getLatestResultOccurrences(KEY_ACTIONS).isEmpty());
+
+        //test
+        memory.redoLastStep();
+        memory.redoLastStep();
+
+        //assert
+        Assertions.assertEquals(2, stepCounters.countBehaviorRuleSuccesses("greeting"));
+        Assertions.assertEquals(Map.of(List.of("greet"), 2), stepCounters.getLatestResultOccurrences(KEY_ACTIONS));
+        Assertions.assertEquals(Map.of("greeting(hello)", 2), stepCounters.getLatestResultOccurrences(KEY_EXPRESSIONS));
+    }
+
+    @Test
+    public void testStepCountersAfterReload() {
+        //setup
+        storeStep(List.of("greeting"), List.of("greet"), "greeting(hello)");
+        memory.startNextStep();
+        memory.startNextStep();
+        storeStep(List.of("question", "greeting"), List.of("answer"), "question(weather)");
+        memory.startNextStep();
+
+        //test
+        IConversationMemory reloadedMemory = ConversationMemoryUtilities.convertConversationMemorySnapshot(
+                ConversationMemoryUtilities.convertConversationMemory(memory));
+
+        //assert
+        IConversationMemory.IConversationStepCounters stepCounters = reloadedMemory.getStepCounters();
+        Assertions.assertEquals(2, stepCounters.countBehaviorRuleSuccesses("greeting"));
+        Assertions.assertEquals(1, stepCounters.countBehaviorRuleSuccesses("question"));
+        Map<Object, Integer> expectedActions = new HashMap<>();
+        expectedActions.put(List.of("greet"), 1);
+        expectedActions.put(List.of("answer"), 1);
+        expectedActions.put(null, 1);
+        Assertions.assertEquals(expectedActions, stepCounters.getLatestResultOccurrences(KEY_ACTIONS));
+    }
+
+    private static void storeStep(List<String> behaviorRulesSuccess, List<String> actions, String expressions) {
+        IConversationMemory.IWritableConversationStep currentStep = memory.getCurrentStep();
+        currentStep.storeData(new Data<>(KEY_BEHAVIOR_RULES_SUCCESS, behaviorRulesSuccess));
+        currentStep.storeData(new Data<>(KEY_ACTIONS, actions));
+        currentStep.storeData(new Data<>(KEY_EXPRESSIONS, expressions));
+    }
 }
@@ -0,0 +1,104 @@
+package ai.labs.eddi.engine.runtime.client.factory;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.enterprise.inject.Instance;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class RestInterfaceFactoryTest {
+    private IRestTestResource bean;
+    private Instance<Object> beans;
+    private HttpServer httpServer;
+    private String serverUrl;
+    private final AtomicInteger httpRequests = new AtomicInteger();
+
+    @Path("/test")
+    public interface IRestTestResource {
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        String read();
+
+        @POST
+        void create();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        bean = mock(IRestTestResource.class);
+        when(bean.read()).thenReturn("fromBean");
+        Instance<IRestTestResource> beanInstance = mock(Instance.class);
+        when(beanInstance.isResolvable()).thenReturn(true);
+        when(beanInstance.get()).thenReturn(bean);
+        beans = mock(Instance.class);
+        when(beans.select(IRestTestResource.class)).thenReturn(beanInstance);
+
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.createContext("/test", exchange -> {
+            httpRequests.incrementAndGet();
+            byte[] body = "fromHttp".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", MediaType.TEXT_PLAIN);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        httpServer.start();
+        serverUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void get_inProcessDispatchesReadsToBean() {
+        //setup
+        var restInterfaceFactory = new RestInterfaceFactory(serverUrl, true, 10, beans);
+
+        //test
+        var restTestResource = restInterfaceFactory.get(IRestTestResource.class);
+
+        //assert
+        Assertions.assertEquals("fromBean", restTestResource.read());
+        verify(bean).read();
+        Assertions.assertEquals(0, httpRequests.get());
+        Assertions.assertSame(restTestResource, restInterfaceFactory.get(IRestTestResource.class));
+    }
+
+    @Test
+    public void get_loopbackWhenInProcessDisabled() {
+        //setup
+        var restInterfaceFactory = new RestInterfaceFactory(serverUrl, false, 10, beans);
+
+        //test
+        var restTestResource = restInterfaceFactory.get(IRestTestResource.class);
+        String read = restTestResource.read();
+
+        //assert
+        Assertions.assertEquals("fromHttp", read);
+        Assertions.assertEquals(1, httpRequests.get());
+        Assertions.assertSame(restTestResource, restInterfaceFactory.get(IRestTestResource.class));
+        verifyNoInteractions(beans);
+        verifyNoInteractions(bean);
+    }
+}
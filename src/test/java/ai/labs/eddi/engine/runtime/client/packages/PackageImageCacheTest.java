@@ -0,0 +1,112 @@
+package ai.labs.eddi.engine.runtime.client.packages;
+
+import ai.labs.eddi.configs.packages.model.PackageConfiguration;
+import ai.labs.eddi.datastore.model.ResourceId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author ginccc
+ */
+public class PackageImageCacheTest {
+    private static final URI RESOURCE_URI = URI.create("eddi://ai.labs.behavior/behaviorstore/behaviorsets/abc?version=1");
+    private static final ResourceId PACKAGE_ID = new ResourceId("packageId", 1);
+
+    @TempDir
+    Path directory;
+    private PackageImageCache packageImageCache;
+    private PackageConfiguration packageConfiguration;
+
+    @BeforeEach
+    public void setUp() {
+        packageImageCache = new PackageImageCache(true, directory.toString());
+        packageConfiguration = new PackageConfiguration();
+        var packageExtension = new PackageConfiguration.PackageExtension();
+        packageExtension.setType(URI.create("eddi://ai.labs.behavior"));
+        packageExtension.getConfig().put("uri", RESOURCE_URI.toString());
+        packageConfiguration.getPackageExtensions().add(packageExtension);
+    }
+
+    @Test
+    public void storeAndLoadImage() {
+        //setup
+        var configurationHash = packageImageCache.createConfigurationHash(packageConfiguration);
+        storeImage(configurationHash);
+
+        //test
+        var packageImage = packageImageCache.loadImage(PACKAGE_ID, configurationHash);
+
+        //assert
+        Assertions.assertNotNull(packageImage);
+        Assertions.assertFalse(packageImage.isModified());
+        packageImageCache.bindImage(packageImage);
+        try {
+            var resource = packageImageCache.lookupResource(RESOURCE_URI, PackageConfiguration.class);
+            Assertions.assertEquals(URI.create("eddi://ai.labs.behavior"), resource.getPackageExtensions().get(0).getType());
+            Assertions.assertEquals(RESOURCE_URI.toString(), resource.getPackageExtensions().get(0).getConfig().get("uri"));
+        } finally {
+            packageImageCache.unbindImage();
+        }
+        Assertions.assertNull(packageImageCache.lookupResource(RESOURCE_URI, PackageConfiguration.class));
+    }
+
+    @Test
+    public void loadImage_staleConfiguration() {
+        //setup
+        storeImage(packageImageCache.createConfigurationHash(packageConfiguration));
+        packageConfiguration.getPackageExtensions().get(0).getConfig().put("uri", "eddi://ai.labs.behavior/other");
+
+        //test
+        var packageImage = packageImageCache.loadImage(PACKAGE_ID,
+                packageImageCache.createConfigurationHash(packageConfiguration));
+
+        //assert
+        Assertions.assertNull(packageImage);
+    }
+
+    @Test
+    public void loadImage_corruptFile() throws Exception {
+        //setup
+        var configurationHash = packageImageCache.createConfigurationHash(packageConfiguration);
+        storeImage(configurationHash);
+        var imageFile = packageImageCache.getImageFile(PACKAGE_ID);
+        byte[] content = Files.readAllBytes(imageFile);
+        content[content.length / 2] ^= 0x7F;
+        Files.write(imageFile, content);
+
+        //test
+        var packageImage = packageImageCache.loadImage(PACKAGE_ID, configurationHash);
+
+        //assert
+        Assertions.assertNull(packageImage);
+        Assertions.assertFalse(Files.exists(imageFile));
+    }
+
+    @Test
+    public void loadImage_missingFile() {
+        //test
+        var packageImage = packageImageCache.loadImage(PACKAGE_ID,
+                packageImageCache.createConfigurationHash(packageConfiguration));
+
+        //assert
+        Assertions.assertNull(packageImage);
+    }
+
+    private void storeImage(String configurationHash) {
+        var packageImage = new PackageImage(configurationHash);
+        packageImageCache.bindImage(packageImage);
+        try {
+            packageImageCache.recordResource(RESOURCE_URI, packageConfiguration);
+        } finally {
+            packageImageCache.unbindImage();
+        }
+        Assertions.assertTrue(packageImage.isModified());
+        packageImageCache.storeImage(PACKAGE_ID, packageImage);
+    }
+}
@@ -0,0 +1,136 @@
+package ai.labs.eddi.engine.runtime.internal;
+
+import ai.labs.eddi.engine.runtime.IBot;
+import ai.labs.eddi.engine.runtime.client.bots.IBotStoreClientLibrary;
+import ai.labs.eddi.models.Deployment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static ai.labs.eddi.models.Deployment.Environment.unrestricted;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author ginccc
+ */
+public class BotFactoryTest {
+    private static final String BOT_ID = "botId";
+    private IBotStoreClientLibrary botStoreClientLibrary;
+    private BotFactory botFactory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        botStoreClientLibrary = mock(IBotStoreClientLibrary.class);
+        when(botStoreClientLibrary.getBot(anyString(), anyInt())).
+                thenAnswer(invocation -> new Bot(invocation.getArgument(0), invocation.getArgument(1)));
+        botFactory = new BotFactory(botStoreClientLibrary, bot -> {
+        });
+    }
+
+    @Test
+    public void getLatestBot() throws Exception {
+        //setup
+        botFactory.deployBot(unrestricted, BOT_ID, 1, null);
+        botFactory.deployBot(unrestricted, BOT_ID, 3, null);
+        botFactory.deployBot(unrestricted, BOT_ID, 2, null);
+        botFactory.deployBot(unrestricted, "otherBotId", 5, null);
+
+        //test
+        IBot latestBot = botFactory.getLatestBot(unrestricted, BOT_ID);
+
+        //assert
+        Assertions.assertEquals(3, latestBot.getBotVersion());
+        Assertions.assertEquals(2, botFactory.getAllLatestBots(unrestricted).size());
+        Assertions.assertNull(botFactory.getLatestBot(Deployment.Environment.test, BOT_ID));
+    }
+
+    @Test
+    public void getLatestBot_afterUndeploy() throws Exception {
+        //setup
+        botFactory.deployBot(unrestricted, BOT_ID, 1, null);
+        botFactory.deployBot(unrestricted, BOT_ID, 2, null);
+
+        //test
+        botFactory.undeployBot(unrestricted, BOT_ID, 2);
+
+        //assert
+        Assertions.assertEquals(1, botFactory.getLatestBot(unrestricted, BOT_ID).getBotVersion());
+        botFactory.undeployBot(unrestricted, BOT_ID, 1);
+        Assertions.assertNull(botFactory.getLatestBot(unrestricted, BOT_ID));
+        Assertions.assertTrue(botFactory.getAllLatestBots(unrestricted).isEmpty());
+    }
+
+    @Test
+    public void getBot_waitsForConcurrentDeployment() throws Exception {
+        //setup
+        CountDownLatch deploymentStarted = new CountDownLatch(1);
+        CountDownLatch releaseDeployment = new CountDownLatch(1);
+        when(botStoreClientLibrary.getBot(anyString(), anyInt())).thenAnswer(invocation -> {
+            deploymentStarted.countDown();
+            releaseDeployment.await();
+            return new Bot(invocation.getArgument(0), invocation.getArgument(1));
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            executorService.submit(() -> {
+                botFactory.deployBot(unrestricted, BOT_ID, 1, null);
+                return null;
+            });
+            Assertions.assertTrue(deploymentStarted.await(5, TimeUnit.SECONDS));
+            Future<IBot> waitingCaller = executorService.submit(() -> botFactory.getBot(unrestricted, BOT_ID, 1));
+
+            //test
+            Thread.sleep(50);
+            Assertions.assertFalse(waitingCaller.isDone());
+            long releasedAt = System.nanoTime();
+            releaseDeployment.countDown();
+            IBot bot = waitingCaller.get(5, TimeUnit.SECONDS);
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt);
+
+            //assert
+            Assertions.assertEquals(Deployment.Status.READY, bot.getDeploymentStatus());
+            Assertions.assertTrue(waitedMillis < 500,
+                    "caller should resume right after the deployment completed, but waited " + waitedMillis + "ms");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getBot_failedDeploymentReleasesWaitingCallers() throws Exception {
+        //setup
+        CountDownLatch deploymentStarted = new CountDownLatch(1);
+        CountDownLatch releaseDeployment = new CountDownLatch(1);
+        when(botStoreClientLibrary.getBot(anyString(), anyInt())).thenAnswer(invocation -> {
+            deploymentStarted.countDown();
+            releaseDeployment.await();
+            throw new IllegalAccessException("failed");
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            executorService.submit(() -> {
+                botFactory.deployBot(unrestricted, BOT_ID, 1, null);
+                return null;
+            });
+            Assertions.assertTrue(deploymentStarted.await(5, TimeUnit.SECONDS));
+            Future<IBot> waitingCaller = executorService.submit(() -> botFactory.getBot(unrestricted, BOT_ID, 1));
+
+            //test
+            releaseDeployment.countDown();
+            IBot bot = waitingCaller.get(5, TimeUnit.SECONDS);
+
+            //assert
+            Assertions.assertEquals(Deployment.Status.ERROR, bot.getDeploymentStatus());
+            Assertions.assertNull(botFactory.getLatestBot(unrestricted, BOT_ID));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package ai.labs.eddi.engine.runtime.internal;
+
+import ai.labs.eddi.configs.properties.model.Properties;
+import ai.labs.eddi.engine.lifecycle.ILifecycleManager;
+import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.engine.memory.IPropertiesHandler;
+import ai.labs.eddi.engine.runtime.IBot;
+import ai.labs.eddi.engine.runtime.IExecutablePackage;
+import ai.labs.eddi.engine.runtime.client.bots.IBotStoreClientLibrary;
+import ai.labs.eddi.models.Deployment;
+import ai.labs.eddi.models.Property;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static ai.labs.eddi.models.Deployment.Environment.unrestricted;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class BotWarmupTest {
+    private static final String BOT_ID = "botId";
+    private static final int WARMUP_STEPS = 4;
+    private ILifecycleManager lifecycleManager;
+    private Bot bot;
+    private BotWarmup botWarmup;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        lifecycleManager = mock(ILifecycleManager.class);
+        when(lifecycleManager.createWarmupInputs(anyInt())).thenReturn(List.of("hello", "bye"));
+        IExecutablePackage executablePackage = mock(IExecutablePackage.class);
+        when(executablePackage.getLifecycleManager()).thenReturn(lifecycleManager);
+        bot = new Bot(BOT_ID, 1);
+        bot.addPackage(executablePackage);
+        botWarmup = new BotWarmup(true, WARMUP_STEPS);
+    }
+
+    @Test
+    public void warmup_runtimeExceptionIsCaught() {
+        //setup
+        when(lifecycleManager.createWarmupInputs(anyInt())).thenThrow(new IllegalStateException("broken parser"));
+
+        //test & assert
+        Assertions.assertDoesNotThrow(() -> botWarmup.warmup(bot));
+    }
+
+    @Test
+    public void deployBot_failedWarmupStillLeadsToReady() throws Exception {
+        //setup
+        when(lifecycleManager.createWarmupInputs(anyInt())).thenThrow(new IllegalStateException("broken parser"));
+        IBotStoreClientLibrary botStoreClientLibrary = mock(IBotStoreClientLibrary.class);
+        when(botStoreClientLibrary.getBot(BOT_ID, 1)).thenReturn(bot);
+        BotFactory botFactory = new BotFactory(botStoreClientLibrary, botWarmup);
+        List<Deployment.Status> completedStatuses = new LinkedList<>();
+
+        //test
+        botFactory.deployBot(unrestricted, BOT_ID, 1, completedStatuses::add);
+
+        //assert
+        Assertions.assertEquals(List.of(Deployment.Status.READY), completedStatuses);
+        IBot deployedBot = botFactory.getLatestBot(unrestricted, BOT_ID);
+        Assertions.assertSame(bot, deployedBot);
+        Assertions.assertEquals(Deployment.Status.READY, deployedBot.getDeploymentStatus());
+    }
+
+    @Test
+    public void warmup_leavesNoTraces() throws Exception {
+        //setup
+        List<IConversationMemory> warmupMemories = new LinkedList<>();
+        doAnswer(invocation -> {
+            IConversationMemory conversationMemory = invocation.getArgument(0);
+            conversationMemory.getConversationProperties().put("learned",
+                    new Property("learned", "value", Property.Scope.longTerm));
+            warmupMemories.add(conversationMemory);
+            return null;
+        }).when(lifecycleManager).executeLifecycle(any(), any());
+
+        //test
+        botWarmup.warmup(bot);
+
+        //assert
+        verify(lifecycleManager, atLeast(WARMUP_STEPS)).executeLifecycle(any(), any());
+        Assertions.assertFalse(warmupMemories.isEmpty());
+        // only memories flagged as warmup skip tasks with external side effects and they are never stored
+        warmupMemories.forEach(conversationMemory -> Assertions.assertTrue(conversationMemory.isWarmup()));
+    }
+
+    @Test
+    public void createVolatilePropertiesHandler_mergedPropertiesAreDropped() throws Exception {
+        //setup
+        IPropertiesHandler propertiesHandler = BotWarmup.createVolatilePropertiesHandler();
+        Properties properties = new Properties();
+        properties.put("learned", "value");
+
+        //test
+        propertiesHandler.mergeProperties(properties);
+
+        //assert
+        Assertions.assertTrue(propertiesHandler.loadProperties().isEmpty());
+    }
+
+    @Test
+    public void coldAndWarmP99_comparesFirstWithLastRound() {
+        //setup
+        long[] stepDurations = {900, 700, 500, 300, 120, 100};
+
+        //test & assert
+        // two warmup inputs make up one round
+        Assertions.assertEquals(900, BotWarmup.coldP99(stepDurations, 2));
+        Assertions.assertEquals(120, BotWarmup.warmP99(stepDurations, 2));
+        // rounds longer than half of the steps are cut down, so cold and warm samples never overlap
+        Assertions.assertEquals(900, BotWarmup.coldP99(stepDurations, 10));
+        Assertions.assertEquals(300, BotWarmup.warmP99(stepDurations, 10));
+        // a single step is both, cold and warm
+        Assertions.assertEquals(42, BotWarmup.coldP99(new long[]{42}, 3));
+        Assertions.assertEquals(42, BotWarmup.warmP99(new long[]{42}, 3));
+    }
+
+    @Test
+    public void warmup_coldAndWarmRoundsRunTheSameInputs() throws Exception {
+        //setup
+        when(lifecycleManager.createWarmupInputs(anyInt())).thenReturn(List.of("hello", "bye", "thanks"));
+        List<Object> saidInputs = new LinkedList<>();
+        doAnswer(invocation -> {
+            IConversationMemory conversationMemory = invocation.getArgument(0);
+            Object input = conversationMemory.getCurrentStep().getConversationOutput().get("input");
+            if (input != null) {
+                saidInputs.add(input);
+            }
+            return null;
+        }).when(lifecycleManager).executeLifecycle(any(), any());
+        BotWarmup botWarmup = new BotWarmup(true, 7);
+
+        //test
+        botWarmup.warmup(bot);
+
+        //assert
+        verify(lifecycleManager).createWarmupInputs(3);
+        // two complete rounds of three inputs each, the seventh step would start a third round
+        Assertions.assertEquals(List.of("hello", "bye", "thanks", "hello", "bye", "thanks"), saidInputs);
+    }
+
+    @Test
+    public void countSteps_completeRoundsOnly() {
+        //test & assert
+        Assertions.assertEquals(48, BotWarmup.countSteps(50, 3));
+        Assertions.assertEquals(50, BotWarmup.countSteps(50, 25));
+        Assertions.assertEquals(50, BotWarmup.countSteps(50, 1));
+        Assertions.assertEquals(4, BotWarmup.countSteps(5, 2));
+        Assertions.assertEquals(3, BotWarmup.countSteps(3, 10));
+        Assertions.assertEquals(1, BotWarmup.countSteps(1, 1));
+    }
+
+    @Test
+    public void p99_ofUnsortedDurations() {
+        //setup
+        long[] durations = new long[200];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = (i * 37L) % 200;
+        }
+
+        //test & assert
+        Assertions.assertEquals(197, BotWarmup.p99(durations));
+        Assertions.assertEquals(5, BotWarmup.p99(new long[]{5, 1}));
+    }
+}
@@ -0,0 +1,310 @@
+package ai.labs.eddi.modules.behavior.impl;
+
+import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.engine.memory.MemoryItemConverter;
+import ai.labs.eddi.engine.memory.IConversationMemory.IConversationStepStack;
+import ai.labs.eddi.engine.memory.IConversationMemory.IWritableConversationStep;
+import ai.labs.eddi.engine.memory.model.ConversationProperties;
+import ai.labs.eddi.engine.memory.model.Data;
+import ai.labs.eddi.models.Context;
+import ai.labs.eddi.modules.behavior.impl.conditions.ActionMatcher;
+import ai.labs.eddi.modules.behavior.impl.conditions.Connector;
+import ai.labs.eddi.modules.behavior.impl.conditions.ContextMatcher;
+import ai.labs.eddi.modules.behavior.impl.conditions.Dependency;
+import ai.labs.eddi.modules.behavior.impl.conditions.DynamicValueMatcher;
+import ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition;
+import ai.labs.eddi.modules.behavior.impl.conditions.InputMatcher;
+import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Compares the indexed and the parallel evaluation of behavior rules with evaluating every rule in order.
+ *
+ * @author ginccc
+ */
+public class BehaviorRulesEvaluatorTest {
+    private static final String KEY_EXPRESSIONS = "expressions";
+    private static final String KEY_ACTIONS = "actions";
+    private static final String KEY_OCCURRENCE = "occurrence";
+    private static final String[] RULE_EXPRESSIONS = {
+            "greeting(hello)", "greeting(*)", "confirmation(yes)", "confirmation(no)", "*", "empty", "5",
+            "greeting(hello),confirmation(yes)", "question(weather),location(*)", "unknown(foo)"};
+    private static final String[] INPUT_EXPRESSIONS = {
+            "greeting(hello)", "greeting(hi)", "confirmation(yes)", "confirmation(no)", "5", "*",
+            "question(weather)", "location(berlin)", "unused(bar)"};
+    private static final String[] RULE_ACTIONS = {"greet", "ask", "greet,ask", "empty", "say_goodbye"};
+    private static final String[] INPUT_ACTIONS = {"greet", "ask", "say_goodbye", "other"};
+    private static final String[] OCCURRENCES = {"currentStep", "currentStep", "currentStep", "lastStep", "never"};
+
+    private ExpressionProvider expressionProvider;
+
+    @BeforeEach
+    public void setUp() {
+        expressionProvider = new ExpressionProvider(new ExpressionFactory());
+    }
+
+    @Test
+    public void evaluate_sameResultsAsEvaluatingEveryRule() throws Exception {
+        //setup
+        Random random = new Random(1234);
+        for (int run = 0; run < 200; run++) {
+            BehaviorSet behaviorSet = createRandomBehaviorSet(random, 1 + random.nextInt(5), 1 + random.nextInt(20));
+            var indexedEvaluator = new BehaviorRulesEvaluator(behaviorSet, false, false,
+                    new BehaviorRulesIndex(behaviorSet, expressionProvider), null);
+            var evaluator = new BehaviorRulesEvaluator(behaviorSet, false, false, null, null);
+
+            for (int input = 0; input < 20; input++) {
+                IConversationMemory memory = createMemory(random);
+
+                //test
+                BehaviorSetResult indexedResult = indexedEvaluator.evaluate(memory);
+                BehaviorSetResult expectedResult = evaluator.evaluate(memory);
+
+                //assert
+                Assertions.assertEquals(expectedResult.getSuccessRules(), indexedResult.getSuccessRules());
+                Assertions.assertEquals(expectedResult.getFailRules(), indexedResult.getFailRules());
+            }
+        }
+    }
+
+    @Test
+    public void evaluate_parallelGroupsSameResultsAsSequentialEvaluation() throws Exception {
+        //setup
+        Random random = new Random(5678);
+        ExecutorService groupExecutor = Executors.newFixedThreadPool(4);
+        try {
+            for (int run = 0; run < 100; run++) {
+                BehaviorSet behaviorSet = createRandomBehaviorSet(random, 2 + random.nextInt(6), 1 + random.nextInt(15));
+                addRandomDependencies(random, behaviorSet);
+                var parallelEvaluator = new BehaviorRulesEvaluator(behaviorSet, false, false,
+                        new BehaviorRulesIndex(behaviorSet, expressionProvider), groupExecutor);
+                var evaluator = new BehaviorRulesEvaluator(behaviorSet, false, false, null, null);
+
+                for (int input = 0; input < 10; input++) {
+                    IConversationMemory memory = createMemory(random);
+
+                    //test
+                    BehaviorSetResult parallelResult = evaluateOrNull(parallelEvaluator, memory);
+                    BehaviorSetResult expectedResult = evaluateOrNull(evaluator, memory);
+
+                    //assert
+                    if (expectedResult == null) {
+                        Assertions.assertNull(parallelResult);
+                    } else {
+                        Assertions.assertEquals(expectedResult.getSuccessRules(), parallelResult.getSuccessRules());
+                        Assertions.assertEquals(expectedResult.getFailRules(), parallelResult.getFailRules());
+                    }
+                }
+            }
+        } finally {
+            groupExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void evaluate_parallelGroupsReadUserInfoContextConcurrently() throws Exception {
+        //setup
+        BehaviorSet behaviorSet = new BehaviorSet();
+        var memoryItemConverter = new MemoryItemConverter();
+        for (int i = 0; i < 8; i++) {
+            BehaviorGroup behaviorGroup = new BehaviorGroup();
+            behaviorGroup.setExecutionStrategy(BehaviorGroup.ExecutionStrategy.executeAll);
+            BehaviorRule userIdRule = new BehaviorRule("userId" + i);
+            DynamicValueMatcher dynamicValueMatcher = new DynamicValueMatcher(memoryItemConverter);
+            dynamicValueMatcher.setConfigs(Map.of("valuePath", "userInfo.userId", "equals", "user-1"));
+            userIdRule.getConditions().add(dynamicValueMatcher);
+            behaviorGroup.getBehaviorRules().add(userIdRule);
+            BehaviorRule userInfoRule = new BehaviorRule("userInfo" + i);
+            ContextMatcher contextMatcher = new ContextMatcher(expressionProvider, null);
+            contextMatcher.setConfigs(Map.of("contextKey", "userInfo", "contextType", "object",
+                    "objectKeyPath", "$", "objectValue", "{name=John, city=Vienna}"));
+            userInfoRule.getConditions().add(contextMatcher);
+            behaviorGroup.getBehaviorRules().add(userInfoRule);
+            behaviorSet.getBehaviorGroups().add(behaviorGroup);
+        }
+
+        ExecutorService groupExecutor = Executors.newFixedThreadPool(4);
+        try {
+            var parallelEvaluator = new BehaviorRulesEvaluator(behaviorSet, false, false,
+                    new BehaviorRulesIndex(behaviorSet, expressionProvider), groupExecutor);
+            for (int run = 0; run < 200; run++) {
+                Map<String, Object> userInfo = new LinkedHashMap<>();
+                userInfo.put("name", "John");
+                userInfo.put("city", "Vienna");
+                IConversationMemory memory = createMemory(null, null);
+                when(memory.getUserId()).thenReturn("user-1");
+                when(memory.getConversationProperties()).thenReturn(new ConversationProperties(null));
+                when(memory.getCurrentStep().getAllData("context")).thenReturn(
+                        List.of(new Data<>("context:userInfo", new Context(Context.ContextType.object, userInfo))));
+
+                //test
+                BehaviorSetResult result = parallelEvaluator.evaluate(memory);
+
+                //assert
+                Assertions.assertEquals(16, result.getSuccessRules().size());
+                Assertions.assertEquals(Map.of("name", "John", "city", "Vienna"), userInfo);
+            }
+        } finally {
+            groupExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isIndependent_groupsWithNestedDependencyAreNot() {
+        //setup
+        BehaviorGroup independentGroup = new BehaviorGroup();
+        BehaviorRule independentRule = new BehaviorRule("independent");
+        independentRule.getConditions().add(createInputMatcher("greeting(hello)", "currentStep"));
+        independentGroup.getBehaviorRules().add(independentRule);
+        BehaviorGroup dependentGroup = new BehaviorGroup();
+        BehaviorRule dependentRule = new BehaviorRule("dependent");
+        Connector connector = new Connector();
+        connector.setConditions(List.of(createInputMatcher("greeting(hello)", "currentStep"), new Dependency()));
+        dependentRule.getConditions().add(connector);
+        dependentGroup.getBehaviorRules().add(dependentRule);
+
+        //assert
+        Assertions.assertTrue(BehaviorRulesEvaluator.isIndependent(independentGroup));
+        Assertions.assertFalse(BehaviorRulesEvaluator.isIndependent(dependentGroup));
+    }
+
+    @Test
+    public void evaluate_thousandRulesOnlyCandidatesAreExecuted() throws Exception {
+        //setup
+        BehaviorSet behaviorSet = new BehaviorSet();
+        BehaviorGroup behaviorGroup = new BehaviorGroup();
+        behaviorGroup.setExecutionStrategy(BehaviorGroup.ExecutionStrategy.executeAll);
+        behaviorSet.getBehaviorGroups().add(behaviorGroup);
+        List<IBehaviorCondition> followingConditions = new LinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            BehaviorRule behaviorRule = new BehaviorRule("rule" + i);
+            behaviorRule.getConditions().add(createInputMatcher("intent" + i + "(*)", "currentStep"));
+            IBehaviorCondition followingCondition = mock(IBehaviorCondition.class);
+            when(followingCondition.execute(any(), any())).thenReturn(IBehaviorCondition.ExecutionState.SUCCESS);
+            behaviorRule.getConditions().add(followingCondition);
+            followingConditions.add(followingCondition);
+            behaviorGroup.getBehaviorRules().add(behaviorRule);
+        }
+        var evaluator = new BehaviorRulesEvaluator(behaviorSet, false, false,
+                new BehaviorRulesIndex(behaviorSet, expressionProvider), null);
+        IConversationMemory memory = createMemory("intent42(something)", null);
+
+        //test
+        BehaviorSetResult result = evaluator.evaluate(memory);
+
+        //assert
+        Assertions.assertEquals(1, result.getSuccessRules().size());
+        Assertions.assertEquals("rule42", result.getSuccessRules().get(0).getName());
+        Assertions.assertEquals(999, result.getFailRules().size());
+        for (int i = 0; i < followingConditions.size(); i++) {
+            verify(followingConditions.get(i), times(i == 42 ? 1 : 0)).execute(any(), any());
+        }
+    }
+
+    private BehaviorSet createRandomBehaviorSet(Random random, int groups, int rulesPerGroup) {
+        BehaviorSet behaviorSet = new BehaviorSet();
+        for (int i = 0; i < groups; i++) {
+            BehaviorGroup behaviorGroup = new BehaviorGroup();
+            behaviorGroup.setExecutionStrategy(random.nextBoolean() ?
+                    BehaviorGroup.ExecutionStrategy.executeAll :
+                    BehaviorGroup.ExecutionStrategy.executeUntilFirstSuccess);
+            int rules = random.nextInt(rulesPerGroup + 1);
+            for (int j = 0; j < rules; j++) {
+                BehaviorRule behaviorRule = new BehaviorRule("rule" + i + "_" + j);
+                int conditions = random.nextInt(3);
+                for (int k = 0; k < conditions; k++) {
+                    behaviorRule.getConditions().add(createRandomCondition(random));
+                }
+                behaviorGroup.getBehaviorRules().add(behaviorRule);
+            }
+            behaviorSet.getBehaviorGroups().add(behaviorGroup);
+        }
+
+        return behaviorSet;
+    }
+
+    private static void addRandomDependencies(Random random, BehaviorSet behaviorSet) {
+        List<BehaviorRule> behaviorRules = new ArrayList<>();
+        behaviorSet.getBehaviorGroups().forEach(behaviorGroup -> behaviorRules.addAll(behaviorGroup.getBehaviorRules()));
+        for (BehaviorRule behaviorRule : behaviorRules) {
+            if (random.nextInt(8) == 0) {
+                Dependency dependency = new Dependency();
+                dependency.setConfigs(Map.of("reference",
+                        behaviorRules.get(random.nextInt(behaviorRules.size())).getName()));
+                dependency.setContainingBehaviorRuleSet(behaviorSet);
+                behaviorRule.getConditions().add(dependency);
+            }
+        }
+    }
+
+    private static BehaviorSetResult evaluateOrNull(BehaviorRulesEvaluator evaluator, IConversationMemory memory)
+            throws InterruptedException {
+        try {
+            return evaluator.evaluate(memory);
+        } catch (BehaviorRulesEvaluator.BehaviorRuleExecutionException e) {
+            return null;
+        }
+    }
+
+    private IBehaviorCondition createRandomCondition(Random random) {
+        String occurrence = OCCURRENCES[random.nextInt(OCCURRENCES.length)];
+        if (random.nextBoolean()) {
+            return createInputMatcher(RULE_EXPRESSIONS[random.nextInt(RULE_EXPRESSIONS.length)], occurrence);
+        } else {
+            ActionMatcher actionMatcher = new ActionMatcher();
+            actionMatcher.setConfigs(Map.of(KEY_ACTIONS, RULE_ACTIONS[random.nextInt(RULE_ACTIONS.length)],
+                    KEY_OCCURRENCE, occurrence));
+            return actionMatcher;
+        }
+    }
+
+    private InputMatcher createInputMatcher(String expressions, String occurrence) {
+        InputMatcher inputMatcher = new InputMatcher(expressionProvider);
+        inputMatcher.setConfigs(Map.of(KEY_EXPRESSIONS, expressions, KEY_OCCURRENCE, occurrence));
+        return inputMatcher;
+    }
+
+    private IConversationMemory createMemory(Random random) {
+        String expressions = random.nextInt(5) == 0 ? null :
+                String.join(",", pickRandomly(random, INPUT_EXPRESSIONS, 3));
+        List<String> actions = random.nextInt(5) == 0 ? null : pickRandomly(random, INPUT_ACTIONS, 3);
+
+        return createMemory(expressions, actions);
+    }
+
+    private static List<String> pickRandomly(Random random, String[] values, int max) {
+        List<String> picked = new ArrayList<>();
+        int count = random.nextInt(max + 1);
+        for (int i = 0; i < count; i++) {
+            picked.add(values[random.nextInt(values.length)]);
+        }
+
+        return picked;
+    }
+
+    private static IConversationMemory createMemory(String expressions, List<String> actions) {
+        IConversationMemory memory = mock(IConversationMemory.class);
+        IWritableConversationStep currentStep = mock(IWritableConversationStep.class);
+        IConversationStepStack previousSteps = mock(IConversationStepStack.class);
+        when(currentStep.getLatestData(KEY_EXPRESSIONS)).thenAnswer(invocation ->
+                expressions != null ? new Data<>(KEY_EXPRESSIONS, expressions) : null);
+        when(currentStep.getLatestData(KEY_ACTIONS)).thenAnswer(invocation ->
+                actions != null ? new Data<>(KEY_ACTIONS, actions) : null);
+        when(previousSteps.size()).thenReturn(0);
+        when(memory.getCurrentStep()).thenReturn(currentStep);
+        when(memory.getPreviousSteps()).thenReturn(previousSteps);
+        when(memory.getAllSteps()).thenReturn(previousSteps);
+
+        return memory;
+    }
+}
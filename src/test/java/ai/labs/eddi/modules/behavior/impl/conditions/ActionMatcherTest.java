@@ -146,4 +146,31 @@ public class ActionMatcherTest extends BaseMatcherTest {
         verify(previousConversationStep1).getLatestData(KEY_ACTIONS);
         verify(previousConversationStep2).getLatestData(KEY_ACTIONS);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void execute_occurrence_anyStep_withStepCounters() throws Exception {
+        //setup
+        Map<String, String> values = new HashMap<>();
+        values.put(KEY_ACTIONS, actionsValue);
+        values.put(KEY_OCCURRENCE, ConversationStepOccurrence.anyStep.toString());
+        matcher.setConfigs(values);
+        ConversationMemory memory = new ConversationMemory("botId", 1);
+        memory.getCurrentStep().storeData(new Data<>(KEY_ACTIONS, inputActions));
+        memory.startNextStep();
+        memory.getCurrentStep().storeData(new Data<>(KEY_ACTIONS, Collections.singletonList("someNonMatchingAction")));
+        memory.startNextStep();
+
+        //test
+        ExecutionState occurredState = matcher.execute(memory, new LinkedList<>());
+        memory.undoLastStep();
+        memory.undoLastStep();
+        ExecutionState undoneState = matcher.execute(memory, new LinkedList<>());
+        memory.getCurrentStep().removeData(KEY_ACTIONS);
+        ExecutionState removedState = matcher.execute(memory, new LinkedList<>());
+
+        //assert
+        Assertions.assertEquals(ExecutionState.SUCCESS, occurredState);
+        Assertions.assertEquals(ExecutionState.SUCCESS, undoneState);
+        Assertions.assertEquals(ExecutionState.FAIL, removedState);
+    }
+}
@@ -1,12 +1,16 @@
 package ai.labs.eddi.modules.behavior.impl.conditions;
 
 import ai.labs.eddi.datastore.serialization.IJsonSerialization;
+import ai.labs.eddi.datastore.serialization.JsonSerialization;
 import ai.labs.eddi.engine.memory.IConversationMemory;
 import ai.labs.eddi.engine.memory.IData;
 import ai.labs.eddi.models.Context;
 import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 import lombok.EqualsAndHashCode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.*;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +35,11 @@ public class ContextMatcherTest {
     @BeforeEach
     public void setUp() {
         expressionProvider = mock(IExpressionProvider.class);
+        // the matchers only read expressions, so they ask for the cached immutable ones
+        when(expressionProvider.parseImmutableExpressions(anyString())).thenAnswer(invocation -> {
+            Expressions expressions = expressionProvider.parseExpressions(invocation.getArgument(0));
+            return expressions != null ? expressions.toImmutable() : null;
+        });
         jsonSerialization = mock(IJsonSerialization.class);
         contextMatcher = new ContextMatcher(expressionProvider, jsonSerialization);
         conversationMemory = mock(IConversationMemory.class);
@@ -308,6 +318,64 @@ public class ContextMatcherTest {
         Assertions.assertEquals(IBehaviorCondition.ExecutionState.FAIL, actualExecutionState);
     }
 
+    @Test
+    public void findObjectValue_sameResultsAsReadingSerializedContext() throws Exception {
+        //setup
+        final String contextJson = "{\"userInfo\":{\"name\":{\"firstName\":\"John\",\"lastName\":\"Silver\"}}," +
+                "\"items\":[{\"name\":\"apple\",\"price\":5},{\"name\":\"melon\",\"price\":12.5}]," +
+                "\"count\":3,\"big\":12345678901,\"ratio\":0.25,\"flag\":true,\"nothing\":null,\"url\":\"a/b\"}";
+        var realJsonSerialization = new JsonSerialization(new ObjectMapper());
+        Object contextObject = realJsonSerialization.deserialize(contextJson, Object.class);
+        List<String> objectKeyPaths = List.of("$.userInfo.name.firstName", "$.userInfo.name", "$.items[0].price",
+                "$.items[1].price", "$.items[*].name", "$.items", "$.count", "$.big", "$.ratio", "$.flag",
+                "$.nothing", "$.url", "$.missing", "$.userInfo.missing.deeper", "$..firstName",
+                "$.items[?(@.price > 10)].name", "$.userInfo", "$");
+
+        for (String objectKeyPath : objectKeyPaths) {
+            var matcher = new ContextMatcher(expressionProvider, realJsonSerialization);
+            matcher.setConfigs(Map.of("contextKey", "someContextKey", "contextType", "object",
+                    "objectKeyPath", objectKeyPath));
+
+            //test
+            String foundObjectValue = matcher.findObjectValue(contextObject);
+
+            //assert
+            Object expectedObjectValue;
+            try {
+                expectedObjectValue = JsonPath.parse(contextJson).read(objectKeyPath);
+            } catch (PathNotFoundException e) {
+                expectedObjectValue = null;
+            }
+            Assertions.assertEquals(expectedObjectValue != null ? expectedObjectValue.toString() : null,
+                    foundObjectValue, objectKeyPath);
+        }
+    }
+
+    @Test
+    public void executeWithLargeObjectWithoutSerialization() throws Exception {
+        //setup
+        setupValuesWithObject(true);
+        Map<String, Object> contextObject = new LinkedHashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            contextObject.put("key" + i, Map.of("value", i, "values", List.of(i, i + 1)));
+        }
+        contextObject.put("userInfo", Map.of("name", Map.of("firstName", "John", "lastName", "Silver")));
+        when(currentStep.getAllData(eq("context"))).then(invocation -> {
+            LinkedList<IData<Context>> ret = new LinkedList<>();
+            ret.add(new MockData<>("context:someOtherContextKey", new Context(Context.ContextType.string, "other")));
+            ret.add(new MockData<>("context:someContextKey", new Context(Context.ContextType.object, contextObject)));
+            return ret;
+        });
+
+        //test
+        IBehaviorCondition.ExecutionState actualExecutionState =
+                contextMatcher.execute(conversationMemory, new LinkedList<>());
+
+        //assert
+        Assertions.assertEquals(IBehaviorCondition.ExecutionState.SUCCESS, actualExecutionState);
+        verify(jsonSerialization, never()).serialize(any());
+    }
+
     @EqualsAndHashCode
     private static class MockData<T> implements IData<T> {
         private final String key;
@@ -0,0 +1,112 @@
+package ai.labs.eddi.modules.behavior.impl.conditions;
+
+import ai.labs.eddi.engine.memory.IConversationMemory;
+import ai.labs.eddi.engine.memory.IConversationMemory.IWritableConversationStep;
+import ai.labs.eddi.engine.memory.model.Data;
+import ai.labs.eddi.modules.behavior.impl.BehaviorGroup;
+import ai.labs.eddi.modules.behavior.impl.BehaviorRule;
+import ai.labs.eddi.modules.behavior.impl.BehaviorRuleTrace;
+import ai.labs.eddi.modules.behavior.impl.BehaviorSet;
+import ai.labs.eddi.modules.behavior.impl.conditions.IBehaviorCondition.ExecutionState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class DependencyTest {
+    private static final String KEY_ACTIONS = "actions";
+    private BehaviorSet behaviorSet;
+    private BehaviorGroup behaviorGroup;
+
+    @BeforeEach
+    public void setUp() {
+        behaviorSet = new BehaviorSet();
+        behaviorGroup = new BehaviorGroup();
+        behaviorSet.getBehaviorGroups().add(behaviorGroup);
+    }
+
+    @Test
+    public void execute_nestedDependencies() throws Exception {
+        //setup
+        BehaviorRule outerRule = createRule("outer", createDependency("middle"));
+        createRule("middle", createDependency("inner"));
+        ActionMatcher actionMatcher = new ActionMatcher();
+        actionMatcher.setConfigs(Map.of(KEY_ACTIONS, "greet"));
+        createRule("inner", actionMatcher);
+
+        //test
+        ExecutionState greetState = outerRule.execute(createMemory(List.of("greet")), new BehaviorRuleTrace());
+        ExecutionState otherState = outerRule.execute(createMemory(List.of("other")), new BehaviorRuleTrace());
+
+        //assert
+        Assertions.assertEquals(ExecutionState.SUCCESS, greetState);
+        Assertions.assertEquals(ExecutionState.FAIL, otherState);
+    }
+
+    @Test
+    public void execute_cyclicDependenciesAreDetected() {
+        //setup
+        BehaviorRule firstRule = createRule("first", createDependency("second"));
+        createRule("second", createDependency("first"));
+        IConversationMemory memory = createMemory(List.of());
+
+        //test & assert
+        Assertions.assertThrows(BehaviorRule.InfiniteLoopException.class,
+                () -> firstRule.execute(memory, new BehaviorRuleTrace()));
+        Assertions.assertThrows(BehaviorRule.InfiniteLoopException.class,
+                () -> firstRule.execute(memory, new LinkedList<>()));
+    }
+
+    @Test
+    public void execute_dependencyIsEvaluatedOncePerTrace() throws Exception {
+        //setup
+        IBehaviorCondition sharedCondition = mock(IBehaviorCondition.class);
+        when(sharedCondition.execute(any(), any())).thenReturn(ExecutionState.SUCCESS);
+        createRule("shared", sharedCondition);
+        BehaviorRule firstRule = createRule("first", createDependency("shared"));
+        BehaviorRule secondRule = createRule("second", createDependency("shared"));
+        IConversationMemory memory = createMemory(List.of());
+        BehaviorRuleTrace trace = new BehaviorRuleTrace();
+
+        //test
+        ExecutionState firstState = firstRule.execute(memory, trace);
+        ExecutionState secondState = secondRule.execute(memory, trace);
+
+        //assert
+        Assertions.assertEquals(ExecutionState.SUCCESS, firstState);
+        Assertions.assertEquals(ExecutionState.SUCCESS, secondState);
+        Assertions.assertTrue(trace.isEmpty());
+        verify(sharedCondition, times(1)).execute(any(), any());
+    }
+
+    private BehaviorRule createRule(String name, IBehaviorCondition condition) {
+        BehaviorRule behaviorRule = new BehaviorRule(name);
+        behaviorRule.getConditions().add(condition);
+        behaviorGroup.getBehaviorRules().add(behaviorRule);
+        return behaviorRule;
+    }
+
+    private Dependency createDependency(String reference) {
+        Dependency dependency = new Dependency();
+        dependency.setConfigs(Map.of("reference", reference));
+        dependency.setContainingBehaviorRuleSet(behaviorSet);
+        return dependency;
+    }
+
+    private static IConversationMemory createMemory(List<String> actions) {
+        IConversationMemory memory = mock(IConversationMemory.class);
+        IWritableConversationStep currentStep = mock(IWritableConversationStep.class);
+        when(currentStep.getLatestData(KEY_ACTIONS)).thenAnswer(invocation -> new Data<>(KEY_ACTIONS, actions));
+        when(memory.getCurrentStep()).thenReturn(currentStep);
+        return memory;
+    }
+}
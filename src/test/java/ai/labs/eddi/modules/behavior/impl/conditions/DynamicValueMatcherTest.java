@@ -14,8 +14,7 @@ import java.util.LinkedList;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author ginccc
@@ -113,6 +112,21 @@ public class DynamicValueMatcherTest {
         Assertions.assertEquals(ExecutionState.FAIL, executionState);
     }
 
+    @Test
+    public void dynamicValue_invalidValuePath() {
+        //setup
+        initOutput();
+        DynamicValueMatcher dynamicValueMatcher = new DynamicValueMatcher(memoryItemConverter);
+        dynamicValueMatcher.setConfigs(Map.of("valuePath", "properties..username"));
+
+        //test
+        ExecutionState executionState = dynamicValueMatcher.execute(conversationMemory, new LinkedList<>());
+
+        //assert
+        Assertions.assertEquals(ExecutionState.FAIL, executionState);
+        verify(memoryItemConverter, never()).convert(any());
+    }
+
     private Map<String, String> createValues(boolean isValuePath, boolean isEquals, boolean isContains) {
         Map<String, String> ret = new HashMap<>();
         if (isValuePath) {
@@ -35,6 +35,11 @@ public class InputMatcherTest extends BaseMatcherTest {
     @BeforeEach
     public void setUp() {
         expressionProvider = mock(IExpressionProvider.class);
+        // the matchers only read expressions, so they ask for the cached immutable ones
+        when(expressionProvider.parseImmutableExpressions(anyString())).thenAnswer(invocation -> {
+            Expressions expressions = expressionProvider.parseExpressions(invocation.getArgument(0));
+            return expressions != null ? expressions.toImmutable() : null;
+        });
         expectedExpressions = new Expressions(
                 new Expression("someExpression", new Value("someValue")),
                 new Expression("someOtherExpression", new Value("someOtherValue")));
@@ -0,0 +1,62 @@
+package ai.labs.eddi.modules.nlp;
+
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class InputParserTaskTest {
+    private InputParserTask inputParserTask;
+    private IInputParser inputParser;
+
+    @BeforeEach
+    public void setUp() {
+        inputParserTask = new InputParserTask(null, null, null, null, null,
+                new SimpleMeterRegistry(), false, 10L, 60L);
+        IDictionary.IPhrase phrase = mock(IDictionary.IPhrase.class);
+        when(phrase.getValue()).thenReturn("good morning");
+        List<IDictionary.IWord> phraseDictionaryWords = List.of(createWord("hello", false), createWord("morning", true));
+        IDictionary phraseDictionary = mock(IDictionary.class);
+        when(phraseDictionary.getPhrases()).thenReturn(List.of(phrase));
+        when(phraseDictionary.getWords()).thenReturn(phraseDictionaryWords);
+        List<IDictionary.IWord> words = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            words.add(createWord("word" + i, false));
+        }
+        IDictionary largeDictionary = mock(IDictionary.class);
+        when(largeDictionary.getWords()).thenReturn(words);
+        inputParser = mock(IInputParser.class);
+        when(inputParser.getDictionaries()).thenReturn(List.of(phraseDictionary, largeDictionary));
+    }
+
+    @Test
+    public void createWarmupInputs_phrasesAndWordsUpToTheLimit() {
+        //test
+        List<String> warmupInputs = inputParserTask.createWarmupInputs(inputParser, 4);
+
+        //assert
+        Assertions.assertEquals(List.of("good morning", "hello", "word0", "word1"), warmupInputs);
+    }
+
+    @Test
+    public void createWarmupInputs_noParserNoInputs() {
+        //test & assert
+        Assertions.assertTrue(inputParserTask.createWarmupInputs(null, 4).isEmpty());
+    }
+
+    private static IDictionary.IWord createWord(String value, boolean partOfPhrase) {
+        IDictionary.IWord word = mock(IDictionary.IWord.class);
+        when(word.getValue()).thenReturn(value);
+        when(word.isPartOfPhrase()).thenReturn(partOfPhrase);
+        return word;
+    }
+}
@@ -3,10 +3,12 @@ package ai.labs.eddi.modules.nlp;
 
 import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
 import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
 import ai.labs.eddi.modules.nlp.internal.InputParser;
 import ai.labs.eddi.modules.nlp.internal.matches.RawSolution;
 import ai.labs.eddi.modules.nlp.model.Phrase;
 import ai.labs.eddi.modules.nlp.model.Word;
+import ai.labs.eddi.modules.output.model.QuickReply;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +88,31 @@ public class TemporaryDictionaryParserTest {
         assertEquals(2, actual.size());
         assertEquals(expected.get(0), actual.get(0));
     }
+
+    @Test
+    public void testReusedQuickReplyDictionariesGiveSameResults() throws InterruptedException {
+        //setup
+        List<QuickReply> quickReplies = List.of(
+                new QuickReply("tmp1", "tmpExp1", false),
+                new QuickReply("test tmp phrase", "tmpExp2", false),
+                new QuickReply("tmp phrase extended", "tmpExp3", true));
+        List<IDictionary> reusedDictionaries = DictionaryUtilities.convertQuickReplies(quickReplies, expressionProvider);
+        List<String> inputs = List.of("tmp1", "test1 test tmp phrase", "tmp phrase extended tmp1", "test2 tmp",
+                "test tmp phrase tmp phrase extended", "unknown");
+
+        for (String input : inputs) {
+            //test
+            List<Solution> first = DictionaryUtilities.extractExpressions(
+                    inputParser.parse(input, DEFAULT_USER_LANGUAGE, reusedDictionaries), true, true);
+            List<Solution> second = DictionaryUtilities.extractExpressions(
+                    inputParser.parse(input, DEFAULT_USER_LANGUAGE, reusedDictionaries), true, true);
+            List<Solution> fresh = DictionaryUtilities.extractExpressions(
+                    inputParser.parse(input, DEFAULT_USER_LANGUAGE,
+                            DictionaryUtilities.convertQuickReplies(quickReplies, expressionProvider)), true, true);
+
+            //assert
+            assertEquals(fresh, first, input);
+            assertEquals(fresh, second, input);
+        }
+    }
 }
@@ -2,11 +2,13 @@ package ai.labs.eddi.modules.nlp.expressions.utilities;
 
 import ai.labs.eddi.modules.nlp.expressions.Expression;
 import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.Expressions;
+import ai.labs.eddi.modules.nlp.expressions.value.Value;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class IExpressionProviderTest {
 
@@ -26,4 +28,55 @@ public class IExpressionProviderTest {
         assertEquals("topic_id", result.get(1).getSubExpressions()[0].getExpressionName());
         assertEquals("12w-21213211-122112-12121", result.get(1).getSubExpressions()[0].getSubExpressions()[0].getExpressionName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseImmutableExpressions_cachedInstancesCannotBeMutated() {
+        //setup
+        IExpressionProvider expressionProvider = new ExpressionProvider(new ExpressionFactory());
+        String expressions = "greeting(hello), property(name(John)), and(a, b), negation(c), 42";
+
+        //test
+        Expressions cached = expressionProvider.parseImmutableExpressions(expressions);
+        Expression property = cached.get(1);
+        Expression name = property.getSubExpressions()[0];
+
+        //assert
+        assertSame(cached, expressionProvider.parseImmutableExpressions(expressions));
+        assertEquals(expressionProvider.parseExpressions(expressions), cached);
+        assertEquals(expressions, cached.toString());
+        assertThrows(UnsupportedOperationException.class, () -> cached.add(new Expression("other")));
+        assertThrows(UnsupportedOperationException.class, () -> cached.remove(0));
+        assertThrows(UnsupportedOperationException.class, cached::clear);
+        assertThrows(UnsupportedOperationException.class, () -> cached.iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> cached.subList(0, 1).clear());
+        assertThrows(UnsupportedOperationException.class, () -> cached.set(0, new Expression("other")));
+        assertThrows(UnsupportedOperationException.class, () -> property.setExpressionName("other"));
+        assertThrows(UnsupportedOperationException.class, () -> property.setDomain("other"));
+        assertThrows(UnsupportedOperationException.class, () -> property.addSubExpressions(new Expression("other")));
+        assertThrows(UnsupportedOperationException.class, property::clearSubExpressions);
+        assertThrows(UnsupportedOperationException.class, () -> name.setSubExpressions(new Expression("other")));
+        assertThrows(UnsupportedOperationException.class, () -> cached.get(2).setDomain("other"));
+        assertEquals(expressions, expressionProvider.parseImmutableExpressions(expressions).toString());
+    }
+
+    @Test
+    public void parseExpressions_returnsIndependentMutableCopies() {
+        //setup
+        IExpressionProvider expressionProvider = new ExpressionProvider(new ExpressionFactory());
+        String expressions = "property(name(John)), 42";
+
+        //test
+        Expressions first = expressionProvider.parseExpressions(expressions);
+        first.get(0).getSubExpressions()[0].setExpressionName("surname");
+        first.add(new Expression("added"));
+        Expression clone = expressionProvider.parseImmutableExpressions(expressions).get(0).safeClone();
+        clone.setExpressionName("changed");
+
+        //assert
+        assertEquals("property(surname(John)), 42, added", first.toString());
+        assertEquals(expressions, expressionProvider.parseExpressions(expressions).toString());
+        assertEquals(expressions, expressionProvider.parseImmutableExpressions(expressions).toString());
+        assertInstanceOf(Value.class, expressionProvider.parseExpressions(expressions).get(1));
+        assertFalse(clone.isImmutable());
+    }
+}
@@ -5,14 +5,18 @@ import ai.labs.eddi.modules.nlp.expressions.Expressions;
 import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
 import ai.labs.eddi.modules.nlp.expressions.utilities.IExpressionProvider;
 import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.model.FoundWord;
 import ai.labs.eddi.modules.nlp.model.Phrase;
 import ai.labs.eddi.modules.nlp.model.Word;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -70,6 +74,76 @@ public class DamerauLevenshteinCorrectionTest {
         assertEquals(0, foundWords.size());
     }
 
+    @Test
+    public void testIndexedLookupMatchesBruteForce() {
+        //setup
+        Random random = new Random(7);
+        List<IDictionary.IWord> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            words.add(new Word(createRandomWord(random), new Expressions(), "", i, false));
+        }
+        IDictionary dictionary = new WordListDictionary(words);
+        IDictionary temporaryDictionary = new WordListDictionary(List.of(new Word("abba", new Expressions(), "", 0, false)));
+
+        for (int maxDistance = 1; maxDistance <= 3; maxDistance++) {
+            var bruteForce = new DamerauLevenshteinCorrection(maxDistance, false, false);
+            bruteForce.init(List.of(dictionary));
+            var indexed = new DamerauLevenshteinCorrection(maxDistance, false, true);
+            indexed.init(List.of(dictionary));
+
+            for (int i = 0; i < 300; i++) {
+                String lookup = createRandomWord(random);
+
+                //test
+                var expected = bruteForce.correctWord(lookup, DEFAULT_LANGUAGE, List.of(temporaryDictionary));
+                var actual = indexed.correctWord(lookup, DEFAULT_LANGUAGE, List.of(temporaryDictionary));
+
+                //assert
+                assertEquals(describe(expected), describe(actual), lookup + " within " + maxDistance);
+            }
+        }
+    }
+
+    private static String createRandomWord(Random random) {
+        char[] word = new char[1 + random.nextInt(7)];
+        for (int i = 0; i < word.length; i++) {
+            char c = (char) ('a' + random.nextInt(4));
+            word[i] = random.nextInt(10) == 0 ? Character.toUpperCase(c) : c;
+        }
+
+        return new String(word);
+    }
+
+    private static List<String> describe(List<IDictionary.IFoundWord> foundWords) {
+        return foundWords.stream().
+                map(foundWord -> foundWord.getValue() + "/" + foundWord.getFoundWord().getFrequency() + ":" +
+                        ((FoundWord) foundWord).getMatchingAccuracy()).
+                collect(Collectors.toList());
+    }
+
+    private static class WordListDictionary implements IDictionary {
+        private final List<IWord> words;
+
+        private WordListDictionary(List<IWord> words) {
+            this.words = words;
+        }
+
+        @Override
+        public List<IWord> getWords() {
+            return words;
+        }
+
+        @Override
+        public List<IFoundWord> lookupTerm(String value) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean lookupIfKnown() {
+            return false;
+        }
+    }
+
     private class TestDictionary implements IDictionary {
         @Override
         public List<IWord> getWords() {
@@ -0,0 +1,84 @@
+package ai.labs.eddi.modules.nlp.extensions.corrections;
+
+import ai.labs.eddi.modules.nlp.expressions.Expressions;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.model.Word;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author ginccc
+ */
+public class PhoneticCorrectionTest {
+    private static final String DEFAULT_LANGUAGE = "en";
+    private PhoneticCorrection phoneticCorrection;
+
+    @BeforeEach
+    public void setUp() {
+        phoneticCorrection = new PhoneticCorrection(false);
+        phoneticCorrection.init(List.of(new TestDictionary(List.of("Robert", "Rupert", "Rubin", "banana", "123"))));
+    }
+
+    @Test
+    public void correctWord_keepsAllWordsWithSameCode() {
+        //test
+        var foundWords = phoneticCorrection.correctWord("Robbert", DEFAULT_LANGUAGE);
+
+        //assert
+        List<String> values = foundWords.stream().map(IDictionary.IFoundWord::getValue).collect(Collectors.toList());
+        assertTrue(values.containsAll(List.of("Robert", "Rupert")), values.toString());
+        assertEquals(values.stream().distinct().count(), values.size());
+    }
+
+    @Test
+    public void correctWord_ranksWordsMatchingBothCodesFirst() {
+        //test
+        var foundWords = phoneticCorrection.correctWord("Robert", DEFAULT_LANGUAGE);
+
+        //assert
+        assertEquals("Robert", foundWords.get(0).getValue());
+    }
+
+    @Test
+    public void correctWord_unknownCode() {
+        //test
+        var foundWords = phoneticCorrection.correctWord("xylophone", DEFAULT_LANGUAGE);
+        var noLetters = phoneticCorrection.correctWord("456", DEFAULT_LANGUAGE);
+
+        //assert
+        assertTrue(foundWords.isEmpty());
+        assertTrue(noLetters.isEmpty());
+    }
+
+    private static class TestDictionary implements IDictionary {
+        private final List<IWord> words;
+
+        private TestDictionary(List<String> values) {
+            words = values.stream().
+                    map(value -> (IWord) new Word(value, new Expressions(), "", 0, false)).
+                    collect(Collectors.toList());
+        }
+
+        @Override
+        public List<IWord> getWords() {
+            return words;
+        }
+
+        @Override
+        public List<IFoundWord> lookupTerm(String value) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean lookupIfKnown() {
+            return false;
+        }
+    }
+}
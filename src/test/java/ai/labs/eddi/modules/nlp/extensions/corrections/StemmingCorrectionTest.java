@@ -0,0 +1,109 @@
+package ai.labs.eddi.modules.nlp.extensions.corrections;
+
+import ai.labs.eddi.modules.nlp.expressions.Expressions;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.model.Word;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author ginccc
+ */
+public class StemmingCorrectionTest {
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final List<String> WORDS = List.of("running", "runs", "house", "houses", "connection", "connected");
+    private StemmingCorrection stemmingCorrection;
+
+    @BeforeEach
+    public void setUp() {
+        stemmingCorrection = new StemmingCorrection("english", false);
+        stemmingCorrection.init(List.of(new TestDictionary(WORDS)));
+    }
+
+    @Test
+    public void correctWord() {
+        //test
+        var foundWords = stemmingCorrection.correctWord("Connecting", DEFAULT_LANGUAGE);
+
+        //assert
+        assertEquals(Set.of("connection", "connected"), values(foundWords));
+        assertEquals(Set.of("house", "houses"), values(stemmingCorrection.correctWord("house", DEFAULT_LANGUAGE)));
+        assertTrue(stemmingCorrection.correctWord("banana", DEFAULT_LANGUAGE).isEmpty());
+    }
+
+    @Test
+    public void correctWord_concurrently() throws Exception {
+        //setup
+        List<String> lookups = List.of("run", "Runner", "housing", "connections", "connect", "houses", "tree");
+        Map<String, Set<String>> expected = new HashMap<>();
+        for (String lookup : lookups) {
+            expected.put(lookup, values(stemmingCorrection.correctWord(lookup, DEFAULT_LANGUAGE)));
+        }
+        stemmingCorrection = new StemmingCorrection("english", false);
+        stemmingCorrection.init(List.of(new TestDictionary(WORDS)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Map<String, Set<String>>>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executorService.submit(() -> {
+                    Map<String, Set<String>> actual = new HashMap<>();
+                    for (int i = 0; i < 2000; i++) {
+                        String lookup = lookups.get(i % lookups.size());
+                        Set<String> found = values(stemmingCorrection.correctWord(lookup, DEFAULT_LANGUAGE));
+                        Set<String> previous = actual.putIfAbsent(lookup, found);
+                        if (previous != null && !previous.equals(found)) {
+                            throw new IllegalStateException("inconsistent result for " + lookup);
+                        }
+                    }
+                    return actual;
+                }));
+            }
+
+            //assert
+            for (Future<Map<String, Set<String>>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static Set<String> values(List<IDictionary.IFoundWord> foundWords) {
+        return foundWords.stream().map(IDictionary.IFoundWord::getValue).collect(Collectors.toSet());
+    }
+
+    private static class TestDictionary implements IDictionary {
+        private final List<IWord> words;
+
+        private TestDictionary(List<String> values) {
+            words = values.stream().
+                    map(value -> (IWord) new Word(value, new Expressions(), "", 0, false)).
+                    collect(Collectors.toList());
+        }
+
+        @Override
+        public List<IWord> getWords() {
+            return words;
+        }
+
+        @Override
+        public List<IFoundWord> lookupTerm(String value) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean lookupIfKnown() {
+            return false;
+        }
+    }
+}
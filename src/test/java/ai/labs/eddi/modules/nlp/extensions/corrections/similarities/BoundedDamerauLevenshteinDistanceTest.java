@@ -0,0 +1,108 @@
+package ai.labs.eddi.modules.nlp.extensions.corrections.similarities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author ginccc
+ */
+public class BoundedDamerauLevenshteinDistanceTest {
+    private DamerauLevenshteinDistance expectedDistance;
+    private BoundedDamerauLevenshteinDistance boundedDistance;
+
+    @BeforeEach
+    public void setUp() {
+        expectedDistance = new DamerauLevenshteinDistance();
+        boundedDistance = new BoundedDamerauLevenshteinDistance();
+    }
+
+    @Test
+    public void calculate_allShortStrings() {
+        //setup
+        List<String> strings = new ArrayList<>();
+        collectStrings("", "abc", 5, strings);
+
+        for (String source : strings) {
+            for (String target : strings) {
+                if (source.isEmpty() && target.isEmpty()) {
+                    continue;
+                }
+
+                //test
+                int expected = expectedDistance.calculate(source, target);
+
+                //assert
+                assertEquals(expected, boundedDistance.calculate(source, target), source + " / " + target);
+                for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                    assertEquals(Math.min(expected, maxDistance + 1),
+                            boundedDistance.calculate(source, target, maxDistance),
+                            source + " / " + target + " within " + maxDistance);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void calculate_longAndNonLatinStrings() {
+        //setup
+        Random random = new Random(11);
+        String alphabet = "abcdeäöüαβ中文";
+
+        for (int i = 0; i < 2000; i++) {
+            String source = createRandomString(random, alphabet, 1 + random.nextInt(80));
+            String target = random.nextBoolean() ? mutate(random, source, alphabet) :
+                    createRandomString(random, alphabet, 1 + random.nextInt(80));
+
+            //test
+            int expected = expectedDistance.calculate(source, target);
+
+            //assert
+            assertEquals(expected, boundedDistance.calculate(source, target), source + " / " + target);
+            assertEquals(Math.min(expected, 3), boundedDistance.calculate(source, target, 2), source + " / " + target);
+        }
+    }
+
+    private static void collectStrings(String prefix, String alphabet, int maxLength, List<String> strings) {
+        strings.add(prefix);
+        if (prefix.length() < maxLength) {
+            for (char c : alphabet.toCharArray()) {
+                collectStrings(prefix + c, alphabet, maxLength, strings);
+            }
+        }
+    }
+
+    private static String createRandomString(Random random, String alphabet, int length) {
+        var builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String value, String alphabet) {
+        var builder = new StringBuilder(value);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && builder.length() > 1; i++) {
+            int position = random.nextInt(builder.length() - 1);
+            switch (random.nextInt(4)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, alphabet.charAt(random.nextInt(alphabet.length())));
+                case 2 -> builder.setCharAt(position, alphabet.charAt(random.nextInt(alphabet.length())));
+                default -> {
+                    char c = builder.charAt(position);
+                    builder.setCharAt(position, builder.charAt(position + 1));
+                    builder.setCharAt(position + 1, c);
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package ai.labs.eddi.modules.nlp.extensions.dictionaries;
+
+import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
+import ai.labs.eddi.modules.nlp.model.FoundRegEx;
+import ai.labs.eddi.modules.nlp.model.FoundWord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * @author ginccc
+ */
+public class RegularDictionaryTest {
+    private ExpressionProvider expressionProvider;
+    private RegularDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        expressionProvider = new ExpressionProvider(new ExpressionFactory());
+        dictionary = new RegularDictionary();
+        dictionary.setLookupIfKnown(true);
+    }
+
+    @Test
+    public void lookupTerm_word() {
+        //setup
+        dictionary.addWord("Hello", expressionProvider.parseExpressions("greeting(hello)"), 0);
+
+        //test
+        var exactMatch = dictionary.lookupTerm("Hello");
+        var caseInsensitiveMatch = dictionary.lookupTerm("hELLO");
+
+        //assert
+        Assertions.assertEquals(List.of(new FoundWord(dictionary.getWords().get(0), false, 1.0)), exactMatch);
+        Assertions.assertEquals(List.of(new FoundWord(dictionary.getWords().get(0), true, 0.9)), caseInsensitiveMatch);
+        Assertions.assertTrue(dictionary.lookupTerm("hell").isEmpty());
+    }
+
+    @Test
+    public void lookupTerm_partOfPhrase() {
+        //setup
+        dictionary.addPhrase("good morning", expressionProvider.parseExpressions("greeting(good_morning)"));
+        dictionary.addPhrase("Good night", expressionProvider.parseExpressions("greeting(good_night)"));
+
+        //test
+        var foundWords = dictionary.lookupTerm("good");
+
+        //assert
+        Assertions.assertEquals(List.of("good:1.0", "good:0.9", "Good:0.9"), describe(foundWords));
+        Assertions.assertEquals(2, dictionary.lookupPhrasesStartingWith("GOOD").size());
+        Assertions.assertTrue(dictionary.lookupPhrasesStartingWith("night").isEmpty());
+    }
+
+    @Test
+    public void lookupTerm_indexIsRebuiltAfterModification() {
+        //setup
+        dictionary.addWord("hello", expressionProvider.parseExpressions("greeting(hello)"), 0);
+        Assertions.assertTrue(dictionary.lookupTerm("bye").isEmpty());
+
+        //test
+        dictionary.addWord("bye", expressionProvider.parseExpressions("goodbye(bye)"), 0);
+
+        //assert
+        Assertions.assertEquals(1, dictionary.lookupTerm("bye").size());
+        Assertions.assertEquals(2, dictionary.getWords().size());
+    }
+
+    @Test
+    public void lookupTerm_matchesLinearScan() {
+        //setup
+        Random random = new Random(42);
+        String[] vocabulary = {"a", "A", "ab", "Ab", "aB", "b", "B", "ba", "straße", "STRASSE", "i", "I", "ı", "İ"};
+        Map<String, String> wordKeys = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < 40; i++) {
+            String value = vocabulary[random.nextInt(vocabulary.length)];
+            if (random.nextBoolean()) {
+                dictionary.addWord(value, expressionProvider.parseExpressions("word(" + i + ")"), 0);
+                wordKeys.putIfAbsent(value, value);
+            } else {
+                String phrase = value + " " + vocabulary[random.nextInt(vocabulary.length)];
+                dictionary.addPhrase(phrase, expressionProvider.parseExpressions("phrase(" + i + ")"));
+            }
+        }
+
+        for (String lookup : vocabulary) {
+            //test
+            var actual = dictionary.lookupTerm(lookup);
+
+            //assert
+            Assertions.assertEquals(describe(lookupByLinearScan(lookup, wordKeys)), describe(actual), lookup);
+        }
+    }
+
+    @Test
+    public void lookupTerm_regExsInConfigurationOrder() {
+        //setup
+        String[] regExs = {"[0-9]+", "order[0-9]+", "ord.*", "o?rder1", "order1|x", "(?i)ORDER1", "x[0-9]", "order12?"};
+        for (int i = 0; i < regExs.length; i++) {
+            dictionary.addRegex(regExs[i], expressionProvider.parseExpressions("regex(" + i + ")"));
+        }
+
+        //test
+        var foundWords = dictionary.lookupTerm("order1");
+
+        //assert
+        Assertions.assertEquals(List.of("order[0-9]+", "ord.*", "o?rder1", "order1|x", "(?i)ORDER1", "order12?"),
+                foundWords.stream().map(foundWord -> ((FoundRegEx) foundWord).getMatchingRegEx().getValue()).
+                        collect(Collectors.toList()));
+        Assertions.assertEquals(List.of("[0-9]+"), dictionary.lookupTerm("42").stream().
+                map(foundWord -> ((FoundRegEx) foundWord).getMatchingRegEx().getValue()).collect(Collectors.toList()));
+        Assertions.assertTrue(dictionary.lookupTerm("").isEmpty());
+    }
+
+    /**
+     * The former lookup: the words map keeps the first inserted key of a case-insensitive group,
+     * which decides whether a match counts as case-sensitive.
+     */
+    private List<IDictionary.IFoundWord> lookupByLinearScan(String lookup, Map<String, String> wordKeys) {
+        List<IDictionary.IFoundWord> ret = dictionary.getPhrases().stream().
+                flatMap(phrase -> phrase.getWords().stream()).
+                filter(partOfPhrase -> partOfPhrase.getValue().equals(lookup)).
+                map(partOfPhrase -> new FoundWord(partOfPhrase, false, 1.0)).
+                collect(Collectors.toList());
+
+        dictionary.getPhrases().stream().flatMap(phrase -> phrase.getWords().stream()).
+                filter(partOfPhrase -> partOfPhrase.getValue().equalsIgnoreCase(lookup)).
+                map(partOfPhrase -> new FoundWord(partOfPhrase, false, 0.9)).
+                collect(Collectors.toList()).stream().filter(foundWord -> !ret.contains(foundWord)).forEach(ret::add);
+
+        dictionary.getWords().stream().filter(word -> !word.isPartOfPhrase()).
+                filter(word -> word.getValue().equalsIgnoreCase(lookup)).findFirst().
+                ifPresent(word -> {
+                    boolean isCaseSensitiveMatch = wordKeys.get(lookup).equals(lookup);
+                    ret.add(new FoundWord(word, !isCaseSensitiveMatch, isCaseSensitiveMatch ? 1.0 : 0.9));
+                });
+
+        return ret;
+    }
+
+    private static List<String> describe(List<IDictionary.IFoundWord> foundWords) {
+        return foundWords.stream().
+                map(foundWord -> foundWord.getValue() + ":" + ((FoundWord) foundWord).getMatchingAccuracy()).
+                collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,135 @@
+package ai.labs.eddi.modules.nlp.extensions.normalizers;
+
+import ai.labs.eddi.modules.nlp.extensions.normalizers.providers.PunctuationNormalizerProvider;
+import ai.labs.eddi.utils.CharacterUtilities;
+import ai.labs.eddi.utils.LanguageUtilities;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the normalizers with straightforward implementations of their original behaviour.
+ *
+ * @author ginccc
+ */
+public class NormalizerChainTest {
+    private static final String DEFAULT_USER_LANGUAGE = "en";
+    private static final String[] FRAGMENTS = {
+            "don't", "Can't", "IT'S", "it’s", "yes", "no", "menu", "hello", "wörld", "Straße", "café", "`quoted`",
+            "“hi”", "10:30", "10h30", "1st", "2nd.", "3rd,", "end.", "what?!", "a,b", "x;y", "ok!", "\t", "\n", " ",
+            "  ", "", "ÄÖÜ", "ñ", "漢字", "#", "@", "-", "ł", "I'M", "we're", "don't\t"};
+    private static final Map<String, String> CONTRACTED_WORDS = Map.ofEntries(
+            Map.entry("don't", "do not"), Map.entry("doesn't", "does not"), Map.entry("didn't", "did not"),
+            Map.entry("can't", "cannot"), Map.entry("couldn't", "could not"), Map.entry("won't", "would not"),
+            Map.entry("wasn't", "was not"), Map.entry("weren't", "were not"), Map.entry("shouldn't", "should not"),
+            Map.entry("haven't", "have not"), Map.entry("hasn't", "has not"), Map.entry("i'm", "i am"),
+            Map.entry("you're", "you are"), Map.entry("he's", "he is"), Map.entry("she's", "she is"),
+            Map.entry("it's", "it is"), Map.entry("they're", "they are"), Map.entry("we're", "we are"));
+
+    private final INormalizer contractedWordNormalizer = new ContractedWordNormalizer();
+    private final INormalizer convertSpecialCharacterNormalizer = new ConvertSpecialCharacterNormalizer();
+    private final INormalizer removeUndefinedCharacterNormalizer = new RemoveUndefinedCharacterNormalizer();
+    private final Pattern punctuationPattern =
+            new PunctuationNormalizerProvider().toRegexPattern(PunctuationNormalizer.PUNCTUATION);
+
+    @Test
+    public void normalize_sameResultAsOriginalImplementations() {
+        //setup
+        Random random = new Random(4711);
+        var insertingPunctuationNormalizer = new PunctuationNormalizer(punctuationPattern, false);
+        var removingPunctuationNormalizer = new PunctuationNormalizer(punctuationPattern, true);
+
+        for (int run = 0; run < 5000; run++) {
+            String input = createRandomInput(random);
+
+            //test
+            String contracted = contractedWordNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+            String converted = convertSpecialCharacterNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+            String removed = removeUndefinedCharacterNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+            String inserted = insertingPunctuationNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+            String stripped = removingPunctuationNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+
+            //assert
+            Assertions.assertEquals(originalContractedWords(input), contracted, input);
+            Assertions.assertEquals(StringUtils.stripAccents(CharacterUtilities.convertSpecialCharacter(input)),
+                    converted, input);
+            Assertions.assertEquals(originalDeleteUndefinedChars(input), removed, input);
+            Assertions.assertEquals(originalPunctuation(input, false), inserted, input);
+            Assertions.assertEquals(originalPunctuation(input, true), stripped, input);
+        }
+    }
+
+    @Test
+    public void normalize_unchangedInputIsReturnedAsIs() {
+        //setup
+        final String input = "hello world";
+
+        //test
+        String converted = convertSpecialCharacterNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+        String removed = removeUndefinedCharacterNormalizer.normalize(input, DEFAULT_USER_LANGUAGE);
+
+        //assert
+        Assertions.assertSame(input, converted);
+        Assertions.assertSame(input, removed);
+    }
+
+    private static String createRandomInput(Random random) {
+        StringBuilder input = new StringBuilder();
+        int fragments = random.nextInt(8);
+        for (int i = 0; i < fragments; i++) {
+            input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            if (random.nextBoolean()) {
+                input.append(' ');
+            }
+        }
+
+        return input.toString();
+    }
+
+    private String originalContractedWords(String input) {
+        List<String> inputParts = contractedWordNormalizer.toStringList(input);
+        for (int i = 0; i < inputParts.size(); i++) {
+            String match = CONTRACTED_WORDS.get(inputParts.get(i).toLowerCase());
+            if (match != null) {
+                inputParts.set(i, match);
+            }
+        }
+
+        return contractedWordNormalizer.concatWords(inputParts);
+    }
+
+    private String originalPunctuation(String input, boolean removePunctuation) {
+        List<String> inputParts = contractedWordNormalizer.toStringList(input);
+        String replacement = removePunctuation ? " " : " $0 ";
+        for (int i = 0; i < inputParts.size(); i++) {
+            String part = inputParts.get(i);
+            if (!part.isEmpty() && LanguageUtilities.isTimeExpression(part) == null &&
+                    LanguageUtilities.isOrdinalNumber(part) == null) {
+                part = punctuationPattern.matcher(part).replaceAll(replacement);
+                part = part.replaceAll("\\s+", " ");
+                inputParts.set(i, part);
+            }
+        }
+
+        return contractedWordNormalizer.concatWords(inputParts);
+    }
+
+    private static String originalDeleteUndefinedChars(String input) {
+        String allowedChars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz 1234567890!?:;.,";
+        StringBuilder sentence = new StringBuilder(input);
+        for (int i = 0; i < sentence.length(); ) {
+            if (allowedChars.indexOf(sentence.charAt(i)) < 0) {
+                sentence.deleteCharAt(i);
+            } else {
+                i++;
+            }
+        }
+
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package ai.labs.eddi.modules.nlp.internal;
+
+import ai.labs.eddi.modules.nlp.IInputParser;
+import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.RegularDictionary;
+import ai.labs.eddi.modules.nlp.internal.matches.RawSolution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author ginccc
+ */
+public class CachingInputParserTest {
+    private static final String USER_LANGUAGE = "en";
+    private ExpressionProvider expressionProvider;
+    private IInputParser inputParser;
+    private Counter hits;
+    private Counter misses;
+    private CachingInputParser cachingInputParser;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        expressionProvider = new ExpressionProvider(new ExpressionFactory());
+        inputParser = mock(IInputParser.class);
+        when(inputParser.parse(anyString(), any(), any())).
+                thenAnswer(invocation -> List.of(new RawSolution(RawSolution.Match.FULLY)));
+        var meterRegistry = new SimpleMeterRegistry();
+        hits = meterRegistry.counter("hits");
+        misses = meterRegistry.counter("misses");
+        cachingInputParser = new CachingInputParser(inputParser, 2, Duration.ofMinutes(1), hits, misses);
+    }
+
+    @Test
+    public void parse_repeatedInputIsServedFromCache() throws Exception {
+        //setup
+        List<RawSolution> first = cachingInputParser.parse("yes", USER_LANGUAGE, Collections.emptyList());
+
+        //test
+        List<RawSolution> second = cachingInputParser.parse("yes", USER_LANGUAGE, Collections.emptyList());
+
+        //assert
+        Assertions.assertSame(first, second);
+        verify(inputParser, times(1)).parse("yes", USER_LANGUAGE, Collections.emptyList());
+        Assertions.assertEquals(1.0, hits.count());
+        Assertions.assertEquals(1.0, misses.count());
+    }
+
+    @Test
+    public void parse_differentLanguageOrTemporaryDictionaryIsParsedAgain() throws Exception {
+        //setup
+        List<IDictionary> quickReplies = List.of(createQuickReplyDictionary("yes", "confirmation(yes)"));
+        List<IDictionary> otherQuickReplies = List.of(createQuickReplyDictionary("yes", "confirmation(sure)"));
+        List<IDictionary> sameQuickReplies = List.of(createQuickReplyDictionary("yes", "confirmation(yes)"));
+        // large enough that no entry gets evicted while distinct keys are parsed
+        cachingInputParser = new CachingInputParser(inputParser, 10, Duration.ofMinutes(1), hits, misses);
+
+        //test
+        cachingInputParser.parse("yes", USER_LANGUAGE, Collections.emptyList());
+        cachingInputParser.parse("yes", "de", Collections.emptyList());
+        cachingInputParser.parse("yes", USER_LANGUAGE, quickReplies);
+        cachingInputParser.parse("yes", USER_LANGUAGE, otherQuickReplies);
+        cachingInputParser.parse("yes", USER_LANGUAGE, sameQuickReplies);
+
+        //assert
+        verify(inputParser, times(4)).parse(eq("yes"), any(), any());
+        Assertions.assertEquals(1.0, hits.count());
+        Assertions.assertEquals(4.0, misses.count());
+    }
+
+    @Test
+    public void parse_unknownTemporaryDictionaryBypassesCache() throws Exception {
+        //setup
+        List<IDictionary> temporaryDictionaries = List.of(mock(IDictionary.class));
+
+        //test
+        cachingInputParser.parse("yes", USER_LANGUAGE, temporaryDictionaries);
+        cachingInputParser.parse("yes", USER_LANGUAGE, temporaryDictionaries);
+
+        //assert
+        verify(inputParser, times(2)).parse("yes", USER_LANGUAGE, temporaryDictionaries);
+        Assertions.assertEquals(0.0, hits.count() + misses.count());
+        Assertions.assertEquals(0, cachingInputParser.getCachedParseResultsCount());
+    }
+
+    @Test
+    public void parse_cacheIsBoundedBySize() throws Exception {
+        //test
+        for (String input : List.of("yes", "no", "menu", "help")) {
+            cachingInputParser.parse(input, USER_LANGUAGE, Collections.emptyList());
+        }
+
+        //assert
+        Assertions.assertTrue(cachingInputParser.getCachedParseResultsCount() <= 2);
+    }
+
+    private RegularDictionary createQuickReplyDictionary(String value, String expressions) {
+        var dictionary = new RegularDictionary();
+        dictionary.addWord(value, expressionProvider.parseExpressions(expressions), 0);
+        return dictionary;
+    }
+}
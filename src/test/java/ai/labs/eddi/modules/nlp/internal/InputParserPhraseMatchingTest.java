@@ -0,0 +1,91 @@
+package ai.labs.eddi.modules.nlp.internal;
+
+import ai.labs.eddi.modules.nlp.IInputParser;
+import ai.labs.eddi.modules.nlp.expressions.ExpressionFactory;
+import ai.labs.eddi.modules.nlp.expressions.utilities.ExpressionProvider;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.IDictionary;
+import ai.labs.eddi.modules.nlp.extensions.dictionaries.RegularDictionary;
+import ai.labs.eddi.modules.nlp.internal.matches.RawSolution;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * Compares phrase matching with and without the phrase automaton prefilter on random dictionaries and inputs.
+ *
+ * @author ginccc
+ */
+public class InputParserPhraseMatchingTest {
+    private static final String[] VOCABULARY = {"day", "after", "tomorrow", "good", "morning", "night", "see", "you", "later"};
+    private ExpressionProvider expressionProvider;
+    private Random random;
+
+    @BeforeEach
+    public void setUp() {
+        expressionProvider = new ExpressionProvider(new ExpressionFactory());
+        random = new Random(4711);
+    }
+
+    @Test
+    public void parse_sameResultsWithPhraseAutomaton() throws Exception {
+        for (int run = 0; run < 300; run++) {
+            //setup
+            List<IDictionary> dictionaries = List.of(createRandomDictionary(run));
+            List<IDictionary> temporaryDictionaries = random.nextInt(3) == 0 ?
+                    List.of(createRandomDictionary(run + 1000)) : Collections.emptyList();
+            var config = new IInputParser.Config();
+            var prefiltered = new InputParser(Collections.emptyList(), dictionaries, Collections.emptyList(), config, true);
+            var unfiltered = new InputParser(Collections.emptyList(), dictionaries, Collections.emptyList(), config, false);
+            String input = createRandomSentence(1 + random.nextInt(6));
+
+            //test
+            List<RawSolution> expected = unfiltered.parse(input, "en", temporaryDictionaries);
+            List<RawSolution> actual = prefiltered.parse(input, "en", temporaryDictionaries);
+
+            //assert
+            Assertions.assertEquals(describe(expected), describe(actual), "input: " + input);
+            Assertions.assertEquals(expected, actual, "input: " + input);
+        }
+    }
+
+    private RegularDictionary createRandomDictionary(int seed) {
+        var dictionary = new RegularDictionary();
+        dictionary.setLookupIfKnown(true);
+        int wordCount = random.nextInt(4);
+        for (int i = 0; i < wordCount; i++) {
+            String word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+            dictionary.addWord(word, expressionProvider.parseExpressions("word(" + word + ")"), 0);
+        }
+
+        int phraseCount = 1 + random.nextInt(5);
+        for (int i = 0; i < phraseCount; i++) {
+            String phrase = createRandomSentence(1 + random.nextInt(3));
+            dictionary.addPhrase(phrase, expressionProvider.parseExpressions("phrase(p" + seed + "_" + i + ")"));
+        }
+
+        return dictionary;
+    }
+
+    private String createRandomSentence(int length) {
+        var sentence = new StringJoiner(" ");
+        for (int i = 0; i < length; i++) {
+            sentence.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+
+        return sentence.toString();
+    }
+
+    private static List<String> describe(List<RawSolution> rawSolutions) {
+        return rawSolutions.stream().
+                map(rawSolution -> rawSolution.getMatch().name() + rawSolution.getDictionaryEntries().stream().
+                        map(foundWord -> foundWord.getValue() + "=" + foundWord.getExpressions()).
+                        collect(Collectors.toList())).
+                collect(Collectors.toList());
+    }
+}
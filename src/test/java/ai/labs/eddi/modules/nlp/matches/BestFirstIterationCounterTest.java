@@ -0,0 +1,76 @@
+package ai.labs.eddi.modules.nlp.matches;
+
+import ai.labs.eddi.modules.nlp.internal.matches.BestFirstIterationCounter;
+import ai.labs.eddi.modules.nlp.internal.matches.IterationCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+/**
+ * @author ginccc
+ */
+public class BestFirstIterationCounterTest {
+
+    @Test
+    public void testBestCombinationsFirst() {
+        //setup
+        double[][] scores = {{0.3, 1.0}, {1.0, 0.5, 0.9}};
+        BestFirstIterationCounter counter = new BestFirstIterationCounter(scores, 3);
+
+        //assert
+        Assertions.assertTrue(counter.hasNext());
+        Assertions.assertArrayEquals(new int[]{1, 0}, counter.next().getIndexes());
+        Assertions.assertTrue(counter.hasNext());
+        Assertions.assertArrayEquals(new int[]{1, 2}, counter.next().getIndexes());
+        Assertions.assertTrue(counter.hasNext());
+        Assertions.assertArrayEquals(new int[]{1, 1}, counter.next().getIndexes());
+        Assertions.assertFalse(counter.hasNext());
+    }
+
+    @Test
+    public void testEveryCombinationExactlyOnceInDescendingScore() {
+        //setup
+        Random random = new Random(42);
+        double[][] scores = new double[4][];
+        int combinations = 1;
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = new double[1 + random.nextInt(4)];
+            for (int j = 0; j < scores[i].length; j++) {
+                scores[i][j] = random.nextInt(4) / 3.0;
+            }
+            combinations *= scores[i].length;
+        }
+
+        //test
+        BestFirstIterationCounter counter = new BestFirstIterationCounter(scores, Integer.MAX_VALUE);
+        Set<List<Integer>> seen = new HashSet<>();
+        double previousScore = Double.MAX_VALUE;
+        while (counter.hasNext()) {
+            IterationCounter.IterationPlan iterationPlan = counter.next();
+            int[] indexes = iterationPlan.getIndexes();
+            double score = 0;
+            List<Integer> combination = new ArrayList<>();
+            for (int i = 0; i < indexes.length; i++) {
+                score += scores[i][indexes[i]];
+                combination.add(indexes[i]);
+            }
+
+            //assert
+            Assertions.assertTrue(seen.add(combination), "duplicate " + combination);
+            Assertions.assertTrue(score <= previousScore + 1e-9);
+            previousScore = score;
+        }
+
+        Assertions.assertEquals(combinations, seen.size());
+    }
+
+    @Test
+    public void testNoCombinations() {
+        //assert
+        Assertions.assertFalse(new BestFirstIterationCounter(new double[0][], 5).hasNext());
+        Assertions.assertFalse(new BestFirstIterationCounter(new double[][]{{1.0}, {}}, 5).hasNext());
+        Assertions.assertThrows(NoSuchElementException.class,
+                () -> new BestFirstIterationCounter(new double[0][], 5).next());
+    }
+}
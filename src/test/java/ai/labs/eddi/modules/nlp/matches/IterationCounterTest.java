@@ -18,63 +18,63 @@ public class IterationCounterTest {
     @Test
     public void testCreateIterationPlan() throws Exception {
         //setup
-        IterationCounter counter = new IterationCounter(3, new Integer[]{2, 2, 2});
+        IterationCounter counter = new IterationCounter(3, new int[]{2, 2, 2});
 
         //assert
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 0, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 0, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 0, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 0, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 1, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 1, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 0, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 0, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 0, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 0, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 2, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 2, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 0, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 0, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 1, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 1, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 0, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 0, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 1, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 1, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 1, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 1, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 2, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 2, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 0, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 0, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 2, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 2, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 0, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 0, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 1, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 1, 0}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 2, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{0, 2, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 0, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 0, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 2, 0}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 2, 0}, counter.next().getIndexes());
         /*Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 1, 1}, counter.next().getIndexes());*/
+        Assertions.assertArrayEquals(new int[]{1, 1, 1}, counter.next().getIndexes());*/
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 1, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 1, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 2, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 2, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 1, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 1, 1}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 2, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{1, 2, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 1, 2}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 1, 2}, counter.next().getIndexes());
         Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 2, 1}, counter.next().getIndexes());
+        Assertions.assertArrayEquals(new int[]{2, 2, 1}, counter.next().getIndexes());
         /*Assertions.assertTrue(counter.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 2, 2}, counter.next().getIndexes());*/
+        Assertions.assertArrayEquals(new int[]{2, 2, 2}, counter.next().getIndexes());*/
         Assertions.assertFalse(counter.hasNext());
 
     }
@@ -35,4 +35,27 @@ public class MatchMatrixTest {
         Assertions.assertArrayEquals(new IDictionary.IFoundWord[]{new FoundWord(word, false, 1.0)}, possibleSolutions.next().build().toArray());
         Assertions.assertFalse(possibleSolutions.hasNext());
     }
+
+    @Test
+    public void testBestSuggestionsFirst() {
+        //setup
+        MatchMatrix matchMatrix = new MatchMatrix(1);
+        Expressions expressions = new Expressions(new Expression("greeting", new Expression("hello")));
+        IDictionary.IWord phoneticWord = new Word("hallo", expressions, null, 0, false);
+        IDictionary.IWord exactWord = new Word("helo", expressions, null, 0, false);
+        MatchingResult phoneticResult = new MatchingResult();
+        phoneticResult.addResult(new FoundWord(phoneticWord, true, 0.3));
+        MatchingResult exactResult = new MatchingResult();
+        exactResult.addResult(new FoundWord(exactWord, false, 1.0));
+        matchMatrix.addMatchingResult(0, "helo", phoneticResult);
+        matchMatrix.addMatchingResult(0, "helo", exactResult);
+
+        //test
+        Iterator<Suggestion> possibleSolutions = matchMatrix.iterator();
+
+        //assert
+        Assertions.assertTrue(possibleSolutions.hasNext());
+        Assertions.assertArrayEquals(new IDictionary.IFoundWord[]{new FoundWord(exactWord, false, 1.0)}, possibleSolutions.next().build().toArray());
+        Assertions.assertFalse(possibleSolutions.hasNext());
+    }
 }
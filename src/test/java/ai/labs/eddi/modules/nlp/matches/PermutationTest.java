@@ -16,54 +16,54 @@ public class PermutationTest {
     @Test
     public void testPermutation() {
         //setup
-        Permutation permutation = new Permutation(new Integer[]{1, 2, 3});
-        Iterator<Integer[]> permutationIterator = permutation.iterator();
+        Permutation permutation = new Permutation(new int[]{1, 2, 3});
+        Iterator<int[]> permutationIterator = permutation.iterator();
 
         //assert
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 2, 3}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 3, 2}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{1, 3, 2}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 1, 3}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{2, 1, 3}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{2, 3, 1}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{2, 3, 1}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{3, 1, 2}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{3, 1, 2}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{3, 2, 1}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{3, 2, 1}, permutationIterator.next());
         Assertions.assertFalse(permutationIterator.hasNext());
     }
 
     @Test
     public void testPermutation1() {
         //setup
-        Permutation permutation = new Permutation(new Integer[]{1, 0, 0});
-        Iterator<Integer[]> permutationIterator = permutation.iterator();
+        Permutation permutation = new Permutation(new int[]{1, 0, 0});
+        Iterator<int[]> permutationIterator = permutation.iterator();
 
         //assert
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 0, 1}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{0, 0, 1}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 1, 0}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{0, 1, 0}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 0, 0}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{1, 0, 0}, permutationIterator.next());
         Assertions.assertFalse(permutationIterator.hasNext());
     }
 
     @Test
     public void testPermutation2() {
         //setup
-        Permutation permutation = new Permutation(new Integer[]{0, 0, 1});
-        Iterator<Integer[]> permutationIterator = permutation.iterator();
+        Permutation permutation = new Permutation(new int[]{0, 0, 1});
+        Iterator<int[]> permutationIterator = permutation.iterator();
 
         //assert
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 0, 1}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{0, 0, 1}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{0, 1, 0}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{0, 1, 0}, permutationIterator.next());
         Assertions.assertTrue(permutationIterator.hasNext());
-        Assertions.assertArrayEquals(new Integer[]{1, 0, 0}, permutationIterator.next());
+        Assertions.assertArrayEquals(new int[]{1, 0, 0}, permutationIterator.next());
         Assertions.assertFalse(permutationIterator.hasNext());
     }
 }
@@ -0,0 +1,26 @@
+package ai.labs.eddi.modules.nlp.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author ginccc
+ */
+public class RegExTest {
+
+    @Test
+    public void extractLiteralPrefix() {
+        //assert
+        Assertions.assertEquals("order", RegEx.extractLiteralPrefix("order"));
+        Assertions.assertEquals("order", RegEx.extractLiteralPrefix("^order[0-9]+"));
+        Assertions.assertEquals("ord", RegEx.extractLiteralPrefix("orde?r"));
+        Assertions.assertEquals("ord", RegEx.extractLiteralPrefix("orde{0,2}"));
+        Assertions.assertEquals("ab", RegEx.extractLiteralPrefix("ab(c|d)"));
+        Assertions.assertEquals("a", RegEx.extractLiteralPrefix("a😀?"));
+        Assertions.assertEquals("", RegEx.extractLiteralPrefix("abc|def"));
+        Assertions.assertEquals("", RegEx.extractLiteralPrefix("ab[|]c|d"));
+        Assertions.assertEquals("", RegEx.extractLiteralPrefix("(?i)order"));
+        Assertions.assertEquals("", RegEx.extractLiteralPrefix("\\d+"));
+        Assertions.assertEquals("", RegEx.extractLiteralPrefix("ab\\Q(\\E|cd"));
+    }
+}
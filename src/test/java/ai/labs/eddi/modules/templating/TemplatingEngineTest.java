@@ -3,6 +3,7 @@ package ai.labs.eddi.modules.templating;
 import ai.labs.eddi.datastore.serialization.SerializationCustomizer;
 import ai.labs.eddi.modules.templating.bootstrap.TemplateEngineModule;
 import ai.labs.eddi.modules.templating.impl.TemplatingEngine;
+import ai.labs.eddi.modules.templating.security.SecureTemplateConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author ginccc
@@ -59,6 +62,56 @@ public class TemplatingEngineTest {
         Assertions.assertEquals("Some kind of string having a testValue", result);
     }
 
+    @Test
+    public void processTemplate_repeatedRenderingOfMaliciousTemplatesIsIdentical() {
+        //setup
+        List<String> templates = List.of(
+                "[[${T(java.lang.Runtime).getRuntime().exec('calc')}]]",
+                "[[${@java.lang.Runtime@getRuntime().exec('ls')}]]",
+                "[[${''.getClass().forName('java.lang.Runtime')}]]",
+                "[[${#ctx}]]",
+                "<script>alert(1)</script> [[${value}]]",
+                "<img src=x onerror=alert(1)> [[${value}]]",
+                "<a href=\"javascript:alert(1)\">[[${value}]]</a>",
+                "Hello [[${value}]]",
+                "plain text");
+        Map<String, Object> dynamicAttributesMap = Map.of("value", "testValue");
+
+        for (ITemplatingEngine.TemplateMode templateMode : ITemplatingEngine.TemplateMode.values()) {
+            for (String template : templates) {
+                //test
+                String first = processTemplateOrError(template, dynamicAttributesMap, templateMode);
+                String second = processTemplateOrError(template, dynamicAttributesMap, templateMode);
+
+                //assert
+                Assertions.assertEquals(first, second, template);
+                Assertions.assertFalse(first.contains("java.lang.Runtime"), template);
+                Assertions.assertFalse(first.toLowerCase().contains("<script"), template);
+            }
+        }
+    }
+
+    @Test
+    public void processTemplate_plainTemplateIsOnlySanitized() throws Exception {
+        //setup
+        String template = "<div onclick=\"steal()\">no expressions here</div>";
+
+        //test
+        String result = templatingEngine.processTemplate(template, new HashMap<>());
+
+        //assert
+        Assertions.assertEquals(new SecureTemplateConfiguration().sanitizeTemplateContent(template), result);
+    }
+
+    private static String processTemplateOrError(String template, Map<String, Object> dynamicAttributesMap,
+                                                 ITemplatingEngine.TemplateMode templateMode) {
+        try {
+            return templatingEngine.processTemplate(template, dynamicAttributesMap, templateMode);
+        } catch (Exception e) {
+            return e.getClass().getName();
+        }
+    }
+
     @Getter
     @Setter
     @AllArgsConstructor
@@ -0,0 +1,169 @@
+package ai.labs.eddi.modules.templating.impl;
+
+import ai.labs.eddi.datastore.serialization.SerializationCustomizer;
+import ai.labs.eddi.modules.templating.ITemplatingEngine;
+import ai.labs.eddi.modules.templating.bootstrap.TemplateEngineModule;
+import ai.labs.eddi.modules.templating.security.SecureTemplateConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * @author ginccc
+ */
+public class SimpleTemplateTest {
+    private TemplateEngine textTemplateEngine;
+    private TemplatingEngine templatingEngine;
+
+    @BeforeEach
+    public void setUp() {
+        TemplateEngineModule engineModule = new TemplateEngineModule(null, null);
+        var objectMapper = new ObjectMapper();
+        new SerializationCustomizer(true).customize(objectMapper);
+        textTemplateEngine = engineModule.provideTextTemplateEngine(objectMapper).getTemplateEngine();
+        templatingEngine = new TemplatingEngine(
+                engineModule.provideTextTemplateEngine(objectMapper),
+                engineModule.provideHtmlTemplateEngine(objectMapper),
+                engineModule.provideJavaScriptTemplateEngine(objectMapper));
+    }
+
+    @Test
+    public void parse_onlySimpleVariableTemplatesAreRecognized() {
+        //assert
+        Assertions.assertNotNull(SimpleTemplate.parse("Hello [[${properties.name}]]!"));
+        Assertions.assertNotNull(SimpleTemplate.parse("[[${a}]][[${b.c}]] and $5 {x} * #1"));
+
+        Assertions.assertNull(SimpleTemplate.parse("no expression at all"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.name.toUpperCase()}]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[(${properties.name})]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.name}]] [# th:each=\"x : ${list}\"][[${x}]][/]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.name}]] ${other}"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${#strings.toUpperCase(name)}]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${list[0]}]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${ name }]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${map.size}]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[${param.x}]]"));
+        Assertions.assertNull(SimpleTemplate.parse("[[[${name}]]]"));
+    }
+
+    @Test
+    public void render_sameOutputAsTemplateEngine() {
+        //setup
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "John");
+        properties.put("markup", "<b>bold</b> & 'quoted' \"double\"");
+        properties.put("lines", "first\nsecond\ttabbed");
+        properties.put("expression", "[[${properties.name}]]");
+        properties.put("empty", "");
+        properties.put("count", 42);
+        properties.put("big", 12345678901L);
+        properties.put("short", (short) 7);
+        properties.put("byte", (byte) 1);
+        properties.put("flag", true);
+        properties.put("letter", 'x');
+        properties.put("nothing", null);
+        properties.put("nested", Map.of("deeper", Map.of("value", "found")));
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("properties", properties);
+        variables.put("userInfo", Map.of("userId", "user-1"));
+        variables.put("name", "Tom");
+        variables.put("unicode", "Grüße 😀");
+
+        List<String> templates = List.of(
+                "Hello [[${properties.name}]]!",
+                "[[${name}]]",
+                "[[${properties.markup}]]",
+                "[[${properties.lines}]]",
+                "[[${properties.expression}]]",
+                "a[[${properties.empty}]]b",
+                "[[${properties.count}]] / [[${properties.big}]] / [[${properties.short}]] / [[${properties.byte}]]",
+                "[[${properties.flag}]] [[${properties.letter}]]",
+                "missing: '[[${properties.missing}]]' '[[${properties.nothing}]]' '[[${unknown}]]'",
+                "[[${properties.nested.deeper.value}]]",
+                "[[${userInfo.userId}]] - [[${unicode}]]",
+                "line one\nline two [[${name}]]\r\n  indented",
+                "$5 {braces} * # @ ~ ([[${name}]])");
+
+        for (String template : templates) {
+            SimpleTemplate simpleTemplate = SimpleTemplate.parse(template);
+            Assertions.assertNotNull(simpleTemplate, template);
+
+            //test
+            String rendered = simpleTemplate.render(variables);
+
+            //assert
+            Assertions.assertNotNull(rendered, template);
+            Assertions.assertEquals(processWithTemplateEngine(template, variables), rendered, template);
+        }
+    }
+
+    @Test
+    public void render_valuesTheEngineMayRenderDifferentlyAreLeftToIt() {
+        //setup
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("properties", Map.of("list", List.of("a", "b"), "map", Map.of("k", "v"), "price", 1.5));
+        variables.put("bean", new TestBean("value"));
+        variables.put("text", "plain");
+
+        //test & assert
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.list}]]").render(variables));
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.map}]]").render(variables));
+        Assertions.assertNull(SimpleTemplate.parse("[[${properties.price}]]").render(variables));
+        Assertions.assertNull(SimpleTemplate.parse("[[${bean.value}]]").render(variables));
+        Assertions.assertNull(SimpleTemplate.parse("[[${text.length}]]").render(variables));
+        Assertions.assertNull(SimpleTemplate.parse("[[${unknown.value}]]").render(variables));
+    }
+
+    @Test
+    public void processTemplate_fastPathAndEngineAgree() throws Exception {
+        //setup
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("properties", Map.of("name", "John", "price", 1.5));
+        variables.put("bean", new TestBean("value"));
+        variables.put("systemInfo", "blocked by its name");
+        variables.put("payload", "T(java.lang.Runtime)");
+
+        List<String> templates = List.of(
+                "Hello [[${properties.name}]]",
+                "Costs [[${properties.price}]]",
+                "Bean [[${bean.value}]]",
+                "Blocked '[[${systemInfo}]]'",
+                "Sanitized '[[${payload}]]'");
+
+        for (String template : templates) {
+            //test
+            String processed = templatingEngine.processTemplate(template, variables);
+
+            //assert
+            Assertions.assertEquals(processWithTemplateEngine(template, variables), processed, template);
+        }
+
+        Assertions.assertEquals("Hello &lt;b&gt;John&lt;/b&gt;", templatingEngine.processTemplate("Hello [[${name}]]",
+                Map.of("name", "<b>John</b>"), ITemplatingEngine.TemplateMode.TEXT));
+        Assertions.assertEquals("Hello &lt;b&gt;John&lt;/b&gt;", templatingEngine.processTemplate("Hello [[${name}]]",
+                Map.of("name", "<b>John</b>"), ITemplatingEngine.TemplateMode.HTML));
+    }
+
+    private String processWithTemplateEngine(String template, Map<String, Object> variables) {
+        var sanitizedVariables = new SecureTemplateConfiguration().sanitizeTemplateVariables(variables);
+        Context context = new Context(Locale.ENGLISH);
+        sanitizedVariables.forEach(context::setVariable);
+        return textTemplateEngine.process(template, context);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TestBean {
+        private String value;
+    }
+}
@@ -0,0 +1,154 @@
+package ai.labs.eddi.modules.templating.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author ginccc
+ */
+public class SecureTemplateConfigurationTest {
+    private static final List<String> MALICIOUS_TEMPLATES = List.of(
+            "[[${T(java.lang.Runtime).getRuntime().exec('calc')}]]",
+            "[(${T(java.lang.System).getenv()})]",
+            "#{T(java.lang.Runtime).getRuntime().exec('id')}",
+            "[[${#ctx}]] and [[${#ctx.getVariable('x')}]]",
+            "[[${@java.lang.Runtime@getRuntime().exec('ls')}]]",
+            "text @java.lang.System@exit(0) more text",
+            "[[${''.getClass().forName('java.lang.Runtime')}]]",
+            "[[${obj.getClass().getClassLoader().defineClass(null)}]]",
+            "[[${new java.lang.ProcessBuilder('sh').start()}]]",
+            "[[${new java.io.File('/etc/passwd')}]]",
+            "[[${new java.net.URL('http://evil')}]] [[${new java.net.URLClassLoader(urls)}]]",
+            "[[${x.getMethod('exec').invoke(null)}]] [[${x.getDeclaredMethod('a')}]]",
+            "[[${x.getConstructor().newInstance()}]]",
+            "[[${java.security.AccessController}]] [[${javax.script.ScriptEngineManager}]]",
+            "[[${properties.getSystemProperty('user.home')}]]",
+            "<script>alert(1)</script> hello",
+            "<SCRIPT src='x'></SCRIPT>",
+            "<a href=\"javascript:alert(1)\">click</a>",
+            "<a href=\"VBScript:msgbox(1)\">click</a>",
+            "<img src=x onerror=alert(1) onload = alert(2)>",
+            "<div onclick=\"steal()\">[[${properties.name}]]</div>",
+            "freemarker.template.utility.Execute and org.springframework.context.ApplicationContext",
+            "java.lang.Thread java.lang.Process java.io.FileInputStream java.io.FileOutputStream",
+            "[[${T(  )}]] T(x) #{T(y)} T(unclosed",
+            "Hello [[${properties.username}]], how are you?",
+            "plain text without any expression",
+            "  ",
+            "");
+
+    @Test
+    public void sanitizeTemplateContent_sameResultAsUncompiledPatterns() {
+        //setup
+        SecureTemplateConfiguration secureTemplateConfiguration = new SecureTemplateConfiguration();
+
+        for (String template : MALICIOUS_TEMPLATES) {
+            //test
+            String sanitized = secureTemplateConfiguration.sanitizeTemplateContent(template);
+
+            //assert
+            Assertions.assertEquals(sanitizeWithUncompiledPatterns(template), sanitized, template);
+        }
+    }
+
+    @Test
+    public void sanitizeTemplateContent_dangerousPatternsAreReplaced() {
+        //setup
+        SecureTemplateConfiguration secureTemplateConfiguration = new SecureTemplateConfiguration();
+
+        //test
+        String typeExpression = secureTemplateConfiguration.sanitizeTemplateContent(
+                "[[${T(java.lang.Runtime).getRuntime().exec('calc')}]]");
+        String script = secureTemplateConfiguration.sanitizeTemplateContent("<script>alert(1)</script> hello");
+        String plain = secureTemplateConfiguration.sanitizeTemplateContent("Hello [[${properties.username}]]");
+
+        //assert
+        Assertions.assertEquals("[[${CONTENT NOT ALLOWED.CONTENT NOT ALLOWED.CONTENT NOT ALLOWED}]]", typeExpression);
+        Assertions.assertEquals("CONTENT NOT ALLOWED>alert(1)CONTENT NOT ALLOWED hello", script);
+        Assertions.assertEquals("Hello [[${properties.username}]]", plain);
+    }
+
+    /**
+     * The sanitization as it was implemented before its patterns were precompiled.
+     * Both sets list their elements in the same order as SecureTemplateConfiguration, so they iterate alike.
+     */
+    private static String sanitizeWithUncompiledPatterns(String template) {
+        if (template == null || template.trim().isEmpty()) {
+            return template;
+        }
+
+        Set<String> blacklistedClasses = Set.of(
+                "java.lang.Runtime",
+                "java.lang.Process",
+                "java.lang.ProcessBuilder",
+                "java.lang.System",
+                "java.lang.Class",
+                "java.lang.ClassLoader",
+                "java.lang.Thread",
+                "java.io.File",
+                "java.io.FileInputStream",
+                "java.io.FileOutputStream",
+                "java.net.URL",
+                "java.net.URLClassLoader",
+                "java.security.AccessController",
+                "javax.script.ScriptEngine",
+                "javax.script.ScriptEngineManager",
+                "org.springframework.context.ApplicationContext",
+                "freemarker.template.utility.Execute"
+        );
+        Set<String> blacklistedMethods = Set.of(
+                "getClass",
+                "getRuntime",
+                "exec",
+                "getMethod",
+                "getDeclaredMethod",
+                "getConstructor",
+                "newInstance",
+                "forName",
+                "getClassLoader",
+                "defineClass",
+                "getSystemProperty",
+                "getenv"
+        );
+
+        String sanitized = template;
+        if (sanitized.contains("T(") || sanitized.contains("#{T(") || sanitized.contains("#ctx")) {
+            sanitized = sanitized.replaceAll("T\\([^)]*\\)", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replaceAll("#\\{T\\([^}]*\\)\\}", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replace("#ctx", "CONTENT NOT ALLOWED");
+        }
+
+        if (sanitized.contains("@") && sanitized.contains("@java.")) {
+            sanitized = sanitized.replaceAll("@java\\.[^\\s]*", "CONTENT NOT ALLOWED");
+        }
+
+        for (String blacklistedClass : blacklistedClasses) {
+            if (sanitized.contains(blacklistedClass)) {
+                sanitized = sanitized.replace(blacklistedClass, "CONTENT NOT ALLOWED");
+            }
+        }
+
+        for (String blacklistedMethod : blacklistedMethods) {
+            if (sanitized.contains(blacklistedMethod + "(")) {
+                sanitized = sanitized.replaceAll(blacklistedMethod + "\\([^)]*\\)", "CONTENT NOT ALLOWED");
+            }
+        }
+
+        if (sanitized.toLowerCase().contains("<script") ||
+                sanitized.toLowerCase().contains("javascript:") ||
+                sanitized.toLowerCase().contains("vbscript:") ||
+                sanitized.toLowerCase().contains("onclick") ||
+                sanitized.toLowerCase().contains("onload")) {
+            sanitized = sanitized.replaceAll("(?i)<script", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replaceAll("(?i)</script>", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replaceAll("(?i)javascript:", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replaceAll("(?i)vbscript:", "CONTENT NOT ALLOWED");
+            sanitized = sanitized.replaceAll("(?i)on\\w+\\s*=", "CONTENT NOT ALLOWED");
+        }
+
+        return sanitized;
+    }
+}
@@ -0,0 +1,134 @@
+package ai.labs.eddi.utils;
+
+import ognl.OgnlException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author ginccc
+ */
+public class OgnlUtilitiesTest {
+
+    @Test
+    public void parseExpression_isParsedOnlyOnce() throws Exception {
+        //test
+        Object first = OgnlUtilities.parseExpression("properties.username");
+        Object second = OgnlUtilities.parseExpression("properties.username");
+
+        //assert
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void getValue_pathsIntoMapsAndLists() throws Exception {
+        //setup
+        Map<String, Object> root = createConversationValues("John", List.of("greet", "ask"));
+
+        //test
+        Object username = OgnlUtilities.getValue("properties.username", root);
+        Object firstAction = OgnlUtilities.getValue("memory.current.actions[0]", root);
+        Object actionsSize = OgnlUtilities.getValue("memory.current.actions.size()", root);
+        Object missingProperty = OgnlUtilities.getValue("properties.unknown", root);
+
+        //assert
+        Assertions.assertEquals("John", username);
+        Assertions.assertEquals("greet", firstAction);
+        Assertions.assertEquals(2, actionsSize);
+        Assertions.assertNull(missingProperty);
+    }
+
+    @Test
+    public void setValue_writesIntoMap() throws Exception {
+        //setup
+        Map<String, Object> root = createConversationValues("John", List.of());
+
+        //test
+        OgnlUtilities.setValue("properties.city", root, "Vienna");
+
+        //assert
+        Assertions.assertEquals("Vienna", OgnlUtilities.getValue("properties.city", root));
+    }
+
+    @Test
+    public void getValue_invalidExpressionIsRejected() {
+        //test & assert
+        Assertions.assertThrows(OgnlException.class, () -> OgnlUtilities.parseExpression("properties..username"));
+        Assertions.assertDoesNotThrow(() -> OgnlUtilities.preparseExpression("properties..username"));
+    }
+
+    @Test
+    public void getValue_classesAndStaticMembersAreNotAccessible() {
+        //setup
+        Map<String, Object> root = createConversationValues("John", List.of());
+
+        //test & assert
+        Assertions.assertThrows(OgnlException.class,
+                () -> OgnlUtilities.getValue("@java.lang.Runtime@getRuntime()", root));
+        Assertions.assertThrows(OgnlException.class,
+                () -> OgnlUtilities.getValue("new java.lang.ProcessBuilder({'ls'}).start()", root));
+        Assertions.assertThrows(OgnlException.class,
+                () -> OgnlUtilities.getValue("properties.getClass().getClassLoader()", root));
+        Assertions.assertThrows(OgnlException.class,
+                () -> OgnlUtilities.getValue("properties.username.getClass().forName('java.lang.Runtime')", root));
+    }
+
+    @Test
+    public void getValue_parsedExpressionIsEvaluatedConcurrently() throws Exception {
+        //setup
+        Object parsedExpression = OgnlUtilities.parseExpression("properties.username + ':' + memory.current.actions[1]");
+        int threads = 8;
+        int evaluationsPerThread = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Callable<Boolean>> evaluations = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            final int threadNumber = thread;
+            evaluations.add(() -> {
+                for (int i = 0; i < evaluationsPerThread; i++) {
+                    String username = "user" + threadNumber + "-" + i;
+                    var root = createConversationValues(username, List.of("greet", "action" + i));
+                    Object value = OgnlUtilities.getValueOfParsedExpression(parsedExpression, root);
+                    if (!(username + ":action" + i).equals(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        //test
+        List<Future<Boolean>> results;
+        try {
+            results = executorService.invokeAll(evaluations);
+        } finally {
+            executorService.shutdown();
+        }
+
+        //assert
+        for (Future<Boolean> result : results) {
+            Assertions.assertTrue(result.get());
+        }
+    }
+
+    private static Map<String, Object> createConversationValues(String username, List<String> actions) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("username", username);
+        Map<String, Object> current = new HashMap<>();
+        current.put("actions", actions);
+        Map<String, Object> memory = new HashMap<>();
+        memory.put("current", current);
+
+        Map<String, Object> conversationValues = new HashMap<>();
+        conversationValues.put("properties", properties);
+        conversationValues.put("memory", memory);
+        return conversationValues;
+    }
+}